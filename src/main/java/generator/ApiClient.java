@@ -0,0 +1,216 @@
+package generator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.ExponentialRandomBackOffPolicy;
+import org.springframework.retry.listener.RetryListenerSupport;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Calls the API over a pool of kept-alive connections, with timeouts on every call.
+ * <p>
+ * Calls that fail with an I/O error, a {@code 429} or a {@code 5xx} are retried after an
+ * exponential backoff with jitter, so that the photo threads don't all come back at the
+ * same moment. If too many calls fail in a row, the {@link CircuitBreaker} opens and the
+ * calls fail straight away, so a build that can't reach the API falls back to the cached
+ * photos quickly instead of waiting out every timeout.
+ * <p>
+ * With {@code podcast.generator.api.token} turned on, calls carry a bearer token from the
+ * {@code /token} endpoint, which is fetched again when the API answers {@code 401}.
+ */
+@Log4j2
+@Component
+class ApiClient implements DisposableBean {
+
+	private final SiteGeneratorProperties properties;
+
+	private final HttpComponentsClientHttpRequestFactory requestFactory;
+
+	private final RestTemplate restTemplate;
+
+	private final RetryTemplate retryTemplate;
+
+	private final CircuitBreaker circuitBreaker;
+
+	private final AtomicReference<String> token = new AtomicReference<>();
+
+	private final Counter failures, rejected, tokens;
+
+	ApiClient(SiteGeneratorProperties properties, MeterRegistry registry) {
+		var api = properties.getApi();
+		this.properties = properties;
+		var connections = new PoolingHttpClientConnectionManager();
+		connections.setMaxTotal(api.getConnections());
+		connections.setDefaultMaxPerRoute(api.getConnections());
+		this.requestFactory = new HttpComponentsClientHttpRequestFactory(
+				HttpClients.custom().setConnectionManager(connections).build());
+		this.requestFactory.setConnectTimeout((int) api.getConnectTimeout().toMillis());
+		this.requestFactory.setConnectionRequestTimeout((int) api.getConnectTimeout().toMillis());
+		this.requestFactory.setReadTimeout((int) api.getReadTimeout().toMillis());
+		// the basic credentials are only sent with calls that don't carry a token
+		this.restTemplate = new RestTemplateBuilder().requestFactory(() -> this.requestFactory)
+				.basicAuthentication(api.getUsername(), api.getPassword()).build();
+		this.retryTemplate = this.buildRetryTemplate(api);
+		this.circuitBreaker = new CircuitBreaker("the API at " + api.getUri(), api.getFailureThreshold(),
+				api.getOpenTimeout(), ApiClient::isUnavailable);
+		this.failures = registry.counter("podcast.generator.api.failures");
+		this.rejected = registry.counter("podcast.generator.api.rejected");
+		this.tokens = registry.counter("podcast.generator.api.tokens");
+		registry.gauge("podcast.generator.api.circuit.open", this.circuitBreaker,
+				circuitBreaker -> circuitBreaker.isOpen() ? 1 : 0);
+	}
+
+	/**
+	 * Makes a {@code GET} to the path, relative to the API's URI. Answers in the
+	 * {@code 4xx} and {@code 5xx} ranges end up as exceptions, as they do with any
+	 * {@link RestTemplate}.
+	 */
+	@SneakyThrows
+	<T> ResponseEntity<T> get(String path, HttpHeaders headers, Class<T> type) {
+		var uri = URI.create(this.properties.getApi().getUri() + path);
+		return this.retryTemplate.execute(context -> this.call(() -> this.exchange(uri, headers, type)));
+	}
+
+	/**
+	 * @return the {@code Authorization} header for calls that don't go through the
+	 * {@link RestTemplate}
+	 */
+	String authorization() {
+		var api = this.properties.getApi();
+		return api.isToken() ? "Bearer " + this.token()
+				: "Basic " + HttpHeaders.encodeBasicAuth(api.getUsername(), api.getPassword(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Throws away the token in the {@link #authorization() header} that the API turned
+	 * down, so that the next call fetches a new one.
+	 */
+	void invalidate(String authorization) {
+		this.token.compareAndSet(authorization.substring("Bearer ".length()), null);
+	}
+
+	private <T> ResponseEntity<T> call(Callable<ResponseEntity<T>> call) throws Exception {
+		try {
+			return this.circuitBreaker.call(call);
+		}
+		catch (CircuitBreaker.OpenException e) {
+			this.rejected.increment();
+			throw e;
+		}
+	}
+
+	private <T> ResponseEntity<T> exchange(URI uri, HttpHeaders headers, Class<T> type) {
+		if (!this.properties.getApi().isToken()) {
+			return this.restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), type);
+		}
+		var token = this.token();
+		try {
+			return this.restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(withToken(headers, token)), type);
+		}
+		catch (HttpClientErrorException.Unauthorized e) {
+			// the token has expired or been revoked, so it's worth one more go with a new
+			// one
+			log.info("the API turned down the token for " + uri + ". Fetching a new one.");
+			this.token.compareAndSet(token, null);
+			return this.restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(withToken(headers, this.token())),
+					type);
+		}
+	}
+
+	/**
+	 * @return the cached token, fetching one if there isn't one yet, once, however many
+	 * threads ask at the same time
+	 */
+	private String token() {
+		var token = this.token.get();
+		if (token != null) {
+			return token;
+		}
+		synchronized (this.token) {
+			token = this.token.get();
+			if (token == null) {
+				var tokenUri = URI.create(this.properties.getApi().getUri() + "/token");
+				var response = this.restTemplate.postForEntity(tokenUri, null, String.class);
+				token = response.getBody();
+				Assert.state(response.getStatusCode().is2xxSuccessful() && token != null,
+						() -> "the token request to " + tokenUri + " returned " + response.getStatusCode());
+				this.tokens.increment();
+				this.token.set(token.trim());
+			}
+			return this.token.get();
+		}
+	}
+
+	private static HttpHeaders withToken(HttpHeaders headers, String token) {
+		var authenticated = new HttpHeaders();
+		authenticated.putAll(headers);
+		authenticated.setBearerAuth(token);
+		return authenticated;
+	}
+
+	/**
+	 * @return whether the exception means the API couldn't answer, as opposed to
+	 * answering with an error
+	 */
+	private static boolean isUnavailable(Exception e) {
+		return e instanceof ResourceAccessException || e instanceof HttpServerErrorException
+				|| e instanceof HttpClientErrorException.TooManyRequests;
+	}
+
+	private RetryTemplate buildRetryTemplate(SiteGeneratorProperties.Api api) {
+		var backOffPolicy = new ExponentialRandomBackOffPolicy();
+		backOffPolicy.setInitialInterval(api.getBackoff().toMillis());
+		backOffPolicy.setMaxInterval(api.getMaxBackoff().toMillis());
+		backOffPolicy.setMultiplier(2);
+		var retryTemplate = new RetryTemplate();
+		retryTemplate.setBackOffPolicy(backOffPolicy);
+		retryTemplate.setRetryPolicy(new SimpleRetryPolicy(api.getAttempts(), Map.of(ResourceAccessException.class,
+				true, HttpServerErrorException.class, true, HttpClientErrorException.TooManyRequests.class, true)));
+		retryTemplate.registerListener(new RetryListenerSupport() {
+
+			@Override
+			public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+					Throwable throwable) {
+				if (throwable instanceof Exception && isUnavailable((Exception) throwable)) {
+					log.info("attempt " + context.getRetryCount() + " of " + api.getAttempts()
+							+ " at calling the API failed: " + throwable.getMessage());
+					ApiClient.this.failures.increment();
+				}
+			}
+
+		});
+		return retryTemplate;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		this.requestFactory.destroy();
+	}
+
+}
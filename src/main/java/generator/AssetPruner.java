@@ -0,0 +1,372 @@
+package generator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Works out which of the static assets the site actually uses, so that only those get
+ * published. Starting from every rendered page, it follows the links in the HTML, the
+ * {@code url()}s and {@code @import}s in the stylesheets, and the quoted paths in the
+ * scripts that name a file that exists. Assets that are only ever referenced at runtime
+ * can be kept with {@link SiteGeneratorProperties.Assets#getKeep() patterns}.
+ * <p>
+ * A path is looked up in the pages directory first, so the fingerprinted copies the
+ * {@link PageOptimizer} writes there are followed too, then in the static assets.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+class AssetPruner {
+
+	private static final Set<String> URL_ATTRIBUTES = Set.of("href", "src", "srcset", "poster", "content");
+
+	private static final Pattern SCRIPT_REFERENCE = Pattern
+			.compile("([\"'])([\\w@./-]+\\.[A-Za-z0-9]{1,5})(?:[?#][^\"'\\s]*)?\\1");
+
+	private static final Pattern SCHEME = Pattern.compile("^[a-zA-Z][\\w+.-]*:");
+
+	private final SiteGeneratorProperties properties;
+
+	private final Precompressor precompressor;
+
+	private final AntPathMatcher matcher = new AntPathMatcher();
+
+	/**
+	 * @param assets the static assets
+	 * @param pages the rendered pages, published at the root of the site
+	 * @param items the rendered episode pages, published under {@code items}
+	 */
+	ReachableAssets analyze(File assets, File pages, File items) {
+		var start = System.currentTimeMillis();
+		var site = new Site(assets, pages, items);
+		var roots = new ArrayList<String>();
+		site.files(pages, "").keySet().stream().filter(AssetPruner::isHtml).forEach(roots::add);
+		site.files(items, "items/").keySet().stream().filter(AssetPruner::isHtml).forEach(roots::add);
+		var found = ConcurrentHashMap.<String>newKeySet();
+		roots.parallelStream().forEach(root -> found.addAll(site.references(root)));
+		var staticAssets = site.files(assets, "");
+		staticAssets.keySet().stream().filter(this::isKept).forEach(found::add);
+
+		var reachable = new HashSet<String>(roots);
+		var queue = new ArrayDeque<String>(found);
+		while (!queue.isEmpty()) {
+			var path = queue.poll();
+			if (reachable.add(path)) {
+				queue.addAll(site.references(path));
+			}
+		}
+
+		var result = new ReachableAssets(reachable);
+		staticAssets.forEach((path, size) -> {
+			if (reachable.contains(path)) {
+				result.setPublished(result.getPublished() + 1);
+				result.setPublishedBytes(result.getPublishedBytes() + size);
+			}
+			else {
+				result.setUnreachable(result.getUnreachable() + 1);
+				result.setUnreachableBytes(result.getUnreachableBytes() + size);
+			}
+		});
+		log.info("followed the links from " + roots.size() + " pages in " + (System.currentTimeMillis() - start)
+				+ "ms: " + result.getPublished() + " of the " + staticAssets.size() + " static assets are reachable, "
+				+ result.getUnreachable() + " (" + result.getUnreachableBytes() + " bytes) aren't");
+		return result;
+	}
+
+	/**
+	 * Deletes the files from the target that came from the static assets but aren't
+	 * reachable anymore, along with their compressed copies and any directories that end
+	 * up empty.
+	 */
+	@SneakyThrows
+	AssetSyncResult prune(File assets, File target, ReachableAssets reachable) {
+		var result = new AssetSyncResult();
+		var root = target.toPath();
+		for (var entry : Objects.requireNonNull(assets.listFiles())) {
+			var published = root.resolve(entry.getName());
+			if (!Files.exists(published)) {
+				continue;
+			}
+			Files.walkFileTree(published, new SimpleFileVisitor<>() {
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					var path = relativePath(root, file);
+					if (!isReachable(path, file.toFile(), reachable)) {
+						Files.delete(file);
+						result.setDeleted(result.getDeleted() + 1);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+					try (var children = Files.list(dir)) {
+						if (children.findAny().isEmpty()) {
+							Files.delete(dir);
+						}
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+		}
+		log.info("deleted " + result.getDeleted() + " unreachable assets from " + target.getAbsolutePath());
+		return result;
+	}
+
+	private boolean isReachable(String path, File file, ReachableAssets reachable) {
+		if (reachable.contains(path)) {
+			return true;
+		}
+		var dot = path.lastIndexOf('.');
+		return dot > 0 && reachable.contains(path.substring(0, dot))
+				&& this.precompressor.isCompressedCopy(file, file.getParentFile());
+	}
+
+	private boolean isKept(String path) {
+		return this.properties.getAssets().getKeep().stream().anyMatch(pattern -> this.matcher.match(pattern, path));
+	}
+
+	/**
+	 * Finds the values of the attributes that can hold a URL. The pages are scanned by
+	 * hand rather than with a regular expression, which was an order of magnitude slower
+	 * across thousands of episode pages.
+	 */
+	private static void forEachUrlAttribute(String html, BiConsumer<String, String> action) {
+		for (var equals = html.indexOf('='); equals >= 0; equals = html.indexOf('=', equals + 1)) {
+			var nameEnd = skipWhitespaceBackwards(html, equals);
+			var nameStart = nameEnd;
+			while (nameStart > 0
+					&& (Character.isLetterOrDigit(html.charAt(nameStart - 1)) || html.charAt(nameStart - 1) == '-')) {
+				nameStart -= 1;
+			}
+			var name = html.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+			if (!URL_ATTRIBUTES.contains(name) && !name.startsWith("data-")) {
+				continue;
+			}
+			var start = skipWhitespace(html, equals + 1);
+			if (start < html.length() && (html.charAt(start) == '"' || html.charAt(start) == '\'')) {
+				var end = html.indexOf(html.charAt(start), start + 1);
+				if (end < 0) {
+					return;
+				}
+				action.accept(name, html.substring(start + 1, end));
+				equals = end;
+			}
+		}
+	}
+
+	/**
+	 * Finds the targets of every {@code url()} and {@code @import}, in a stylesheet or in
+	 * the styles inlined into a page.
+	 */
+	private static void forEachStylesheetUrl(String css, Consumer<String> action) {
+		for (var function : List.of("url(", "@import")) {
+			for (var index = css.indexOf(function); index >= 0; index = css.indexOf(function, index + 1)) {
+				var start = skipWhitespace(css, index + function.length());
+				if (start >= css.length()) {
+					return;
+				}
+				var quote = css.charAt(start);
+				var quoted = quote == '"' || quote == '\'';
+				if (!quoted && function.startsWith("@")) {
+					// an @import url(...), which the other pass finds
+					continue;
+				}
+				var end = quoted ? css.indexOf(quote, start + 1) : css.indexOf(')', start);
+				if (end >= 0) {
+					action.accept(css.substring(quoted ? start + 1 : start, end));
+				}
+			}
+		}
+	}
+
+	private static int skipWhitespace(String text, int index) {
+		while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+			index += 1;
+		}
+		return index;
+	}
+
+	private static int skipWhitespaceBackwards(String text, int index) {
+		while (index > 0 && Character.isWhitespace(text.charAt(index - 1))) {
+			index -= 1;
+		}
+		return index;
+	}
+
+	private static boolean isHtml(String path) {
+		return path.endsWith(".html") || path.endsWith(".htm");
+	}
+
+	private static String relativePath(Path root, Path file) {
+		return root.relativize(file).toString().replace(File.separatorChar, '/');
+	}
+
+	/**
+	 * Resolves a reference the way a browser would, relative to the directory of the file
+	 * it appears in.
+	 * @return the path relative to the site root, or {@code null} if the reference isn't
+	 * to a file on this site
+	 */
+	static String resolve(String directory, String reference) {
+		var url = reference.trim();
+		if (url.isEmpty() || url.startsWith("#") || url.startsWith("//") || url.contains("{{")
+				|| SCHEME.matcher(url).find()) {
+			return null;
+		}
+		var end = url.length();
+		for (var delimiter : new char[] { '?', '#' }) {
+			var index = url.indexOf(delimiter);
+			end = index < 0 ? end : Math.min(end, index);
+		}
+		var path = url.substring(0, end);
+		try {
+			path = UriUtils.decode(path, StandardCharsets.UTF_8);
+		}
+		catch (IllegalArgumentException e) {
+			// not valid percent-encoding, so take it as it is
+		}
+		path = StringUtils.cleanPath(path.startsWith("/") ? path.substring(1) : directory + path);
+		return path.isEmpty() || path.startsWith("../") || path.endsWith("/") ? null : path;
+	}
+
+	private static class Site {
+
+		private final File assets, pages, items;
+
+		private final Map<String, Optional<File>> located = new ConcurrentHashMap<>();
+
+		Site(File assets, File pages, File items) {
+			this.assets = assets;
+			this.pages = pages;
+			this.items = items;
+		}
+
+		/**
+		 * @return the size of every file under the directory, keyed by its path relative
+		 * to the site root
+		 */
+		@SneakyThrows
+		Map<String, Long> files(File directory, String prefix) {
+			var files = new LinkedHashMap<String, Long>();
+			if (!directory.isDirectory()) {
+				return files;
+			}
+			var root = directory.toPath();
+			Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+					return dir.getFileName().toString().equals(".git") ? FileVisitResult.SKIP_SUBTREE
+							: FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					files.put(prefix + relativePath(root, file), attrs.size());
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+			return files;
+		}
+
+		/**
+		 * @return the paths of the files on this site that the file links to
+		 */
+		@SneakyThrows
+		Set<String> references(String path) {
+			var file = this.locate(path);
+			var references = new HashSet<String>();
+			var extension = path.substring(path.lastIndexOf('.') + 1).toLowerCase();
+			if (file == null || !List.of("html", "htm", "css", "js").contains(extension)) {
+				return references;
+			}
+			// the references are all ASCII, and this charset can't fail on a malformed
+			// byte
+			var content = Files.readString(file.toPath(), StandardCharsets.ISO_8859_1);
+			var directory = path.substring(0, path.lastIndexOf('/') + 1);
+			if (extension.equals("js")) {
+				// a script's paths are relative to the page that runs it, but some
+				// libraries work them out from where the script itself lives
+				var matcher = SCRIPT_REFERENCE.matcher(content);
+				while (matcher.find()) {
+					this.add(references, resolve("", matcher.group(2)));
+					this.add(references, resolve(directory, matcher.group(2)));
+				}
+				return references;
+			}
+			if (!extension.equals("css")) {
+				forEachUrlAttribute(content, (name, value) -> {
+					var candidates = name.equals("srcset") ? value.split(",") : new String[] { value };
+					for (var candidate : candidates) {
+						this.add(references, resolve(directory, candidate.trim().split("\\s+")[0]));
+					}
+				});
+			}
+			forEachStylesheetUrl(content, url -> this.add(references, resolve(directory, url)));
+			return references;
+		}
+
+		private void add(Set<String> references, String path) {
+			if (path != null && this.locate(path) != null) {
+				references.add(path);
+			}
+		}
+
+		private File locate(String path) {
+			// every episode page links to the same handful of assets, so they're only
+			// looked up once
+			return this.located.computeIfAbsent(path, this::find).orElse(null);
+		}
+
+		private Optional<File> find(String path) {
+			return Optional.ofNullable(this.lookUp(path));
+		}
+
+		private File lookUp(String path) {
+			if (path.startsWith("items/")) {
+				var item = new File(this.items, path.substring("items/".length()));
+				return item.isFile() ? item : null;
+			}
+			var page = new File(this.pages, path);
+			if (page.isFile()) {
+				return page;
+			}
+			var asset = new File(this.assets, path);
+			return asset.isFile() ? asset : null;
+		}
+
+	}
+
+}
@@ -0,0 +1,21 @@
+package generator;
+
+import lombok.Data;
+
+@Data
+class AssetSyncResult {
+
+	private int written, linked, skipped, deleted;
+
+	private long bytesWritten;
+
+	AssetSyncResult add(AssetSyncResult other) {
+		this.written += other.written;
+		this.linked += other.linked;
+		this.skipped += other.skipped;
+		this.deleted += other.deleted;
+		this.bytesWritten += other.bytesWritten;
+		return this;
+	}
+
+}
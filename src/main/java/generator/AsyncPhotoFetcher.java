@@ -0,0 +1,147 @@
+package generator;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Revalidates the episode photos with the JDK's {@link HttpClient}, which multiplexes the
+ * requests over a shared HTTP/2 connection where the API offers one, without tying up a
+ * thread per request. A downloaded photo is streamed into a temporary file next to the
+ * cached copy and moved into place, so it's never held in memory.
+ * <p>
+ * Each request holds one of a fixed number of permits until it's done, and whoever is
+ * queueing up the requests waits for one, so that a catalog of thousands of episodes
+ * doesn't open thousands of streams at once.
+ */
+@Log4j2
+@Component
+class AsyncPhotoFetcher {
+
+	private static final DateTimeFormatter HTTP_DATES = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+	private final SiteGeneratorProperties properties;
+
+	private final ApiClient apiClient;
+
+	private final HttpClient httpClient;
+
+	private final Semaphore permits;
+
+	AsyncPhotoFetcher(SiteGeneratorProperties properties, ApiClient apiClient) {
+		this.properties = properties;
+		this.apiClient = apiClient;
+		this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+				.connectTimeout(properties.getApi().getConnectTimeout()).build();
+		this.permits = new Semaphore(properties.getPhotos().getPermits());
+	}
+
+	boolean isEnabled() {
+		return this.properties.getPhotos().getEngine() == SiteGeneratorProperties.Photos.Engine.ASYNC;
+	}
+
+	/**
+	 * Makes a conditional {@code GET} for the photo, writing it to the file if it's
+	 * changed. Waits for a permit first.
+	 * @return the metadata of the photo that was downloaded, or {@code null} if the
+	 * cached copy is still current
+	 */
+	CompletableFuture<EpisodePhotoCache.Metadata> fetch(String uid, EpisodePhotoCache.Metadata cached, File photo) {
+		this.permits.acquireUninterruptibly();
+		try {
+			var uri = URI.create(this.properties.getApi().getUri() + "/podcasts/" + uid + "/profile-photo");
+			var download = Files.createTempFile(photo.getParentFile().toPath(), uid, ".tmp");
+			var authorization = this.apiClient.authorization();
+			return this.send(uri, cached, download, authorization).thenCompose(response -> {
+				if (response.statusCode() != 401 || !this.properties.getApi().isToken()) {
+					return CompletableFuture.completedFuture(response);
+				}
+				log.info("the API turned down the token for " + uri + ". Fetching a new one.");
+				this.apiClient.invalidate(authorization);
+				return this.send(uri, cached, download, this.apiClient.authorization());
+			}).thenApply(response -> this.complete(uri, response, photo)).whenComplete((metadata, e) -> {
+				this.permits.release();
+				FileUtils.delete(download.toFile());
+			});
+		}
+		catch (Exception e) {
+			this.permits.release();
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * Sends the request, and sends it once more straight away if the connection it went
+	 * out on turns out to have been closed by the API while it sat idle in the pool.
+	 */
+	private CompletableFuture<HttpResponse<Path>> send(URI uri, EpisodePhotoCache.Metadata cached, Path download,
+			String authorization) {
+		return this.sendOnce(uri, cached, download, authorization).handle((response, e) -> {
+			if (e == null) {
+				return CompletableFuture.completedFuture(response);
+			}
+			var cause = e instanceof CompletionException ? e.getCause() : e;
+			if (cause instanceof IOException && !(cause instanceof HttpTimeoutException)
+					&& !(cause instanceof ConnectException)) {
+				log.info("the connection for " + uri + " was closed. Sending the request again.");
+				return this.sendOnce(uri, cached, download, authorization);
+			}
+			return CompletableFuture.<HttpResponse<Path>>failedFuture(cause);
+		}).thenCompose(Function.identity());
+	}
+
+	private CompletableFuture<HttpResponse<Path>> sendOnce(URI uri, EpisodePhotoCache.Metadata cached, Path download,
+			String authorization) {
+		var request = HttpRequest.newBuilder(uri).timeout(this.properties.getApi().getReadTimeout())
+				.header(HttpHeaders.AUTHORIZATION, authorization);
+		if (cached.getETag() != null) {
+			request.header(HttpHeaders.IF_NONE_MATCH, cached.getETag());
+		}
+		if (cached.getLastModified() > 0) {
+			request.header(HttpHeaders.IF_MODIFIED_SINCE,
+					HTTP_DATES.format(Instant.ofEpochMilli(cached.getLastModified())));
+		}
+		// only a photo is worth writing down, anything else is dropped as it arrives
+		return this.httpClient.sendAsync(request.build(), info -> info.statusCode() == 200
+				? HttpResponse.BodySubscribers.ofFile(download) : HttpResponse.BodySubscribers.replacing(download));
+	}
+
+	@SneakyThrows
+	private EpisodePhotoCache.Metadata complete(URI uri, HttpResponse<Path> response, File photo) {
+		if (response.statusCode() == 304) {
+			return null;
+		}
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("the photo request to " + uri + " returned " + response.statusCode());
+		}
+		Files.move(response.body(), photo.toPath(), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+		log.info("downloaded the image from " + uri);
+		var headers = response.headers();
+		var lastModified = headers.firstValue(HttpHeaders.LAST_MODIFIED)
+				.map(value -> ZonedDateTime.parse(value, HTTP_DATES).toInstant().toEpochMilli()).orElse(-1L);
+		return new EpisodePhotoCache.Metadata(headers.firstValue(HttpHeaders.ETAG).orElse(null), lastModified);
+	}
+
+}
@@ -0,0 +1,20 @@
+package generator;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pools with bounded work queues. Once a pool's queue is full, the thread
+ * submitting more work runs it itself, which holds the producer to the pace of the pool
+ * instead of letting the backlog grow without limit.
+ */
+abstract class BoundedExecutors {
+
+	static ExecutorService newFixedThreadPool(int threads, int capacity) {
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+}
@@ -0,0 +1,47 @@
+package generator;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records, for every episode published by the last build, a hash of its database row
+ * (including its {@link Link links} and {@link Media}) and a hash of its rendered
+ * description. The next build compares against it to work out what actually changed.
+ * <p>
+ * It also records the {@link BuildManifestStore#fingerprint() fingerprint} of the build,
+ * and a build with a different one can't trust any of the hashes, since the same episodes
+ * would come out differently.
+ */
+@Data
+@NoArgsConstructor
+class BuildManifest {
+
+	private String fingerprint;
+
+	private Map<String, Episode> episodes = new HashMap<>();
+
+	static Episode episodeFor(Podcast podcast, String renderedDescription) {
+		return new Episode(Hashes.sha256(podcast.toString()), Hashes.sha256(renderedDescription));
+	}
+
+	/**
+	 * @return whether the episode is new, or differs from the one in this manifest
+	 */
+	boolean isChanged(String uid, Episode episode) {
+		return !episode.equals(this.episodes.get(uid));
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	static class Episode {
+
+		private String podcastHash, renderedHash;
+
+	}
+
+}
@@ -0,0 +1,80 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Persists the {@link BuildManifest} in the cache directory, which survives between
+ * builds and restarts because nothing ever wipes it.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+class BuildManifestStore {
+
+	private final SiteGeneratorProperties properties;
+
+	private final ObjectMapper objectMapper;
+
+	BuildManifest read() {
+		var file = this.manifestFile();
+		if (file.exists()) {
+			try {
+				return this.objectMapper.readValue(file, BuildManifest.class);
+			}
+			catch (Exception e) {
+				log.warn("couldn't read the build manifest " + file.getAbsolutePath() + ". Starting from scratch.", e);
+			}
+		}
+		return new BuildManifest();
+	}
+
+	@SneakyThrows
+	void write(BuildManifest manifest) {
+		var file = this.manifestFile();
+		FileUtils.write(file, this.objectMapper.writeValueAsBytes(manifest));
+		log.info("wrote the build manifest to " + file.getAbsolutePath());
+	}
+
+	/**
+	 * @return a hash of everything besides the episodes that goes into the pages: the
+	 * templates, the version of the generator and the properties that change what it
+	 * writes
+	 */
+	@SneakyThrows
+	String fingerprint() {
+		var build = new StringBuilder();
+		build.append(Objects.toString(BuildManifest.class.getPackage().getImplementationVersion(), "development"))
+				.append('\n');
+		var templates = this.properties.getTemplates();
+		var resources = Stream
+				.of(templates.getEpisodeTemplate(), templates.getEpisodePageTemplate(),
+						templates.getPageChromeTemplate(), templates.getYearTemplate())
+				.filter(Objects::nonNull).iterator();
+		while (resources.hasNext()) {
+			var template = resources.next();
+			try (var in = template.getInputStream()) {
+				build.append(template).append(' ').append(Hashes.sha256(StreamUtils.copyToByteArray(in))).append('\n');
+			}
+		}
+		var photos = this.properties.getPhotos();
+		build.append(this.properties.getApi().getUri()).append('\n').append(this.properties.getAssets()).append('\n')
+				.append(this.properties.getJson()).append('\n').append(this.properties.getFeeds()).append('\n')
+				.append(photos.isDerivatives()).append(' ').append(photos.getThumbnailWidth()).append(' ')
+				.append(photos.getWidth()).append(' ').append(photos.getQuality()).append('\n');
+		return Hashes.sha256(build.toString());
+	}
+
+	private File manifestFile() {
+		return new File(FileUtils.ensureDirectoryExists(this.properties.getOutput().getCache()), "build-manifest.json");
+	}
+
+}
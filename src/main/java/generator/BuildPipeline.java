@@ -0,0 +1,258 @@
+package generator;
+
+import lombok.Data;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Builds the episodes as they stream out of the database, rather than one step at a time
+ * over the whole catalog. Each row is handed to a pool that renders its description and
+ * works out whether it changed, and that in turn hands the episode to the
+ * {@link EpisodePageRenderer} and the {@link EpisodePhotoCache}. Every pool has a bounded
+ * queue, so when a stage falls behind, the stages feeding it slow down too, all the way
+ * back to the database cursor. A build then takes about as long as its slowest stage
+ * rather than the sum of them all.
+ * <p>
+ * Only the index and the JSON need the whole catalog, so they're left to the caller once
+ * everything has drained through. What the pipeline keeps of each episode for them is
+ * just what they show: the descriptions are read back from the {@link MarkdownCache} when
+ * they're written out, as long as it keeps them on disk. The futures of the work that's
+ * been queued up are drained as they complete, and the first one that fails cancels the
+ * rest of the build.
+ */
+@Log4j2
+@Component
+class BuildPipeline implements DisposableBean {
+
+	private final PodcastRepository podcastRepository;
+
+	private final MarkdownCache markdownCache;
+
+	private final EpisodePageRenderer episodePageRenderer;
+
+	private final EpisodePhotoCache episodePhotoCache;
+
+	private final PhotoDerivatives photoDerivatives;
+
+	private final SiteGeneratorProperties properties;
+
+	private final ExecutorService executor;
+
+	BuildPipeline(PodcastRepository podcastRepository, MarkdownCache markdownCache,
+			EpisodePageRenderer episodePageRenderer, EpisodePhotoCache episodePhotoCache,
+			PhotoDerivatives photoDerivatives, SiteGeneratorProperties properties) {
+		this.podcastRepository = podcastRepository;
+		this.markdownCache = markdownCache;
+		this.episodePageRenderer = episodePageRenderer;
+		this.episodePhotoCache = episodePhotoCache;
+		this.photoDerivatives = photoDerivatives;
+		this.properties = properties;
+		this.executor = BoundedExecutors.newFixedThreadPool(properties.getItems().getConcurrency(),
+				properties.getPipeline().getCapacity());
+	}
+
+	/**
+	 * Loads, renders and diffs every episode, writing its page and fetching its photo as
+	 * it goes, and returns once all of that is done.
+	 * @param previousManifest the manifest of the last build, to diff against
+	 * @param renderAllPages whether to write the page of every episode, and not just the
+	 * ones that changed
+	 * @param stage where to report how many episodes went through and how many of their
+	 * photos couldn't be fetched
+	 */
+	@SneakyThrows
+	Result run(BuildManifest previousManifest, boolean renderAllPages, File items, File photos, StageReport stage) {
+		var start = System.currentTimeMillis();
+		FileUtils.ensureDirectoryExists(items);
+		FileUtils.ensureDirectoryExists(photos);
+		var index = new CatalogIndex();
+		var episodes = new ConcurrentHashMap<String, BuildManifest.Episode>();
+		var changed = ConcurrentHashMap.<String>newKeySet();
+		var capacity = this.properties.getPipeline().getCapacity();
+		var rendered = new AtomicInteger();
+		var written = new AtomicInteger();
+		var fetched = new AtomicInteger();
+		var failures = new AtomicInteger();
+		var tasks = new Drain<>(capacity, task -> {
+		});
+		var pages = new Drain<Boolean>(capacity, page -> {
+			rendered.incrementAndGet();
+			written.addAndGet(page ? 1 : 0);
+		});
+		var photoFutures = new Drain<Boolean>(capacity, photo -> {
+			fetched.incrementAndGet();
+			failures.addAndGet(photo ? 0 : 1);
+		});
+		try {
+			this.podcastRepository.streamPodcasts(podcast -> tasks.add(this.executor.submit(() -> {
+				if (tasks.isCancelled()) {
+					return null;
+				}
+				var uid = podcast.getUid();
+				var html = this.markdownCache.render(podcast.getDescription());
+				var episode = BuildManifest.episodeFor(podcast, html);
+				var isChanged = previousManifest.isChanged(uid, episode);
+				var photo = this.photoDerivatives.photoFor(uid);
+				var dateAndTime = DateUtils.date(podcast.getDate());
+				var record = new PodcastRecord(podcast, photo, dateAndTime, html);
+				index.add(this.properties.getMarkdown().isDiskCache()
+						? new IndexedRecord(summaryOf(podcast), photo, dateAndTime,
+								this.markdownCache.hash(podcast.getDescription()), this.markdownCache)
+						: new PodcastRecord(summaryOf(podcast), photo, dateAndTime, html));
+				episodes.put(uid, episode);
+				if (isChanged) {
+					changed.add(uid);
+				}
+				var page = this.episodePageRenderer.submit(record, isChanged || renderAllPages, items);
+				if (page != null) {
+					pages.add(page);
+				}
+				photoFutures.add(this.episodePhotoCache.submit(uid, photos));
+				return null;
+			})));
+			tasks.finish();
+			pages.finish();
+			photoFutures.finish();
+		}
+		catch (Exception e) {
+			log.warn("the pipeline failed after " + index.size() + " episodes. Cancelling the rest of it.");
+			Stream.of(tasks, pages, photoFutures).forEach(Drain::cancel);
+			throw e;
+		}
+		this.episodePageRenderer.prune(episodes.keySet(), items);
+		var manifest = new BuildManifest();
+		manifest.setEpisodes(new HashMap<>(episodes));
+		stage.setItems(index.size());
+		stage.setErrors(failures.get());
+		log.info("pipelined " + index.size() + " episodes in " + (System.currentTimeMillis() - start) + "ms, rendering "
+				+ rendered + " pages (" + written + " of them changed) and fetching " + fetched + " photos (" + failures
+				+ " of them failed)");
+		return new Result(index, manifest, new HashSet<>(changed));
+	}
+
+	/**
+	 * @return a copy of the podcast with just what the index, the JSON and the feeds show
+	 */
+	private static Podcast summaryOf(Podcast podcast) {
+		return new Podcast(podcast.getId(), podcast.getDate(), null, null, podcast.getPodbeanPhotoUri(), null,
+				podcast.getTitle(), null, podcast.getUid(), null, null, null, null, List.of(), List.of());
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	@Data
+	static class Result {
+
+		private final CatalogIndex index;
+
+		private final BuildManifest manifest;
+
+		private final Set<String> changed;
+
+	}
+
+	/**
+	 * A {@link PodcastRecord} that reads its description back from the
+	 * {@link MarkdownCache} whenever it's asked for it, instead of holding on to it.
+	 */
+	static class IndexedRecord extends PodcastRecord {
+
+		private final String hash;
+
+		private final MarkdownCache markdownCache;
+
+		IndexedRecord(Podcast podcast, EpisodePhoto photo, String dateAndTime, String hash,
+				MarkdownCache markdownCache) {
+			super(podcast, photo, dateAndTime, null);
+			this.hash = hash;
+			this.markdownCache = markdownCache;
+		}
+
+		@Override
+		public String getHtmlDescription() {
+			return this.markdownCache.cached(this.hash);
+		}
+
+	}
+
+	/**
+	 * Holds on to futures only until they complete, and to no more than a fixed number of
+	 * them: adding one drains the ones at the head of the queue that are done and, if
+	 * there are still too many, waits for the oldest. The first one to fail throws its
+	 * exception out of whichever call drained it.
+	 */
+	private static class Drain<T> {
+
+		private final Queue<Future<T>> futures = new ArrayDeque<>();
+
+		private final int limit;
+
+		private final Consumer<T> consumer;
+
+		private volatile boolean cancelled;
+
+		Drain(int limit, Consumer<T> consumer) {
+			this.limit = limit;
+			this.consumer = consumer;
+		}
+
+		synchronized void add(Future<T> future) {
+			if (this.cancelled) {
+				future.cancel(true);
+				return;
+			}
+			this.futures.add(future);
+			while (!this.futures.isEmpty() && (this.futures.peek().isDone() || this.futures.size() > this.limit)) {
+				this.take();
+			}
+		}
+
+		synchronized void finish() {
+			while (!this.futures.isEmpty()) {
+				this.take();
+			}
+		}
+
+		synchronized void cancel() {
+			this.cancelled = true;
+			this.futures.forEach(future -> future.cancel(true));
+			this.futures.clear();
+		}
+
+		boolean isCancelled() {
+			return this.cancelled;
+		}
+
+		@SneakyThrows
+		private void take() {
+			try {
+				this.consumer.accept(this.futures.poll().get());
+			}
+			catch (ExecutionException e) {
+				throw e.getCause();
+			}
+		}
+
+	}
+
+}
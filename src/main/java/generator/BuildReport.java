@@ -0,0 +1,29 @@
+package generator;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@RequiredArgsConstructor
+class BuildReport {
+
+	private final BuildRequest request;
+
+	private final Instant started;
+
+	private final List<StageReport> stages = new ArrayList<>();
+
+	private long durationMillis;
+
+	/**
+	 * {@code published}, {@code unchanged} or {@code failed}.
+	 */
+	private String outcome;
+
+	private String error;
+
+}
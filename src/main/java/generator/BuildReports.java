@@ -0,0 +1,80 @@
+package generator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Times the stages of each build, records them as Micrometer meters tagged with the stage
+ * name, and keeps the reports of the most recent builds for the {@link BuildsEndpoint}.
+ */
+@Log4j2
+@Component
+class BuildReports {
+
+	private final MeterRegistry registry;
+
+	private final int history;
+
+	private final Deque<BuildReport> reports = new ConcurrentLinkedDeque<>();
+
+	BuildReports(MeterRegistry registry, SiteGeneratorProperties properties) {
+		this.registry = registry;
+		this.history = properties.getReports().getHistory();
+	}
+
+	BuildReport start(BuildRequest request) {
+		return new BuildReport(request, Instant.now());
+	}
+
+	<T> T stage(BuildReport report, String name, Stage<T> stage) throws Exception {
+		var stageReport = new StageReport(name);
+		report.getStages().add(stageReport);
+		var start = System.nanoTime();
+		try {
+			return stage.run(stageReport);
+		}
+		catch (Exception e) {
+			stageReport.setErrors(stageReport.getErrors() + 1);
+			throw e;
+		}
+		finally {
+			var duration = Duration.ofNanos(System.nanoTime() - start);
+			stageReport.setDurationMillis(duration.toMillis());
+			this.registry.timer("podcast.generator.build.stage", "stage", name).record(duration);
+			this.registry.counter("podcast.generator.build.stage.items", "stage", name)
+					.increment(stageReport.getItems());
+			this.registry.counter("podcast.generator.build.stage.bytes", "stage", name)
+					.increment(stageReport.getBytes());
+			this.registry.counter("podcast.generator.build.stage.errors", "stage", name)
+					.increment(stageReport.getErrors());
+			log.info("stage " + name + " took " + stageReport.getDurationMillis() + "ms: " + stageReport);
+		}
+	}
+
+	void finish(BuildReport report) {
+		report.setDurationMillis(Duration.between(report.getStarted(), Instant.now()).toMillis());
+		this.reports.addFirst(report);
+		while (this.reports.size() > this.history) {
+			this.reports.pollLast();
+		}
+	}
+
+	List<BuildReport> getReports() {
+		return new ArrayList<>(this.reports);
+	}
+
+	interface Stage<T> {
+
+		T run(StageReport stage) throws Exception;
+
+	}
+
+}
@@ -0,0 +1,66 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * What a build has been asked to regenerate: either everything or just the episodes with
+ * the given UIDs. A launch request's payload may be {@code all} (or empty), a JSON array
+ * of UIDs, or a JSON object with a {@code uids} array. Anything else means everything.
+ */
+@Log4j2
+@Data
+@RequiredArgsConstructor
+class BuildRequest {
+
+	private static final BuildRequest EVERYTHING = new BuildRequest(Collections.emptySet());
+
+	/**
+	 * The UIDs to regenerate, or an empty set for everything.
+	 */
+	private final Set<String> uids;
+
+	static BuildRequest everything() {
+		return EVERYTHING;
+	}
+
+	static BuildRequest parse(String payload, ObjectMapper objectMapper) {
+		if (!StringUtils.hasText(payload) || payload.trim().equalsIgnoreCase("all")) {
+			return everything();
+		}
+		try {
+			var json = objectMapper.readTree(payload);
+			var array = json.isObject() ? json.path("uids") : json;
+			var uids = new HashSet<String>();
+			array.forEach(uid -> uids.add(uid.asText()));
+			if (array.isArray() && !uids.isEmpty()) {
+				return new BuildRequest(Collections.unmodifiableSet(uids));
+			}
+		}
+		catch (Exception e) {
+			log.warn("couldn't read the build request '" + payload + "'. Rebuilding everything.", e);
+		}
+		return everything();
+	}
+
+	boolean isEverything() {
+		return this.uids.isEmpty();
+	}
+
+	BuildRequest merge(BuildRequest other) {
+		if (this.isEverything() || other.isEverything()) {
+			return everything();
+		}
+		var merged = new HashSet<>(this.uids);
+		merged.addAll(other.uids);
+		return new BuildRequest(Collections.unmodifiableSet(merged));
+	}
+
+}
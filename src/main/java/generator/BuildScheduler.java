@@ -0,0 +1,103 @@
+package generator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the {@link GeneratorJob} on behalf of everything that asks for a build. Builds run
+ * one at a time on a single thread. A request waits for the debounce window
+ * ({@link SiteGeneratorProperties.Launcher#getDebounce()}) before its build starts, and
+ * every request that arrives before that build starts is folded into it, so a burst of
+ * requests costs one build rather than one each. Folding two {@link BuildRequest
+ * requests} together regenerates the episodes of both.
+ */
+@Log4j2
+@Component
+class BuildScheduler implements DisposableBean {
+
+	private final GeneratorJob generatorJob;
+
+	private final Duration debounce;
+
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+	private final Object monitor = new Object();
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final Counter coalesced;
+
+	private final Timer builds;
+
+	private BuildRequest next;
+
+	BuildScheduler(GeneratorJob generatorJob, SiteGeneratorProperties properties, MeterRegistry registry) {
+		this.generatorJob = generatorJob;
+		this.debounce = properties.getLauncher().getDebounce();
+		registry.gauge("podcast.generator.builds.pending", this.pending);
+		this.coalesced = registry.counter("podcast.generator.builds.coalesced");
+		this.builds = registry.timer("podcast.generator.builds");
+	}
+
+	void request(BuildRequest request) {
+		synchronized (this.monitor) {
+			this.pending.incrementAndGet();
+			if (this.next != null) {
+				this.next = this.next.merge(request);
+				this.coalesced.increment();
+				log.info("a build is already scheduled; folding this request into it");
+				return;
+			}
+			this.next = request;
+			this.executor.schedule(this::build, this.debounce.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Rolls the output back to the previous generation on the thread that runs the
+	 * builds, once whatever build is running has finished, so that the two never overlap.
+	 * @return the id of the generation that's now current
+	 */
+	String rollback() throws Exception {
+		try {
+			return this.executor.submit(this.generatorJob::rollback).get();
+		}
+		catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+
+	private void build() {
+		int requests;
+		BuildRequest request;
+		synchronized (this.monitor) {
+			request = this.next;
+			this.next = null;
+			requests = this.pending.getAndSet(0);
+		}
+		log.info("starting a build for " + requests + " request(s): " + request);
+		try {
+			this.builds.record(() -> this.generatorJob.build(request));
+		}
+		catch (Throwable throwable) {
+			log.error("the build failed", throwable);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+}
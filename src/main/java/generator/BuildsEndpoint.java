@@ -0,0 +1,25 @@
+package generator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Serves the reports of the most recent builds at {@code /actuator/builds}, newest first.
+ */
+@Component
+@Endpoint(id = "builds")
+@RequiredArgsConstructor
+class BuildsEndpoint {
+
+	private final BuildReports buildReports;
+
+	@ReadOperation
+	public List<BuildReport> builds() {
+		return this.buildReports.getReports();
+	}
+
+}
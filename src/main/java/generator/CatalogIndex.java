@@ -0,0 +1,155 @@
+package generator;
+
+import org.springframework.util.Assert;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Groups the episodes by year, and tracks the newest ones and the latest year, as they're
+ * added. The buckets live in a list indexed by how many years they are after the earliest
+ * year seen, and each one is sorted at most once, when it's first read after a change.
+ * Episodes published at the same moment are ordered by their UID, so the order doesn't
+ * depend on the order they were added in.
+ */
+class CatalogIndex {
+
+	private static final Comparator<PodcastRecord> NEWEST_FIRST = Comparator
+			.comparingLong((PodcastRecord record) -> record.getPodcast().getDate().getTime()).reversed()
+			.thenComparing(record -> record.getPodcast().getUid(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+	private final ZoneId zone;
+
+	private final List<List<PodcastRecord>> buckets = new ArrayList<>();
+
+	private final BitSet unsorted = new BitSet();
+
+	private final PodcastRecord[] newest;
+
+	private int newestCount, firstYear, maxYear, size;
+
+	/**
+	 * Tracks the three newest episodes, which is what the index page features.
+	 */
+	CatalogIndex() {
+		this(3, ZoneId.systemDefault());
+	}
+
+	/**
+	 * @param newest how many of the newest episodes to keep track of
+	 */
+	CatalogIndex(int newest, ZoneId zone) {
+		this.newest = new PodcastRecord[newest];
+		this.zone = zone;
+	}
+
+	synchronized void add(PodcastRecord record) {
+		var year = DateUtils.getYearFor(record.getPodcast().getDate(), this.zone);
+		if (this.size == 0) {
+			this.firstYear = year;
+			this.maxYear = year;
+		}
+		if (year < this.firstYear) {
+			this.buckets.addAll(0, Collections.nCopies(this.firstYear - year, null));
+			var shifted = new BitSet();
+			this.unsorted.stream().forEach(index -> shifted.set(index + this.firstYear - year));
+			this.unsorted.clear();
+			this.unsorted.or(shifted);
+			this.firstYear = year;
+		}
+		var index = year - this.firstYear;
+		while (this.buckets.size() <= index) {
+			this.buckets.add(null);
+		}
+		var bucket = this.buckets.get(index);
+		if (bucket == null) {
+			bucket = new ArrayList<>();
+			this.buckets.set(index, bucket);
+		}
+		bucket.add(record);
+		this.unsorted.set(index);
+		this.maxYear = Math.max(this.maxYear, year);
+		this.size += 1;
+		this.offerNewest(record);
+	}
+
+	synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the year of the newest episode, or the current year if there aren't any
+	 */
+	synchronized int getMaxYear() {
+		return this.size == 0 ? DateUtils.getYearFor(new Date(), this.zone) : this.maxYear;
+	}
+
+	/**
+	 * @return up to {@code count} of the newest episodes, newest first
+	 */
+	synchronized List<PodcastRecord> newest(int count) {
+		Assert.isTrue(count <= this.newest.length,
+				() -> "only the newest " + this.newest.length + " episodes are tracked, not " + count);
+		return new ArrayList<>(Arrays.asList(this.newest).subList(0, Math.min(count, this.newestCount)));
+	}
+
+	/**
+	 * @return a rollup for each year with any episodes, newest year first, with the
+	 * latest year marked active
+	 */
+	synchronized List<YearRollup> years() {
+		var years = new ArrayList<YearRollup>();
+		for (var index = this.buckets.size() - 1; index >= 0; index--) {
+			var bucket = this.bucket(index);
+			if (bucket != null) {
+				var year = this.firstYear + index;
+				years.add(new YearRollup(year, bucket, year == this.maxYear ? "active" : ""));
+			}
+		}
+		return years;
+	}
+
+	/**
+	 * @return every episode, newest first
+	 */
+	synchronized List<PodcastRecord> newestFirst() {
+		var all = new ArrayList<PodcastRecord>(this.size);
+		for (var index = this.buckets.size() - 1; index >= 0; index--) {
+			var bucket = this.bucket(index);
+			if (bucket != null) {
+				all.addAll(bucket);
+			}
+		}
+		return all;
+	}
+
+	private List<PodcastRecord> bucket(int index) {
+		var bucket = this.buckets.get(index);
+		if (bucket != null && this.unsorted.get(index)) {
+			bucket.sort(NEWEST_FIRST);
+			this.unsorted.clear(index);
+		}
+		return bucket;
+	}
+
+	private void offerNewest(PodcastRecord record) {
+		var position = this.newestCount;
+		while (position > 0 && NEWEST_FIRST.compare(record, this.newest[position - 1]) < 0) {
+			position -= 1;
+		}
+		if (position >= this.newest.length) {
+			return;
+		}
+		var last = Math.min(this.newestCount, this.newest.length - 1);
+		System.arraycopy(this.newest, position, this.newest, position + 1, last - position);
+		this.newest[position] = record;
+		this.newestCount = Math.min(this.newestCount + 1, this.newest.length);
+	}
+
+}
@@ -0,0 +1,122 @@
+package generator;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Fails calls straight away once too many in a row have failed, rather than letting each
+ * of them wait out its own timeout. Once the circuit's been open for a while, a single
+ * call is let through, and the circuit closes again if that one gets an answer.
+ */
+@Log4j2
+class CircuitBreaker {
+
+	private final String name;
+
+	private final int threshold;
+
+	private final Duration openTimeout;
+
+	private final Predicate<Exception> failure;
+
+	private final LongSupplier nanoTime;
+
+	private int failures;
+
+	private boolean open;
+
+	/**
+	 * When the circuit was last opened, by {@link System#nanoTime()}, which is only ever
+	 * compared to later readings of it, since it can be negative.
+	 */
+	private long openedAt;
+
+	private boolean trial;
+
+	/**
+	 * @param failure which exceptions count as failures, rather than as answers that just
+	 * happen to be errors
+	 */
+	CircuitBreaker(String name, int threshold, Duration openTimeout, Predicate<Exception> failure) {
+		this(name, threshold, openTimeout, failure, System::nanoTime);
+	}
+
+	CircuitBreaker(String name, int threshold, Duration openTimeout, Predicate<Exception> failure,
+			LongSupplier nanoTime) {
+		this.name = name;
+		this.threshold = threshold;
+		this.openTimeout = openTimeout;
+		this.failure = failure;
+		this.nanoTime = nanoTime;
+	}
+
+	<T> T call(Callable<T> call) throws Exception {
+		this.acquire();
+		try {
+			var result = call.call();
+			this.succeeded();
+			return result;
+		}
+		catch (Exception e) {
+			if (this.failure.test(e)) {
+				this.failed();
+			}
+			else {
+				this.succeeded();
+			}
+			throw e;
+		}
+	}
+
+	synchronized boolean isOpen() {
+		return this.open;
+	}
+
+	private synchronized void acquire() {
+		if (!this.open) {
+			return;
+		}
+		if (this.trial || this.nanoTime.getAsLong() - this.openedAt < this.openTimeout.toNanos()) {
+			throw new OpenException(
+					"the circuit for " + this.name + " is open after " + this.failures + " failures in a row");
+		}
+		this.trial = true;
+	}
+
+	private synchronized void succeeded() {
+		if (this.open) {
+			log.info("the circuit for " + this.name + " is closed again");
+		}
+		this.failures = 0;
+		this.open = false;
+		this.trial = false;
+	}
+
+	private synchronized void failed() {
+		this.failures += 1;
+		if (this.trial || this.failures >= this.threshold) {
+			if (!this.open || this.trial) {
+				log.warn("opening the circuit for " + this.name + " for " + this.openTimeout + " after " + this.failures
+						+ " failures in a row");
+			}
+			this.open = true;
+			this.openedAt = this.nanoTime.getAsLong();
+		}
+		this.trial = false;
+	}
+
+	static class OpenException extends IllegalStateException {
+
+		private static final long serialVersionUID = 1L;
+
+		OpenException(String message) {
+			super(message);
+		}
+
+	}
+
+}
@@ -0,0 +1,24 @@
+package generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A format for the precompressed copies that the {@link Precompressor} writes next to the
+ * published files. Any {@code Codec} bean can be turned on by its name in
+ * {@code podcast.generator.compression.codecs}, so another format, like Brotli, only
+ * needs a bean that wraps its encoder.
+ */
+interface Codec {
+
+	String getName();
+
+	/**
+	 * @return the extension of the compressed copies, without the dot
+	 */
+	String getExtension();
+
+	void compress(InputStream in, OutputStream out) throws IOException;
+
+}
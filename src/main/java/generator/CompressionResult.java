@@ -0,0 +1,29 @@
+package generator;
+
+import lombok.Data;
+
+@Data
+class CompressionResult {
+
+	private int compressed, skipped, deleted;
+
+	private long originalBytes, compressedBytes;
+
+	CompressionResult add(CompressionResult other) {
+		this.compressed += other.compressed;
+		this.skipped += other.skipped;
+		this.deleted += other.deleted;
+		this.originalBytes += other.originalBytes;
+		this.compressedBytes += other.compressedBytes;
+		return this;
+	}
+
+	/**
+	 * @return the compressed size of the files compressed by this build as a fraction of
+	 * their original size
+	 */
+	double getRatio() {
+		return this.originalBytes == 0 ? 1 : (double) this.compressedBytes / this.originalBytes;
+	}
+
+}
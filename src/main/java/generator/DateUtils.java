@@ -1,36 +1,45 @@
 package generator;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 /**
- * Each {@link DateFormat} instance is not thread safe so this class generates ones for
- * reuse.
+ * Formats dates with shared {@link DateTimeFormatter}s, which, unlike
+ * {@link java.text.SimpleDateFormat}, are immutable and safe to use from any number of
+ * threads at once. The output matches what the {@code SimpleDateFormat} patterns used to
+ * produce in the system time zone.
  */
 public abstract class DateUtils {
 
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy").withZone(ZONE);
+
+	private static final DateTimeFormatter DATE_AND_TIME = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss.SSS")
+			.withZone(ZONE);
+
 	public static int getYearFor(Date d) {
-		return DateUtils.getCalendarFor(d).get(Calendar.YEAR);
+		return getYearFor(d, ZONE);
 	}
 
-	public static Calendar getCalendarFor(Date d) {
-		var c = Calendar.getInstance();
-		c.setTime(d);
-		return c;
+	public static int getYearFor(Date d, ZoneId zone) {
+		return LocalDate.ofInstant(toInstant(d), zone).getYear();
 	}
 
-	public static Calendar getCurrentCalendar() {
-		return getCalendarFor(new Date());
+	public static String dateAndTime(Date d) {
+		return DATE_AND_TIME.format(toInstant(d));
 	}
 
-	public static DateFormat dateAndTime() {
-		return new SimpleDateFormat("MM/dd/yyyy HH:mm:ss.SSS");
+	public static String date(Date d) {
+		return DATE.format(toInstant(d));
 	}
 
-	public static DateFormat date() {
-		return new SimpleDateFormat("MM/dd/yyyy");
+	// java.sql.Date doesn't support Date#toInstant
+	private static Instant toInstant(Date d) {
+		return Instant.ofEpochMilli(d.getTime());
 	}
 
 }
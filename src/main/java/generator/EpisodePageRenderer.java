@@ -0,0 +1,107 @@
+package generator;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Renders one page per episode, {@code <uid>.html}, from
+ * {@link SiteGeneratorProperties.Templates#getEpisodePageTemplate()}. The template is
+ * compiled once and shared by every episode, and the pages are rendered on a bounded pool
+ * and streamed to disk.
+ */
+@Log4j2
+@Component
+class EpisodePageRenderer implements DisposableBean {
+
+	private final TemplateEngine templateEngine;
+
+	private final PageOptimizer pageOptimizer;
+
+	private final SiteGeneratorProperties properties;
+
+	private final ExecutorService executor;
+
+	EpisodePageRenderer(TemplateEngine templateEngine, PageOptimizer pageOptimizer,
+			SiteGeneratorProperties properties) {
+		this.templateEngine = templateEngine;
+		this.pageOptimizer = pageOptimizer;
+		this.properties = properties;
+		this.executor = BoundedExecutors.newFixedThreadPool(properties.getItems().getConcurrency(),
+				properties.getPipeline().getCapacity());
+	}
+
+	/**
+	 * Renders a page for each episode that changed or doesn't have one yet, and deletes
+	 * the pages of episodes that are gone.
+	 * @return how many pages were rendered
+	 */
+	@SneakyThrows
+	int render(Collection<PodcastRecord> podcasts, Set<String> changed, File directory) {
+		var start = System.currentTimeMillis();
+		FileUtils.ensureDirectoryExists(directory);
+		var uids = new HashSet<String>();
+		var futures = new ArrayList<Future<Boolean>>();
+		for (var podcast : podcasts) {
+			var uid = podcast.getPodcast().getUid();
+			uids.add(uid);
+			var future = this.submit(podcast, changed.contains(uid), directory);
+			if (future != null) {
+				futures.add(future);
+			}
+		}
+		var written = 0;
+		for (var future : futures) {
+			written += future.get() ? 1 : 0;
+		}
+		this.prune(uids, directory);
+		var elapsed = Math.max(1, System.currentTimeMillis() - start);
+		log.info("rendered " + futures.size() + " episode pages (" + written + " of them changed) into "
+				+ directory.getAbsolutePath() + " in " + elapsed + "ms, or " + (futures.size() * 1000 / elapsed)
+				+ " pages per second");
+		return futures.size();
+	}
+
+	/**
+	 * Queues up the page for one episode, unless it's unchanged and already has one.
+	 * @return whether the page's content changed, or {@code null} if it was skipped
+	 */
+	Future<Boolean> submit(PodcastRecord podcast, boolean changed, File directory) {
+		var page = new File(directory, podcast.getPodcast().getUid() + ".html");
+		if (page.exists() && !changed) {
+			return null;
+		}
+		var template = this.templateEngine.template(this.properties.getTemplates().getEpisodePageTemplate());
+		var episodeUri = this.properties.getApi().getUri() + "/podcasts/" + podcast.getPodcast().getUid()
+				+ "/produced-audio";
+		return this.executor.submit(
+				() -> this.pageOptimizer.write(template, Map.of("episode", podcast, "episodeUri", episodeUri), page));
+	}
+
+	/**
+	 * Deletes the pages of every episode that isn't one of the given UIDs.
+	 */
+	void prune(Set<String> uids, File directory) {
+		for (var stale : Objects
+				.requireNonNull(directory.listFiles(file -> !uids.contains(file.getName().replace(".html", ""))))) {
+			FileUtils.delete(stale);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+}
@@ -0,0 +1,17 @@
+package generator;
+
+import lombok.Data;
+
+/**
+ * Where an episode's photo can be found, as paths relative to the site root for the
+ * {@code src} attributes, and as {@code srcset}s with root-relative paths, which work
+ * from any page.
+ */
+@Data
+class EpisodePhoto {
+
+	private final String src, srcset;
+
+	private final String thumbnailSrc, thumbnailSrcset;
+
+}
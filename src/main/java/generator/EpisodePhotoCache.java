@@ -0,0 +1,236 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Keeps the episode photos in the cache directory, keyed by UID, so that they survive the
+ * builds that wipe the output directories. Every photo is revalidated against the API
+ * with a conditional {@code GET} using the {@code ETag} and {@code Last-Modified} of the
+ * cached copy, so an unchanged photo costs a {@code 304} and no bytes.
+ * <p>
+ * Downloads run on a dedicated, bounded pool instead of the common
+ * {@link java.util.concurrent.ForkJoinPool}, since they spend their time blocked on I/O,
+ * unless the {@link AsyncPhotoFetcher} is turned on, in which case the pool only copies
+ * the photos into place once they've arrived.
+ */
+@Log4j2
+@Component
+class EpisodePhotoCache implements DisposableBean {
+
+	private final Resource defaultEpisodePhoto = new ClassPathResource(
+			"/static/assets/images/a-bootiful-podcast-default-square.jpg");
+
+	private final SiteGeneratorProperties properties;
+
+	private final ObjectMapper objectMapper;
+
+	private final ApiClient apiClient;
+
+	private final ExecutorService executor;
+
+	private final AsyncPhotoFetcher asyncPhotoFetcher;
+
+	private final PhotoDerivatives photoDerivatives;
+
+	private final Counter hits, misses, failures, bytes;
+
+	EpisodePhotoCache(SiteGeneratorProperties properties, ObjectMapper objectMapper, MeterRegistry registry,
+			ApiClient apiClient, AsyncPhotoFetcher asyncPhotoFetcher, PhotoDerivatives photoDerivatives) {
+		var photos = properties.getPhotos();
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		this.photoDerivatives = photoDerivatives;
+		this.apiClient = apiClient;
+		this.asyncPhotoFetcher = asyncPhotoFetcher;
+		this.executor = BoundedExecutors.newFixedThreadPool(photos.getConcurrency(),
+				properties.getPipeline().getCapacity());
+		this.hits = registry.counter("podcast.generator.photos.cache", "result", "hit");
+		this.misses = registry.counter("podcast.generator.photos.cache", "result", "miss");
+		this.failures = registry.counter("podcast.generator.photos.cache", "result", "failure");
+		this.bytes = registry.counter("podcast.generator.photos.bytes");
+	}
+
+	/**
+	 * Makes sure there's an up-to-date {@code <uid>.jpg} in the directory for each UID,
+	 * falling back to the last cached copy, and failing that to the default photo, if the
+	 * API can't provide one, along with its {@link PhotoDerivatives resized copies}.
+	 * @return how many of the photos couldn't be fetched from the API
+	 */
+	@SneakyThrows
+	int fetch(Collection<String> uids, File directory) {
+		FileUtils.ensureDirectoryExists(directory);
+		var futures = new ArrayList<Future<Boolean>>();
+		for (var uid : uids) {
+			futures.add(this.submit(uid, directory));
+		}
+		var failures = 0;
+		for (var future : futures) {
+			failures += future.get() ? 0 : 1;
+		}
+		return failures;
+	}
+
+	/**
+	 * Queues up the photo for one episode. The directory must already exist.
+	 * @return whether the photo could be fetched from the API
+	 */
+	Future<Boolean> submit(String uid, File directory) {
+		var target = new File(directory, uid + ".jpg");
+		if (this.asyncPhotoFetcher.isEnabled()) {
+			return this.copyAsync(uid, target);
+		}
+		return this.executor.submit(() -> this.copy(uid, target));
+	}
+
+	/**
+	 * @return whether the photo could be revalidated against the API
+	 */
+	private boolean copy(String uid, File target) {
+		var photo = new File(this.cacheDirectory(), uid + ".jpg");
+		var revalidated = true;
+		try {
+			this.revalidate(uid, photo);
+		}
+		catch (Exception e) {
+			revalidated = this.failed(uid, photo, e);
+		}
+		this.place(uid, photo, target);
+		return revalidated;
+	}
+
+	/**
+	 * Like {@link #copy(String, File)}, but revalidates the photo with the
+	 * {@link AsyncPhotoFetcher}, and only takes a thread from the pool to copy it into
+	 * place once it's there.
+	 */
+	private CompletableFuture<Boolean> copyAsync(String uid, File target) {
+		var photo = new File(this.cacheDirectory(), uid + ".jpg");
+		return this.asyncPhotoFetcher.fetch(uid, this.readMetadata(uid, photo), photo).handleAsync((metadata, e) -> {
+			var revalidated = e == null ? this.revalidated(uid, photo, metadata)
+					: this.failed(uid, photo, e instanceof CompletionException ? e.getCause() : e);
+			this.place(uid, photo, target);
+			return revalidated;
+		}, this.executor);
+	}
+
+	private void revalidate(String uid, File photo) throws Exception {
+		var metadata = this.readMetadata(uid, photo);
+		var headers = new HttpHeaders();
+		if (metadata.getETag() != null) {
+			headers.setIfNoneMatch(metadata.getETag());
+		}
+		if (metadata.getLastModified() > 0) {
+			headers.setIfModifiedSince(metadata.getLastModified());
+		}
+		var profilePhotoUrl = "/podcasts/" + uid + "/profile-photo";
+		var response = this.apiClient.get(profilePhotoUrl, headers, byte[].class);
+		if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+			this.revalidated(uid, photo, null);
+			return;
+		}
+		var body = response.getBody();
+		Assert.state(response.getStatusCode().is2xxSuccessful() && body != null,
+				() -> "the photo request to " + profilePhotoUrl + " returned " + response.getStatusCode());
+		log.info("downloaded the image from " + profilePhotoUrl);
+		FileUtils.write(photo, body);
+		this.revalidated(uid, photo,
+				new Metadata(response.getHeaders().getETag(), response.getHeaders().getLastModified()));
+	}
+
+	/**
+	 * Records the photo's metadata if it was downloaded, rather than found unchanged.
+	 * @return {@code true}
+	 */
+	@SneakyThrows
+	private boolean revalidated(String uid, File photo, Metadata downloaded) {
+		if (downloaded == null) {
+			this.hits.increment();
+			return true;
+		}
+		this.misses.increment();
+		this.bytes.increment(photo.length());
+		this.objectMapper.writeValue(this.metadataFile(uid), downloaded);
+		return true;
+	}
+
+	/**
+	 * @return {@code false}
+	 */
+	private boolean failed(String uid, File photo, Throwable e) {
+		this.failures.increment();
+		log.warn(NestedExceptionUtils.buildMessage("couldn't get the photo for the podcast with the UID " + uid
+				+ (photo.exists() ? ". Using the cached copy." : ". Using the default photo."), e));
+		return false;
+	}
+
+	/**
+	 * Copies the cached photo, or the default one if there isn't one, into place and
+	 * writes its {@link PhotoDerivatives resized copies} next to it.
+	 */
+	@SneakyThrows
+	private void place(String uid, File photo, File target) {
+		var content = photo.exists() ? Files.readAllBytes(photo.toPath())
+				: FileCopyUtils.copyToByteArray(this.defaultEpisodePhoto.getInputStream());
+		if (FileUtils.write(target, content)) {
+			log.info("the image file lives in " + target.getAbsolutePath());
+		}
+		this.photoDerivatives.submit(uid, content, target.getParentFile()).get();
+	}
+
+	@SneakyThrows
+	private Metadata readMetadata(String uid, File photo) {
+		var metadataFile = this.metadataFile(uid);
+		return photo.exists() && metadataFile.exists() ? this.objectMapper.readValue(metadataFile, Metadata.class)
+				: new Metadata();
+	}
+
+	private File metadataFile(String uid) {
+		return new File(this.cacheDirectory(), uid + ".json");
+	}
+
+	private File cacheDirectory() {
+		return FileUtils.ensureDirectoryExists(new File(this.properties.getOutput().getCache(), "episode-photos"));
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	static class Metadata {
+
+		private String eTag;
+
+		private long lastModified;
+
+	}
+
+}
@@ -6,7 +6,19 @@ import org.springframework.util.Assert;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.FileSystemUtils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 @Log4j2
 public abstract class FileUtils {
@@ -49,6 +61,12 @@ public abstract class FileUtils {
 		return target;
 	}
 
+	public interface OutputStreamCallback {
+
+		void write(OutputStream out) throws IOException;
+
+	}
+
 	public static boolean delete(File f) {
 		if (!f.exists()) {
 			return true;
@@ -61,6 +79,78 @@ public abstract class FileUtils {
 		}
 	}
 
+	/**
+	 * Writes the content to the file unless the file already has exactly that content, in
+	 * which case the file is left alone so that git sees no churn. An existing file is
+	 * replaced rather than written over, so any other hard links to it keep their
+	 * content.
+	 * @return whether the file was written
+	 */
+	@SneakyThrows
+	public static boolean write(File file, byte[] content) {
+		var path = file.toPath();
+		if (file.isFile() && file.length() == content.length && Arrays.equals(Files.readAllBytes(path), content)) {
+			return false;
+		}
+		ensureDirectoryExists(file.getParentFile());
+		Files.deleteIfExists(path);
+		Files.write(path, content);
+		return true;
+	}
+
+	public static boolean write(File file, String content) {
+		return write(file, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Streams the content into a temporary sibling of the file and then moves it into
+	 * place, unless the file already has exactly that content, in which case the file is
+	 * left alone.
+	 * @return whether the file was written
+	 */
+	@SneakyThrows
+	public static boolean write(File file, OutputStreamCallback callback) {
+		var directory = ensureDirectoryExists(file.getParentFile()).toPath();
+		var temporary = Files.createTempFile(directory, file.getName(), ".tmp");
+		try {
+			try (var out = new BufferedOutputStream(Channels.newOutputStream(
+					FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)))) {
+				callback.write(out);
+			}
+			if (file.isFile() && contentEquals(temporary, file.toPath())) {
+				return false;
+			}
+			Files.move(temporary, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		}
+		finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	/**
+	 * Compares two files a buffer at a time, without reading either of them fully into
+	 * memory.
+	 */
+	@SneakyThrows
+	public static boolean contentEquals(Path a, Path b) {
+		if (Files.size(a) != Files.size(b)) {
+			return false;
+		}
+		try (var inA = new BufferedInputStream(Files.newInputStream(a));
+				var inB = new BufferedInputStream(Files.newInputStream(b))) {
+			var bufferA = new byte[8192];
+			var bufferB = new byte[8192];
+			int read;
+			while ((read = inA.readNBytes(bufferA, 0, bufferA.length)) > 0) {
+				if (inB.readNBytes(bufferB, 0, read) != read || !Arrays.equals(bufferA, 0, read, bufferB, 0, read)) {
+					return false;
+				}
+			}
+			return inB.read() == -1;
+		}
+	}
+
 	public static File ensureDirectoryExists(File f) {
 		Assert.isTrue(f.exists() || f.mkdirs(),
 				"the directory " + f.getAbsolutePath() + " does not exist and could not be created");
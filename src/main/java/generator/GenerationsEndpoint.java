@@ -0,0 +1,40 @@
+package generator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Lists the published generations of the output at {@code /actuator/generations}, and
+ * rolls back to the one before the current one on a {@code POST}, through the
+ * {@link BuildScheduler} so it doesn't run in the middle of a build.
+ * <p>
+ * Nothing stands in front of the rollback but the network, so the endpoint is off unless
+ * {@code management.endpoint.generations.enabled} turns it on, which should only happen
+ * where the actuator can't be reached from outside.
+ */
+@Component
+@Endpoint(id = "generations", enableByDefault = false)
+@RequiredArgsConstructor
+class GenerationsEndpoint {
+
+	private final OutputGenerations outputGenerations;
+
+	private final BuildScheduler buildScheduler;
+
+	@ReadOperation
+	public Map<String, Object> generations() {
+		var current = this.outputGenerations.getCurrent();
+		return Map.of("current", current == null ? "" : current, "generations", this.outputGenerations.list());
+	}
+
+	@WriteOperation
+	public Map<String, Object> rollback() throws Exception {
+		return Map.of("current", this.buildScheduler.rollback());
+	}
+
+}
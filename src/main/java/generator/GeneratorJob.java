@@ -1,58 +1,46 @@
 package generator;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.joshlong.git.GitProperties;
-import com.joshlong.git.GitTemplate;
-import com.joshlong.templates.MarkdownService;
-import com.joshlong.templates.MustacheService;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
-import org.eclipse.jgit.api.Git;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.core.NestedExceptionUtils;
 import org.springframework.core.env.Environment;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
-import org.springframework.util.FileCopyUtils;
-import org.springframework.util.ReflectionUtils;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.FileWriter;
-import java.io.InputStream;
-import java.net.URI;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 @Log4j2
 @Component
 public class GeneratorJob {
 
-	private final JdbcTemplate template;
+	private final PodcastRepository podcastRepository;
 
-	private final PodcastRowMapper podcastRowMapper;
+	private final BuildManifestStore buildManifestStore;
+
+	private final EpisodePhotoCache episodePhotoCache;
+
+	private final StaticAssetPublisher staticAssetPublisher;
+
+	private final EpisodePageRenderer episodePageRenderer;
 
 	private final SiteGeneratorProperties properties;
 
-	private final MustacheService mustacheService;
+	private final TemplateEngine templateEngine;
 
-	private final GitTemplate gitTemplate;
+	private final GitPublisher gitPublisher;
 
-	private final ObjectMapper objectMapper;
+	private final PodcastJsonWriter podcastJsonWriter;
 
-	private final Resource defaultEpisodePhoto = new ClassPathResource(
-			"/static/assets/images/a-bootiful-podcast-default-square.jpg");
+	private final PodcastJsonShardWriter podcastJsonShardWriter;
+
+	private final PodcastFeedWriter podcastFeedWriter;
 
 	private final Environment environment;
 
@@ -60,233 +48,449 @@ public class GeneratorJob {
 
 	private final Map<String, String> mapOfRenderedMarkdown = new ConcurrentHashMap<>();
 
-	private final MarkdownService markdownService;
+	private final Map<String, Podcast> catalog = new ConcurrentHashMap<>();
+
+	private final MarkdownCache markdownCache;
+
+	private final BuildReports buildReports;
+
+	private final BuildPipeline buildPipeline;
+
+	private final Precompressor precompressor;
+
+	private final PageOptimizer pageOptimizer;
 
-	private final Comparator<PodcastRecord> reversed = Comparator
-			.comparing((Function<PodcastRecord, Date>) podcastRecord -> podcastRecord.getPodcast().getDate())
-			.reversed();
+	private final AssetPruner assetPruner;
 
-	private final AtomicReference<String> token = new AtomicReference<>();
+	private final OutputGenerations outputGenerations;
 
-	private final RestTemplate restTemplate;
+	private final PhotoDerivatives photoDerivatives;
 
-	GeneratorJob(GitProperties gp, JdbcTemplate template, MarkdownService markdownService, Environment env,
-			ObjectMapper om, PodcastRowMapper podcastRowMapper, SiteGeneratorProperties properties,
-			MustacheService mustacheService, GitTemplate gitTemplate,
+	GeneratorJob(GitProperties gp, MarkdownCache markdownCache, BuildReports buildReports, BuildPipeline buildPipeline,
+			Precompressor precompressor, PageOptimizer pageOptimizer, AssetPruner assetPruner,
+			OutputGenerations outputGenerations, PhotoDerivatives photoDerivatives, Environment env,
+			PodcastJsonWriter podcastJsonWriter, PodcastJsonShardWriter podcastJsonShardWriter,
+			PodcastFeedWriter podcastFeedWriter, PodcastRepository podcastRepository,
+			BuildManifestStore buildManifestStore, EpisodePhotoCache episodePhotoCache,
+			StaticAssetPublisher staticAssetPublisher, EpisodePageRenderer episodePageRenderer,
+			SiteGeneratorProperties properties, TemplateEngine templateEngine, GitPublisher gitPublisher,
 			@Value("classpath:/static") Resource staticAssets) {
-		this.template = template;
 		this.gitProperties = gp;
-		this.markdownService = markdownService;
-		this.objectMapper = om;
+		this.markdownCache = markdownCache;
+		this.buildReports = buildReports;
+		this.buildPipeline = buildPipeline;
+		this.precompressor = precompressor;
+		this.pageOptimizer = pageOptimizer;
+		this.assetPruner = assetPruner;
+		this.outputGenerations = outputGenerations;
+		this.photoDerivatives = photoDerivatives;
+		this.podcastJsonWriter = podcastJsonWriter;
+		this.podcastJsonShardWriter = podcastJsonShardWriter;
+		this.podcastFeedWriter = podcastFeedWriter;
 		this.environment = env;
 		this.staticAssets = staticAssets;
-		this.podcastRowMapper = podcastRowMapper;
+		this.podcastRepository = podcastRepository;
+		this.buildManifestStore = buildManifestStore;
+		this.episodePhotoCache = episodePhotoCache;
+		this.staticAssetPublisher = staticAssetPublisher;
+		this.episodePageRenderer = episodePageRenderer;
 		this.properties = properties;
-		this.mustacheService = mustacheService;
-		this.gitTemplate = gitTemplate;
-		this.restTemplate = new RestTemplateBuilder()
-				.basicAuthentication(this.properties.getApi().getUsername(), this.properties.getApi().getPassword())
-				.build();
-
+		this.templateEngine = templateEngine;
+		this.gitPublisher = gitPublisher;
 	}
 
-	@SneakyThrows
-	private String getToken() {
-
-		if (this.token.get() == null) {
-			var tokenUrl = this.properties.getApi().getUri() + "/token";
-			var responseEntity = restTemplate.postForEntity(tokenUrl, null, String.class);
-			Assert.state(responseEntity.getStatusCode().is2xxSuccessful(),
-					() -> String.format(
-							"the call to the API server (%s) with the username %s and password %s has failed",
-							this.properties.getApi().getUri().toString(), this.properties.getApi().getUsername(),
-							this.properties.getApi().getPassword()));
-			this.token.set(responseEntity.getBody());
-		}
+	private final GitProperties gitProperties;
 
-		return this.token.get();
+	private void reset(File file) {
+		FileUtils.delete(file);
+		FileUtils.ensureDirectoryExists(file);
 	}
 
-	private final GitProperties gitProperties;
+	public void build() {
+		this.build(BuildRequest.everything());
+	}
 
+	/**
+	 * Builds the site. A request for specific episodes is served from the catalog kept
+	 * from the previous build: only those episodes get reloaded from the database, and
+	 * everything else is reused. That needs an incremental build that has already run
+	 * once, so anything else falls back to loading the whole catalog.
+	 * <p>
+	 * A full build can also run through the {@link BuildPipeline}, which overlaps the
+	 * loading, rendering and photo fetching. Each stage of the build is timed and
+	 * reported by the {@link BuildReports}.
+	 */
 	@SneakyThrows
-	private void downloadImageFor(PodcastRecord podcast) {
-		var uid = podcast.getPodcast().getUid();
-		var imagesDirectory = new File(this.properties.getOutput().getPages(), "episode-photos");
-		var file = new File(imagesDirectory, uid + ".jpg");
+	public void build(BuildRequest request) {
+		if (this.properties.isDisabled()) {
+			log.info(this.getClass().getName() + " is not enabled. Skipping...");
+			return;
+		}
+		var report = this.buildReports.start(request);
 		try {
-			Assert.isTrue(imagesDirectory.mkdirs() || imagesDirectory.exists(), "the imagesDirectory ('"
-					+ imagesDirectory.getAbsolutePath() + "') does not exist and could not be created");
-			var profilePhotoUrl = new URI(this.properties.getApi().getUri() + "/podcasts/" + uid + "/profile-photo");
-			log.info("downloading the image from " + profilePhotoUrl);
-			var responseEntity = this.restTemplate.getForEntity(profilePhotoUrl, Resource.class);
-			try (var img = responseEntity.getBody().getInputStream()) {
-				this.copyInputStreamToImage(img, file);
-			}
+			report.setOutcome(this.build(request, report) ? "published" : "unchanged");
 		}
 		catch (Exception e) {
-			// we can't get a photo for this podcast, so we need to provide a default one.
-			log.warn(NestedExceptionUtils
-					.buildMessage("couldn't find a podcast with the UID " + podcast.getPodcast().getUid() + ".", e));
-			this.copyInputStreamToImage(this.defaultEpisodePhoto.getInputStream(), file);
+			report.setOutcome("failed");
+			report.setError(e.getMessage());
+			throw e;
+		}
+		finally {
+			this.mapOfRenderedMarkdown.clear();
+			this.buildReports.finish(report);
 		}
 	}
 
+	/**
+	 * Points the output back at the generation before the current one, and publishes that
+	 * generation to the git clone the way a build would. The fingerprinted assets that
+	 * its pages link to come along with them, and are left for the next build to prune.
+	 * @return the id of the generation that's now current
+	 */
 	@SneakyThrows
-	private void copyInputStreamToImage(InputStream in, File file) {
-		if (!file.exists()) {
-			try (var fin = in; var fout = new FileOutputStream(file)) {
-				FileCopyUtils.copy(fin, fout);
-				log.info("the image file lives in " + file.getAbsolutePath());
-			}
-		}
-		else {
-			log.info("the image file " + file.getAbsolutePath() + " already exists. No need to download it again.");
+	public String rollback() {
+		var generation = this.outputGenerations.rollback();
+		var reachable = !this.properties.getAssets().isPrune() ? null
+				: this.assetPruner.analyze(this.staticAssets.getFile(), generation.getPages(), generation.getItems());
+		this.copyPagesIntoPlace(generation, reachable);
+		if (this.properties.getCompression().isEnabled()) {
+			this.precompressor.compress(this.properties.getOutput().getGitClone());
 		}
+		var result = this.commit("rollback to generation " + generation.getId() + " @ " + Instant.now().toString());
+		log.info("published the rolled back generation " + generation.getId() + ": " + result);
+		return generation.getId();
 	}
 
-	private void reset(File file) {
-		FileUtils.delete(file);
-		FileUtils.ensureDirectoryExists(file);
+	/**
+	 * @return whether anything had changed
+	 */
+	private boolean build(BuildRequest request, BuildReport report) throws Exception {
+		var incremental = this.properties.isIncremental();
+		log.info("starting the " + (incremental ? "incremental " : "") + "site generation @ "
+				+ DateUtils.date(new Date()));
+
+		var generation = this.buildReports.stage(report, "prepare", stage -> this.prepareOutput(incremental));
+		if (generation.getId() == null) {
+			return this.build(request, report, generation);
+		}
+		boolean changed;
+		try {
+			changed = this.build(request, report, generation);
+		}
+		catch (Exception e) {
+			this.outputGenerations.discard(generation);
+			throw e;
+		}
+		if (!changed) {
+			this.outputGenerations.discard(generation);
+			return false;
+		}
+		this.buildReports.stage(report, "switch", stage -> {
+			this.outputGenerations.publish(generation);
+			return null;
+		});
+		return true;
 	}
 
-	@SneakyThrows
-	public void build() {
+	/**
+	 * @param generation where to write the pages and items
+	 * @return whether anything had changed
+	 */
+	private boolean build(BuildRequest request, BuildReport report, OutputGenerations.Generation generation)
+			throws Exception {
+		var incremental = this.properties.isIncremental();
+		var output = this.properties.getOutput();
+
+		// this runs with the optimization off too, to take the fingerprints of an earlier
+		// build away
+		var assetsChanged = this.buildReports.stage(report, "fingerprint", stage -> {
+			var templates = this.properties.getTemplates();
+			return this.pageOptimizer.fingerprint(
+					List.of(templates.getPageChromeTemplate(), templates.getEpisodePageTemplate()),
+					this.staticAssets.getFile(), generation.getPages());
+		});
+
+		var fingerprint = this.buildManifestStore.fingerprint();
+		var storedManifest = incremental ? this.buildManifestStore.read() : new BuildManifest();
+		var sameBuild = fingerprint.equals(storedManifest.getFingerprint());
+		if (incremental && !sameBuild && !storedManifest.getEpisodes().isEmpty()) {
+			log.info("the templates, the generator or its configuration have changed since the last build. "
+					+ "Rebuilding everything.");
+		}
+		// none of the hashes from a different build can be trusted
+		var previousManifest = sameBuild ? storedManifest : new BuildManifest();
+		var targeted = sameBuild && incremental && !request.isEverything() && !this.catalog.isEmpty();
+		if (!request.isEverything() && !targeted) {
+			log.info("can't rebuild just " + request.getUids() + " without a previous catalog. Rebuilding everything.");
+		}
+		var pipelined = this.properties.getPipeline().isEnabled() && !targeted;
+		var episodes = pipelined
+				? this.buildReports.stage(report, "pipeline",
+						stage -> this.runPipeline(generation, previousManifest, assetsChanged, stage))
+				: this.loadAndDiff(report, targeted ? request.getUids() : null, previousManifest);
+		if (!targeted) {
+			// every description in the catalog has just been looked up
+			this.markdownCache.prune();
+		}
+		var index = episodes.getIndex();
+		var manifest = episodes.getManifest();
+		var changed = episodes.getChanged();
+		manifest.setFingerprint(fingerprint);
+		var removed = new HashSet<>(storedManifest.getEpisodes().keySet());
+		removed.removeAll(manifest.getEpisodes().keySet());
+		var page = new File(generation.getPages(), "index.html");
+		if (incremental && changed.isEmpty() && removed.isEmpty() && !assetsChanged && page.exists()) {
+			log.info("none of the " + index.size() + " podcasts have changed since the last build. Skipping...");
+			return false;
+		}
+		log.info(changed.size() + " podcasts are new or have changed and " + removed.size()
+				+ " have been removed since the last build");
+		removed.forEach(uid -> this.episodePhotosFor(generation, uid).forEach(FileUtils::delete));
+
+		var allPodcasts = index.newestFirst();
+
+		if (!pipelined) {
+			this.buildReports.stage(report, "pages", stage -> {
+				// every page links to the assets, so they all need their new fingerprints
+				var pages = assetsChanged ? manifest.getEpisodes().keySet() : changed;
+				stage.setItems(this.episodePageRenderer.render(allPodcasts, pages, generation.getItems()));
+				return null;
+			});
 
-		try {
-			if (this.properties.isDisabled()) {
-				log.info(this.getClass().getName() + " is not enabled. Skipping...");
-				return;
-			}
+			this.buildReports.stage(report, "photos", stage -> {
+				var photos = new HashSet<>(manifest.getEpisodes().keySet());
+				if (targeted) {
+					// the other photos were revalidated by the build that loaded them
+					photos.retainAll(request.getUids());
+					photos.addAll(changed);
+				}
+				stage.setItems(photos.size());
+				stage.setErrors(
+						this.episodePhotoCache.fetch(photos, new File(generation.getPages(), "episode-photos")));
+				return null;
+			});
+		}
 
-			var dateFormat = DateUtils.date();
-			log.info("starting the site generation @ " + dateFormat.format(new Date()));
-			var gitClone = this.properties.getOutput().getGitClone();
+		var years = this.buildReports.stage(report, "rollup", stage -> {
+			var rollups = index.years();
+			stage.setItems(rollups.size());
+			return rollups;
+		});
 
-			var dotGitFilesInGitCloneDirectory = gitClone.listFiles(pathname -> !pathname.getName().equals(".git"));
-			if (dotGitFilesInGitCloneDirectory != null) {
-				Stream.of(dotGitFilesInGitCloneDirectory).forEach(FileUtils::delete);
-			}
-			Stream.of(this.properties.getOutput().getItems(), properties.getOutput().getPages()).forEach(this::reset);
-			var podcastList = this.template.query(this.properties.getSql().getLoadPodcasts(), this.podcastRowMapper);
-			var maxYear = podcastList.stream()//
-					.max(Comparator.comparing(Podcast::getDate))//
-					.map(podcast -> DateUtils.getYearFor(podcast.getDate()))//
-					.orElse(DateUtils.getYearFor(new Date()));
-			var allPodcasts = podcastList.stream()
-					.peek(pr -> this.mapOfRenderedMarkdown.put(pr.getUid(),
-							markdownService.convertMarkdownTemplateToHtml(pr.getDescription()).trim()))
-					.map(p -> new PodcastRecord(p, "episode-photos/" + p.getUid() + ".jpg",
-							dateFormat.format(p.getDate()), this.mapOfRenderedMarkdown.get(p.getUid())))
-					.collect(Collectors.toList());
-			var json = buildJsonForAllPodcasts(allPodcasts);
-			var jsonFile = new File(this.properties.getOutput().getPages(), "podcasts.json");
-			FileCopyUtils.copy(json, new FileWriter(jsonFile));
+		this.buildReports.stage(report, "json", stage -> {
+			var jsonFile = new File(generation.getPages(), "podcasts.json");
+			var written = this.podcastJsonWriter.write(allPodcasts, jsonFile);
 			Assert.isTrue(jsonFile.exists(), "the json file '" + jsonFile.getAbsolutePath() + "' could not be created");
-			allPodcasts.parallelStream().forEach(this::downloadImageFor);
-			allPodcasts.sort(this.reversed);
-			var top3 = new ArrayList<PodcastRecord>();
-			for (var i = 0; i < 3 && i < allPodcasts.size(); i++) {
-				top3.add(allPodcasts.get(i));
-			}
-			var map = this.getPodcastsByYear(allPodcasts);
-			var years = new ArrayList<YearRollup>();
-			map.forEach((year, podcasts) -> {
-				podcasts.sort(this.reversed);
-				years.add(new YearRollup(year, podcasts, year.equals(maxYear) ? "active" : ""));
+			var shardBytes = this.podcastJsonShardWriter.write(years, allPodcasts,
+					new File(generation.getPages(), "podcasts"));
+			stage.setItems(allPodcasts.size());
+			stage.setBytes((written ? jsonFile.length() : 0) + shardBytes);
+			return null;
+		});
+
+		if (this.podcastFeedWriter.isEnabled()) {
+			this.buildReports.stage(report, "feeds", stage -> {
+				stage.setItems(allPodcasts.size());
+				stage.setBytes(this.podcastFeedWriter.write(allPodcasts, manifest, generation.getPages()));
+				return null;
 			});
-			years.sort(Comparator.comparing(YearRollup::getYear).reversed());
-			var pageChromeTemplate = this.properties.getTemplates().getPageChromeTemplate();
+		}
+
+		this.buildReports.stage(report, "index", stage -> {
 			var context = new HashMap<String, Object>();
-			context.put("top3", top3);
-			context.put("siteGenerationDate", DateUtils.dateAndTime().format(new Date()));
+			context.put("top3", index.newest(3));
+			context.put("siteGenerationDate", DateUtils.dateAndTime(new Date()));
 			context.put("years", years);
 			context.put("currentYear", DateUtils.getYearFor(new Date()));
-			var html = this.mustacheService.convertMustacheTemplateToHtml(pageChromeTemplate, context);
-			var page = new File(this.properties.getOutput().getPages(), "index.html");
-			FileCopyUtils.copy(html, new FileWriter(page));
+			this.pageOptimizer.write(
+					this.templateEngine.template(this.properties.getTemplates().getPageChromeTemplate()), context,
+					page);
 			log.info("wrote the template to " + page.getAbsolutePath());
-			copyPagesIntoPlace();
-			commit();
-		}
-		finally {
-			this.mapOfRenderedMarkdown.clear();
+			stage.setItems(1);
+			stage.setBytes(page.length());
+			return null;
+		});
+
+		var reachable = !this.properties.getAssets().isPrune() ? null
+				: this.buildReports.stage(report, "reachability", stage -> {
+					var result = this.assetPruner.analyze(this.staticAssets.getFile(), generation.getPages(),
+							generation.getItems());
+					stage.setItems(result.getPublished());
+					stage.setBytes(result.getPublishedBytes());
+					stage.setSummary(String.format("%d assets are reachable, leaving out %d files (%d bytes)",
+							result.getPublished(), result.getUnreachable(), result.getUnreachableBytes()));
+					return result;
+				});
+
+		this.buildReports.stage(report, "assets", stage -> {
+			var result = this.copyPagesIntoPlace(generation, reachable);
+			result.setDeleted(result.getDeleted() + this.pageOptimizer.prune(output.getGitClone()));
+			stage.setItems(result.getWritten() + result.getLinked() + result.getDeleted());
+			stage.setBytes(result.getBytesWritten());
+			return null;
+		});
+
+		if (this.properties.getCompression().isEnabled()) {
+			this.buildReports.stage(report, "compress", stage -> {
+				var result = this.precompressor.compress(output.getGitClone());
+				stage.setItems(result.getCompressed());
+				stage.setBytes(result.getCompressedBytes());
+				stage.setSummary(String.format("compressed %d bytes to %d (ratio %.2f), skipped %d unchanged files",
+						result.getOriginalBytes(), result.getCompressedBytes(), result.getRatio(),
+						result.getSkipped()));
+				return null;
+			});
 		}
+
+		this.buildReports.stage(report, "commit", stage -> {
+			var result = this.commit("site generation @ " + Instant.now().toString());
+			stage.setItems(result.getAdded() + result.getModified() + result.getDeleted());
+			this.buildManifestStore.write(manifest);
+			return null;
+		});
+		return true;
 	}
 
-	private void commit() {
-		Stream//
-				.of(this.environment.getActiveProfiles())//
-				.filter(p -> p.equalsIgnoreCase("cloud"))//
-				.peek(profile -> log.info("running with " + profile + " active. Going to commit everything to Github"))
-				.forEach(x -> this.gitTemplate.executeAndPush(
-						git -> Stream.of(Objects.requireNonNull(properties.getOutput().getGitClone().listFiles()))
-								.forEach(file -> add(git, file))));
+	/**
+	 * Loads the podcasts, renders their descriptions and diffs them against the previous
+	 * manifest, each step over the whole lot before the next one starts.
+	 * @param uids the podcasts to reload, or {@code null} to reload the whole catalog
+	 */
+	private BuildPipeline.Result loadAndDiff(BuildReport report, Set<String> uids, BuildManifest previousManifest)
+			throws Exception {
+		var podcastList = this.buildReports.stage(report, "load", stage -> {
+			var podcasts = this.loadPodcasts(uids);
+			stage.setItems(podcasts.size());
+			return podcasts;
+		});
+
+		this.buildReports.stage(report, "markdown", stage -> {
+			var descriptions = new HashMap<String, String>();
+			podcastList.forEach(podcast -> descriptions.put(podcast.getUid(), podcast.getDescription()));
+			this.mapOfRenderedMarkdown.putAll(this.markdownCache.render(descriptions));
+			stage.setItems(descriptions.size());
+			return null;
+		});
+
+		return this.buildReports.stage(report, "diff", stage -> {
+			var manifest = new BuildManifest();
+			var changed = new HashSet<String>();
+			for (var podcast : podcastList) {
+				var uid = podcast.getUid();
+				var episode = BuildManifest.episodeFor(podcast, this.mapOfRenderedMarkdown.get(uid));
+				if (previousManifest.isChanged(uid, episode)) {
+					changed.add(uid);
+				}
+				manifest.getEpisodes().put(uid, episode);
+			}
+			stage.setItems(changed.size());
+			var index = new CatalogIndex();
+			podcastList.forEach(p -> index.add(new PodcastRecord(p, this.photoDerivatives.photoFor(p.getUid()),
+					DateUtils.date(p.getDate()), this.mapOfRenderedMarkdown.get(p.getUid()))));
+			return new BuildPipeline.Result(index, manifest, changed);
+		});
 	}
 
-	@SneakyThrows
-	private void copyPagesIntoPlace() {
-		var toCopy = new ArrayList<Map<File, File>>();
-		toCopy.add(Collections.singletonMap(this.staticAssets.getFile(), this.properties.getOutput().getPages()));
-		toCopy.add(
-				Collections.singletonMap(this.properties.getOutput().getPages(), properties.getOutput().getGitClone()));
-		toCopy.forEach(it -> it.forEach((from, to) -> Stream.of(Objects.requireNonNull(from.listFiles()))
-				.forEach(f -> FileUtils.copy(f, new File(to, f.getName())))));
+	private BuildPipeline.Result runPipeline(OutputGenerations.Generation generation, BuildManifest previousManifest,
+			boolean renderAllPages, StageReport stage) {
+		var result = this.buildPipeline.run(previousManifest, renderAllPages, generation.getItems(),
+				new File(generation.getPages(), "episode-photos"), stage);
+		// the pipeline only keeps a summary of each podcast, which is no good for diffing
+		// a
+		// targeted build against, so the next build loads the whole catalog again
+		this.catalog.clear();
+		return result;
 	}
 
-	private JsonNode jsonNodeForPodcast(PodcastRecord pr) {
-		var objectNode = this.objectMapper.createObjectNode();
-		objectNode.put("id", Long.toString(pr.getPodcast().getId()));
-		objectNode.put("uid", pr.getPodcast().getUid());
-		objectNode.put("title", pr.getPodcast().getTitle());
-		objectNode.put("date", pr.getPodcast().getDate().getTime());
-		objectNode.put("episodePhotoUri", pr.getPodcast().getPodbeanPhotoUri());
-		objectNode.put("description", this.mapOfRenderedMarkdown.get(pr.getPodcast().getUid()));
-		objectNode.put("dateAndTime", pr.getDateAndTime()); // correct
-		objectNode.put("dataAndTime", pr.getDateAndTime()); // does anything else use this
-		// mistaken property?
-		objectNode.put("episodeUri",
-				this.properties.getApi().getUri() + "/podcasts/" + pr.getPodcast().getUid() + "/produced-audio");
-		return objectNode;
+	/**
+	 * @return a fresh generation to write into if generations are enabled, or else the
+	 * configured directories, wiped first unless the build is incremental
+	 */
+	private OutputGenerations.Generation prepareOutput(boolean incremental) {
+		if (this.outputGenerations.isEnabled()) {
+			// the git clone is synced rather than wiped, so it's never left empty either
+			return this.outputGenerations.begin(incremental);
+		}
+		var output = this.properties.getOutput();
+		var generation = new OutputGenerations.Generation(null, output.getPages(), output.getItems());
+		if (incremental) {
+			Stream.of(output.getItems(), output.getPages()).forEach(FileUtils::ensureDirectoryExists);
+			return generation;
+		}
+		var dotGitFilesInGitCloneDirectory = output.getGitClone()
+				.listFiles(pathname -> !pathname.getName().equals(".git"));
+		if (dotGitFilesInGitCloneDirectory != null) {
+			Stream.of(dotGitFilesInGitCloneDirectory).forEach(FileUtils::delete);
+		}
+		Stream.of(output.getItems(), output.getPages()).forEach(this::reset);
+		return generation;
 	}
 
-	private String printJsonString(JsonNode jsonNode) {
-		try {
-			var json = this.objectMapper.readValue(jsonNode.toString(), Object.class);
-			var objectWriter = this.objectMapper.writerWithDefaultPrettyPrinter();
-			return objectWriter.writeValueAsString(json);
+	/**
+	 * @param uids the podcasts to reload, or {@code null} to reload the whole catalog
+	 */
+	private List<Podcast> loadPodcasts(Set<String> uids) {
+		if (uids == null) {
+			var podcasts = this.podcastRepository.loadPodcasts();
+			this.catalog.clear();
+			podcasts.forEach(podcast -> this.catalog.put(podcast.getUid(), podcast));
 		}
-		catch (Exception e) {
-			ReflectionUtils.rethrowRuntimeException(e);
+		else {
+			var podcasts = this.podcastRepository.loadPodcasts(uids);
+			uids.forEach(this.catalog::remove);
+			podcasts.forEach(podcast -> this.catalog.put(podcast.getUid(), podcast));
+			log.info("reloaded " + podcasts.size() + " of the " + uids.size() + " requested podcasts");
 		}
-		return null;
+		return new ArrayList<>(this.catalog.values());
 	}
 
-	private String buildJsonForAllPodcasts(List<PodcastRecord> allPodcasts) {
-		var collect = allPodcasts.stream().map(this::jsonNodeForPodcast).collect(Collectors.toList());
-		var arrayNode = this.objectMapper.createArrayNode().addAll(collect);
-		return printJsonString(arrayNode);
+	/**
+	 * @return the episode's photo and its resized copies
+	 */
+	private List<File> episodePhotosFor(OutputGenerations.Generation generation, String uid) {
+		var directory = new File(generation.getPages(), "episode-photos");
+		var photos = new ArrayList<File>();
+		photos.add(new File(directory, uid + ".jpg"));
+		this.photoDerivatives.fileNames(uid).forEach(name -> photos.add(new File(directory, name)));
+		return photos;
 	}
 
-	@SneakyThrows
-	private void add(Git git, File f) {
-		git.add().addFilepattern(f.getName()).call();
-		git.commit().setMessage("adding " + f.getName() + " @ " + Instant.now().toString()).call();
-		log.info("added " + f.getAbsolutePath());
+	private PublishResult commit(String message) {
+		var cloud = Stream.of(this.environment.getActiveProfiles()).anyMatch(p -> p.equalsIgnoreCase("cloud"));
+		if (!cloud) {
+			return new PublishResult(0, 0, 0);
+		}
+		log.info("running with cloud active. Going to commit the changes to Github");
+		return this.gitPublisher.publish(this.properties.getOutput().getGitClone(), message);
 	}
 
-	private Map<Integer, List<PodcastRecord>> getPodcastsByYear(List<PodcastRecord> podcasts) {
-		var map = new HashMap<Integer, List<PodcastRecord>>();
-		for (var podcast : podcasts) {
-			var calendar = DateUtils.getCalendarFor(podcast.getPodcast().getDate());
-			var year = calendar.get(Calendar.YEAR);
-			if (!map.containsKey(year)) {
-				map.put(year, new ArrayList<>());
-			}
-			map.get(year).add(podcast);
+	/**
+	 * @param reachable the static assets to publish, or {@code null} to publish them all
+	 */
+	@SneakyThrows
+	private AssetSyncResult copyPagesIntoPlace(OutputGenerations.Generation generation, ReachableAssets reachable) {
+		var output = this.properties.getOutput();
+		var result = new AssetSyncResult();
+		var assets = this.staticAssets.getFile();
+		Predicate<String> include = reachable == null ? path -> true : reachable::contains;
+		if (this.properties.getAssets().getMode() == SiteGeneratorProperties.Assets.Mode.COPY) {
+			result.add(this.staticAssetPublisher.publish(assets, generation.getPages(), include));
+		}
+		else {
+			// there's no need to go through the pages directory, the assets can go
+			// straight to the clone
+			result.add(this.staticAssetPublisher.publish(assets, output.getGitClone(), include));
+		}
+		result.add(this.staticAssetPublisher.publish(generation.getPages(), output.getGitClone(), "episode-photos",
+				"podcasts"));
+		result.add(
+				this.staticAssetPublisher.publish(generation.getItems(), new File(output.getGitClone(), "items"), ""));
+		if (reachable != null) {
+			// whatever an earlier build published that's no longer linked to
+			result.add(this.assetPruner.prune(assets, output.getGitClone(), reachable));
 		}
-		map.forEach((key, value) -> value.sort(this.reversed.reversed()));
-		return map;
+		log.info("published the pages and assets into " + output.getGitClone().getAbsolutePath() + ": " + result);
+		return result;
 	}
 
 }
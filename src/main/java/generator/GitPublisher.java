@@ -0,0 +1,45 @@
+package generator;
+
+import com.joshlong.git.GitTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes the git clone as a single commit. Only files whose content actually changed
+ * get staged (JGit skips anything whose index entry still matches the working tree), and
+ * if nothing changed at all then there's no commit, so the push has nothing to send.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+class GitPublisher {
+
+	private final GitTemplate gitTemplate;
+
+	PublishResult publish(File gitClone, String message) {
+		var result = new AtomicReference<PublishResult>();
+		this.gitTemplate.executeAndPush(git -> {
+			git.add().addFilepattern(".").call();
+			git.add().setUpdate(true).addFilepattern(".").call();
+			var status = git.status().call();
+			result.set(new PublishResult(status.getAdded().size(), status.getChanged().size(),
+					status.getRemoved().size()));
+			if (result.get().hasChanges()) {
+				git.commit().setMessage(message).call();
+			}
+		});
+		var published = result.get();
+		if (!published.hasChanges()) {
+			log.info("nothing has changed in " + gitClone.getAbsolutePath() + ". Skipped the commit.");
+			return published;
+		}
+		log.info("published " + published.getAdded() + " added, " + published.getModified() + " modified and "
+				+ published.getDeleted() + " deleted files");
+		return published;
+	}
+
+}
@@ -0,0 +1,24 @@
+package generator;
+
+import lombok.SneakyThrows;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Content hashes used to decide whether something has changed since the last build.
+ */
+public abstract class Hashes {
+
+	public static String sha256(String content) {
+		return sha256(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@SneakyThrows
+	public static String sha256(byte[] content) {
+		var digest = MessageDigest.getInstance("SHA-256").digest(content);
+		return String.format("%064x", new BigInteger(1, digest));
+	}
+
+}
@@ -0,0 +1,249 @@
+package generator;
+
+import com.joshlong.templates.MarkdownService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.commonmark.parser.Parser;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the HTML rendered from each podcast description, keyed by a hash of the
+ * Markdown, so a description that hasn't changed since it was last published is never
+ * rendered again. There's a bounded, least-recently-used tier in memory and, optionally,
+ * a tier in the cache directory that survives restarts.
+ * <p>
+ * The hash also covers the versions of the {@link MarkdownService} and the CommonMark
+ * library behind it, so upgrading either of them renders everything again rather than
+ * serving HTML from the old renderer. The tier on disk keeps each renderer's entries in a
+ * directory of their own, and {@link #prune() pruning} it deletes the other renderers'
+ * directories and then the least recently written entries over the limit.
+ */
+@Log4j2
+@Component
+class MarkdownCache {
+
+	private final MarkdownService markdownService;
+
+	private final SiteGeneratorProperties properties;
+
+	private final String rendererVersion;
+
+	private final Map<String, String> memory;
+
+	/**
+	 * The hashes looked up since the cache was last pruned, which pruning keeps.
+	 */
+	private final Set<String> used = ConcurrentHashMap.newKeySet();
+
+	private final Counter memoryHits, diskHits, misses;
+
+	MarkdownCache(MarkdownService markdownService, SiteGeneratorProperties properties, MeterRegistry registry) {
+		var maxEntries = properties.getMarkdown().getMaxEntries();
+		this.markdownService = markdownService;
+		this.properties = properties;
+		this.rendererVersion = versionOf(markdownService.getClass()) + " " + versionOf(Parser.class);
+		this.memory = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > maxEntries;
+			}
+
+		});
+		this.memoryHits = registry.counter("podcast.generator.markdown.cache", "result", "memory");
+		this.diskHits = registry.counter("podcast.generator.markdown.cache", "result", "disk");
+		this.misses = registry.counter("podcast.generator.markdown.cache", "result", "miss");
+	}
+
+	/**
+	 * Renders each Markdown value, in parallel for the ones that aren't in the cache yet.
+	 * @return the rendered HTML for each key
+	 */
+	<K> Map<K, String> render(Map<K, String> markdown) {
+		var hashes = new HashMap<K, String>();
+		var rendered = new ConcurrentHashMap<String, String>();
+		var misses = new HashMap<String, String>();
+		markdown.forEach((key, md) -> {
+			var content = md == null ? "" : md;
+			var hash = this.hash(md);
+			hashes.put(key, hash);
+			if (!rendered.containsKey(hash) && !misses.containsKey(hash)) {
+				var html = this.lookup(hash);
+				if (html != null) {
+					rendered.put(hash, html);
+				}
+				else {
+					misses.put(hash, content);
+				}
+			}
+		});
+		misses.entrySet().parallelStream().forEach(entry -> {
+			var html = this.markdownService.convertMarkdownTemplateToHtml(entry.getValue()).trim();
+			this.store(entry.getKey(), html);
+			rendered.put(entry.getKey(), html);
+		});
+		log.info("rendered the Markdown for " + misses.size() + " of " + markdown.size()
+				+ " descriptions; the rest came from the cache");
+		var html = new HashMap<K, String>();
+		hashes.forEach((key, hash) -> html.put(key, rendered.get(hash)));
+		return html;
+	}
+
+	/**
+	 * Renders a single Markdown value, going through the cache.
+	 */
+	String render(String markdown) {
+		var content = markdown == null ? "" : markdown;
+		var hash = this.hash(markdown);
+		var html = this.lookup(hash);
+		if (html == null) {
+			html = this.markdownService.convertMarkdownTemplateToHtml(content).trim();
+			this.store(hash, html);
+		}
+		return html;
+	}
+
+	/**
+	 * @return the key the HTML rendered from the Markdown is cached under
+	 */
+	String hash(String markdown) {
+		return Hashes.sha256(this.rendererVersion + '\n' + (markdown == null ? "" : markdown));
+	}
+
+	/**
+	 * Reads back HTML that's already been rendered, without rendering it again.
+	 * @param hash the {@link #hash(String) key} of the Markdown it was rendered from
+	 */
+	String cached(String hash) {
+		var html = this.memory.get(hash);
+		if (html == null) {
+			var file = this.fileFor(hash);
+			Assert.state(file != null && file.exists(), () -> "there's no rendered description for " + hash);
+			html = this.read(file);
+		}
+		return html;
+	}
+
+	/**
+	 * Deletes the entries on disk from other renderers and, if there are more than
+	 * {@link SiteGeneratorProperties.Markdown#getMaxDiskEntries()} left, the oldest of
+	 * those that haven't been looked up since the last time.
+	 * @return how many entries were deleted
+	 */
+	@SneakyThrows
+	int prune() {
+		var current = this.directory();
+		var root = current.getParentFile();
+		if (!this.properties.getMarkdown().isDiskCache() || !root.isDirectory()) {
+			return 0;
+		}
+		var deleted = 0;
+		for (var other : Objects.requireNonNull(root.listFiles(file -> !file.equals(current)))) {
+			try (var files = Files.walk(other.toPath())) {
+				deleted += (int) files.filter(Files::isRegularFile).count();
+			}
+			FileUtils.delete(other);
+		}
+		var entries = new ArrayList<File>();
+		try (var files = Files.walk(current.toPath())) {
+			files.filter(Files::isRegularFile).forEach(path -> entries.add(path.toFile()));
+		}
+		var excess = entries.size() - this.properties.getMarkdown().getMaxDiskEntries();
+		if (excess > 0) {
+			var unused = new ArrayList<File>();
+			var modified = new HashMap<File, Long>();
+			for (var entry : entries) {
+				if (!this.used.contains(entry.getName().replace(".html", ""))) {
+					unused.add(entry);
+					modified.put(entry, entry.lastModified());
+				}
+			}
+			unused.sort(Comparator.comparing(modified::get));
+			for (var entry : unused.subList(0, Math.min(excess, unused.size()))) {
+				deleted += FileUtils.delete(entry) ? 1 : 0;
+			}
+		}
+		this.used.clear();
+		log.info("pruned " + deleted + " rendered descriptions from " + root.getAbsolutePath());
+		return deleted;
+	}
+
+	private String lookup(String hash) {
+		this.used.add(hash);
+		var html = this.memory.get(hash);
+		if (html != null) {
+			this.memoryHits.increment();
+			return html;
+		}
+		var file = this.fileFor(hash);
+		if (file != null && file.exists()) {
+			html = this.read(file);
+			this.memory.put(hash, html);
+			this.diskHits.increment();
+			return html;
+		}
+		this.misses.increment();
+		return null;
+	}
+
+	private void store(String hash, String html) {
+		this.memory.put(hash, html);
+		var file = this.fileFor(hash);
+		if (file != null) {
+			// a build that's killed halfway through mustn't leave a truncated entry
+			// behind
+			FileUtils.write(file, out -> out.write(html.getBytes(StandardCharsets.UTF_8)));
+		}
+	}
+
+	@SneakyThrows
+	private String read(File file) {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the version in the manifest of the class's jar or, failing that, the name
+	 * of the jar, which usually carries the version too
+	 */
+	private static String versionOf(Class<?> type) {
+		var version = type.getPackage() == null ? null : type.getPackage().getImplementationVersion();
+		if (version != null) {
+			return version;
+		}
+		var source = type.getProtectionDomain().getCodeSource();
+		return source == null || source.getLocation() == null ? type.getName()
+				: new File(source.getLocation().getPath()).getName();
+	}
+
+	private File fileFor(String hash) {
+		if (!this.properties.getMarkdown().isDiskCache()) {
+			return null;
+		}
+		return new File(new File(this.directory(), hash.substring(0, 2)), hash + ".html");
+	}
+
+	/**
+	 * @return the directory of this renderer's entries
+	 */
+	private File directory() {
+		var root = new File(this.properties.getOutput().getCache(), "markdown");
+		return new File(root, Hashes.sha256(this.rendererVersion).substring(0, 16));
+	}
+
+}
@@ -0,0 +1,168 @@
+package generator;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Conservative minifiers that only drop what can't change how a page renders: comments
+ * and runs of whitespace. Quoted strings, attribute values and the contents of
+ * {@code pre}, {@code textarea}, {@code script} and {@code style} elements are left
+ * exactly as they are.
+ */
+abstract class Minifiers {
+
+	private static final Set<String> RAW_ELEMENTS = Set.of("pre", "textarea", "script", "style");
+
+	static String css(String css) {
+		var out = new StringBuilder(css.length());
+		var space = false;
+		var i = 0;
+		while (i < css.length()) {
+			var c = css.charAt(i);
+			if (c == '"' || c == '\'') {
+				var end = endOfString(css, i, true);
+				appendSpace(out, space, c);
+				space = false;
+				out.append(css, i, end);
+				i = end;
+			}
+			else if (css.startsWith("/*", i)) {
+				var end = css.indexOf("*/", i + 2);
+				end = end < 0 ? css.length() : end + 2;
+				if (css.startsWith("/*!", i)) {
+					// a comment that asks to be kept, usually a license
+					appendSpace(out, space, c);
+					out.append(css, i, end);
+				}
+				space = true;
+				i = end;
+			}
+			else if (Character.isWhitespace(c)) {
+				space = true;
+				i += 1;
+			}
+			else {
+				appendSpace(out, space, c);
+				space = false;
+				if (c == '}' && out.length() > 0 && out.charAt(out.length() - 1) == ';') {
+					out.setLength(out.length() - 1);
+				}
+				out.append(c);
+				i += 1;
+			}
+		}
+		return out.toString().trim();
+	}
+
+	static String html(String html) {
+		var out = new StringBuilder(html.length());
+		var i = 0;
+		while (i < html.length()) {
+			var c = html.charAt(i);
+			if (c == '<' && html.startsWith("<!--", i) && !html.startsWith("<!--[if", i)) {
+				var end = html.indexOf("-->", i + 4);
+				i = end < 0 ? html.length() : end + 3;
+			}
+			else if (c == '<' && isTagStart(html, i + 1)) {
+				var end = endOfTag(html, i);
+				appendTag(out, html, i, end);
+				var name = tagName(html, i + 1);
+				i = end;
+				if (RAW_ELEMENTS.contains(name) && !html.startsWith("/>", end - 2)) {
+					var close = indexOfIgnoreCase(html, "</" + name, i);
+					out.append(html, i, close);
+					i = close;
+				}
+			}
+			else if (Character.isWhitespace(c)) {
+				var newline = false;
+				while (i < html.length() && Character.isWhitespace(html.charAt(i))) {
+					newline |= html.charAt(i) == '\n';
+					i += 1;
+				}
+				out.append(newline ? '\n' : ' ');
+			}
+			else {
+				out.append(c);
+				i += 1;
+			}
+		}
+		return out.toString().trim();
+	}
+
+	private static void appendSpace(StringBuilder out, boolean space, char next) {
+		if (space && out.length() > 0 && !isCssPunctuation(out.charAt(out.length() - 1)) && !isCssPunctuation(next)) {
+			out.append(' ');
+		}
+	}
+
+	private static boolean isCssPunctuation(char c) {
+		return c == '{' || c == '}' || c == ';' || c == ',';
+	}
+
+	/**
+	 * @param escapes whether a backslash escapes the next character, as it does in CSS
+	 * but not in HTML attribute values
+	 */
+	private static int endOfString(String text, int start, boolean escapes) {
+		var quote = text.charAt(start);
+		var i = start + 1;
+		while (i < text.length() && text.charAt(i) != quote) {
+			i += escapes && text.charAt(i) == '\\' ? 2 : 1;
+		}
+		return Math.min(i + 1, text.length());
+	}
+
+	private static boolean isTagStart(String html, int i) {
+		return i < html.length()
+				&& (Character.isLetter(html.charAt(i)) || html.charAt(i) == '/' || html.charAt(i) == '!');
+	}
+
+	private static int endOfTag(String html, int start) {
+		var i = start + 1;
+		while (i < html.length() && html.charAt(i) != '>') {
+			i = html.charAt(i) == '"' || html.charAt(i) == '\'' ? endOfString(html, i, false) : i + 1;
+		}
+		return Math.min(i + 1, html.length());
+	}
+
+	private static void appendTag(StringBuilder out, String html, int start, int end) {
+		var i = start;
+		while (i < end) {
+			var c = html.charAt(i);
+			if (c == '"' || c == '\'') {
+				var close = Math.min(endOfString(html, i, false), end);
+				out.append(html, i, close);
+				i = close;
+			}
+			else if (Character.isWhitespace(c)) {
+				while (i < end && Character.isWhitespace(html.charAt(i))) {
+					i += 1;
+				}
+				out.append(' ');
+			}
+			else {
+				out.append(c);
+				i += 1;
+			}
+		}
+	}
+
+	private static String tagName(String html, int start) {
+		var end = start;
+		while (end < html.length() && Character.isLetterOrDigit(html.charAt(end))) {
+			end += 1;
+		}
+		return html.substring(start, end).toLowerCase(Locale.ROOT);
+	}
+
+	private static int indexOfIgnoreCase(String text, String target, int from) {
+		for (var i = from; i <= text.length() - target.length(); i++) {
+			if (text.regionMatches(true, i, target, 0, target.length())) {
+				return i;
+			}
+		}
+		return text.length();
+	}
+
+}
@@ -0,0 +1,339 @@
+package generator;
+
+import lombok.Data;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps each build's pages and items in a generation directory of its own under
+ * {@code generations} in the output root, and publishes a finished generation by
+ * atomically pointing the {@code current} symlink at it. The configured pages and items
+ * directories become symlinks into {@code current}, so anything reading them only ever
+ * sees a complete build, and a build that fails leaves the previous one in place.
+ * <p>
+ * An incremental build starts from hard links to the files of the current generation,
+ * which is cheap and leaves that generation untouched, as long as files get replaced
+ * rather than written over in place. The generation before the current one is kept so it
+ * can be rolled back to, and older ones are deleted in the background.
+ */
+@Log4j2
+@Component
+class OutputGenerations implements DisposableBean {
+
+	private static final String STAGING = ".staging";
+
+	private static final DateTimeFormatter IDS = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'")
+			.withZone(ZoneOffset.UTC);
+
+	private final SiteGeneratorProperties properties;
+
+	private final BuildManifestStore buildManifestStore;
+
+	private final ExecutorService executor = BoundedExecutors.newFixedThreadPool(1, 16);
+
+	private final Set<String> staging = new HashSet<>();
+
+	private volatile boolean linksSupported = true;
+
+	OutputGenerations(SiteGeneratorProperties properties, BuildManifestStore buildManifestStore) {
+		this.properties = properties;
+		this.buildManifestStore = buildManifestStore;
+	}
+
+	boolean isEnabled() {
+		return this.properties.getGenerations().isEnabled();
+	}
+
+	/**
+	 * Creates a staging generation to build into.
+	 * @param incremental whether to start from the files of the current generation,
+	 * rather than from nothing
+	 */
+	@SneakyThrows
+	synchronized Generation begin(boolean incremental) {
+		this.ensureLayout();
+		var id = this.newId();
+		this.staging.add(id);
+		var staging = this.generations().resolve(id + STAGING);
+		var current = this.current();
+		var start = System.currentTimeMillis();
+		if (incremental && current != null) {
+			this.linkTree(current, staging);
+		}
+		var generation = new Generation(id, staging.resolve("pages").toFile(), staging.resolve("items").toFile());
+		FileUtils.ensureDirectoryExists(generation.getPages());
+		FileUtils.ensureDirectoryExists(generation.getItems());
+		log.info("staging generation " + id + (incremental && current != null
+				? " from " + current.getFileName() + " in " + (System.currentTimeMillis() - start) + "ms" : ""));
+		return generation;
+	}
+
+	/**
+	 * Makes the staged generation the current one.
+	 */
+	@SneakyThrows
+	synchronized void publish(Generation generation) {
+		var directory = this.generations().resolve(generation.getId());
+		this.staging.remove(generation.getId());
+		Files.move(this.generations().resolve(generation.getId() + STAGING), directory, StandardCopyOption.ATOMIC_MOVE);
+		this.point(directory);
+		log.info("published generation " + generation.getId());
+		this.executor.submit(this::collectGarbage);
+	}
+
+	/**
+	 * Deletes the staged generation, in the background.
+	 */
+	synchronized void discard(Generation generation) {
+		this.staging.remove(generation.getId());
+		var staging = this.generations().resolve(generation.getId() + STAGING).toFile();
+		this.executor.submit(() -> {
+			FileUtils.delete(staging);
+			log.info("discarded the staged generation " + generation.getId());
+		});
+	}
+
+	/**
+	 * Points {@code current} back at the newest generation before it. The build manifest
+	 * is cleared, since it describes the generation that's no longer current, so the next
+	 * incremental build renders every page again.
+	 * @return the generation that's now current
+	 */
+	@SneakyThrows
+	synchronized Generation rollback() {
+		var current = this.current();
+		Assert.state(current != null, "there's no current generation to roll back from");
+		var previous = this.published().stream()
+				.filter(directory -> directory.getFileName().toString().compareTo(current.getFileName().toString()) < 0)
+				.reduce((first, second) -> second);
+		Assert.state(previous.isPresent(), () -> "there's no generation before " + current.getFileName());
+		this.point(previous.get());
+		this.buildManifestStore.write(new BuildManifest());
+		var id = previous.get().getFileName().toString();
+		log.info("rolled back from generation " + current.getFileName() + " to " + id);
+		return new Generation(id, previous.get().resolve("pages").toFile(), previous.get().resolve("items").toFile());
+	}
+
+	/**
+	 * @return the ids of the published generations, oldest first
+	 */
+	List<String> list() {
+		return this.published().stream().map(directory -> directory.getFileName().toString())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return the id of the current generation, or {@code null} if there isn't one yet
+	 */
+	String getCurrent() {
+		var current = this.current();
+		return current == null ? null : current.getFileName().toString();
+	}
+
+	/**
+	 * Turns the configured pages and items directories into symlinks into
+	 * {@code current}, the first time around adopting whatever's already in them as the
+	 * first generation.
+	 */
+	private void ensureLayout() throws IOException {
+		var output = this.properties.getOutput();
+		var directories = Map.of("pages", output.getPages().toPath().toAbsolutePath(), "items",
+				output.getItems().toPath().toAbsolutePath());
+		var link = this.currentLink();
+		var current = this.current();
+		Path adopted = null;
+		Files.createDirectories(this.generations());
+		for (var directory : directories.entrySet()) {
+			var path = directory.getValue();
+			if (Files.isSymbolicLink(path)) {
+				continue;
+			}
+			if (Files.isDirectory(path)) {
+				adopted = adopted != null ? adopted : Files.createDirectories(this.generations().resolve(this.newId()));
+				Files.move(path, adopted.resolve(directory.getKey()));
+				log.info("adopted " + path + " into generation " + adopted.getFileName());
+			}
+			Files.createDirectories(path.getParent());
+			Files.createSymbolicLink(path, path.getParent().relativize(link.resolve(directory.getKey())));
+		}
+		if (adopted != null) {
+			for (var name : directories.keySet()) {
+				var missing = adopted.resolve(name);
+				if (!Files.exists(missing) && current != null && Files.isDirectory(current.resolve(name))) {
+					this.linkTree(current.resolve(name), missing);
+				}
+			}
+			this.point(adopted);
+		}
+	}
+
+	/**
+	 * Swaps the {@code current} symlink to the directory in a single rename, so there's
+	 * never a moment without one.
+	 */
+	private void point(Path directory) throws IOException {
+		var link = this.currentLink();
+		var temporary = link.resolveSibling(link.getFileName() + "." + directory.getFileName() + ".tmp");
+		Files.deleteIfExists(temporary);
+		Files.createSymbolicLink(temporary, link.getParent().relativize(directory));
+		Files.move(temporary, link, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Hard links every file under the source into the target, copying them instead where
+	 * the filesystem doesn't support that.
+	 */
+	private void linkTree(Path source, Path target) throws IOException {
+		Files.walkFileTree(source, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				var destination = target.resolve(source.relativize(file).toString());
+				if (!linksSupported || !createLink(file, destination)) {
+					Files.copy(file, destination, StandardCopyOption.COPY_ATTRIBUTES);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+	}
+
+	private boolean createLink(Path file, Path destination) {
+		try {
+			Files.createLink(destination, file);
+			return true;
+		}
+		catch (IOException | UnsupportedOperationException e) {
+			log.info("couldn't hard link " + destination + " to " + file + ". Falling back to copying.", e);
+			this.linksSupported = false;
+			return false;
+		}
+	}
+
+	/**
+	 * Deletes the staged generations that were never published, and all but the newest of
+	 * the published ones.
+	 */
+	private synchronized void collectGarbage() {
+		var current = this.current();
+		var keep = this.properties.getGenerations().getKeep();
+		var published = this.published();
+		var stale = new ArrayList<Path>();
+		for (var index = 0; index < published.size() - keep; index++) {
+			if (!published.get(index).equals(current)) {
+				stale.add(published.get(index));
+			}
+		}
+		try (var staged = Files.list(this.generations())) {
+			// anything staging that isn't being built into belongs to a build that died
+			staged.filter(directory -> directory.getFileName().toString().endsWith(STAGING))
+					.filter(directory -> !this.staging.contains(stripStaging(directory.getFileName().toString())))
+					.forEach(stale::add);
+		}
+		catch (IOException e) {
+			log.warn("couldn't list the generations in " + this.generations(), e);
+		}
+		stale.forEach(directory -> FileUtils.delete(directory.toFile()));
+		if (!stale.isEmpty()) {
+			log.info("deleted " + stale.size() + " old generations: "
+					+ stale.stream().map(directory -> directory.getFileName().toString()).collect(Collectors.toList()));
+		}
+	}
+
+	/**
+	 * @return the published generations, oldest first
+	 */
+	private List<Path> published() {
+		var directory = this.generations().toFile();
+		var generations = directory.listFiles(file -> file.isDirectory() && !file.getName().endsWith(STAGING));
+		return Stream.of(Objects.requireNonNullElse(generations, new File[0])).map(File::toPath)
+				.sorted(Comparator.comparing(path -> path.getFileName().toString())).collect(Collectors.toList());
+	}
+
+	private Path current() {
+		var link = this.currentLink();
+		if (!Files.isSymbolicLink(link)) {
+			return null;
+		}
+		try {
+			return link.getParent().resolve(Files.readSymbolicLink(link)).normalize();
+		}
+		catch (IOException e) {
+			log.warn("couldn't read the link " + link, e);
+			return null;
+		}
+	}
+
+	private static String stripStaging(String name) {
+		return name.substring(0, name.length() - STAGING.length());
+	}
+
+	private String newId() {
+		var id = IDS.format(Instant.now());
+		var suffix = 1;
+		var unique = id;
+		while (Files.exists(this.generations().resolve(unique))
+				|| Files.exists(this.generations().resolve(unique + STAGING))) {
+			unique = id + "-" + suffix++;
+		}
+		return unique;
+	}
+
+	private Path currentLink() {
+		return this.properties.getOutput().getRoot().toPath().toAbsolutePath().resolve("current");
+	}
+
+	private Path generations() {
+		return this.properties.getOutput().getRoot().toPath().toAbsolutePath().resolve("generations");
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdown();
+	}
+
+	@Data
+	static class Generation {
+
+		/**
+		 * The id of the generation, or {@code null} if the build writes straight into the
+		 * configured directories.
+		 */
+		private final String id;
+
+		private final File pages, items;
+
+	}
+
+}
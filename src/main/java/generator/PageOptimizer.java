@@ -0,0 +1,222 @@
+package generator;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samskivert.mustache.Template;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Minifies the rendered pages, and gives the stylesheets and scripts they link to file
+ * names that carry a hash of their content, so that those can be served with
+ * {@code Cache-Control: immutable}. Stylesheets get minified on the way, unless they
+ * already are; the scripts come out of the Grunt build minified already.
+ * <p>
+ * The fingerprinted copies are written next to where the originals get published, and the
+ * table of fingerprints is kept in the cache directory, so an asset that hasn't changed
+ * since the last build isn't minified again. The copies of earlier versions get deleted,
+ * both from the pages and, once the pages that link to the new ones have been published,
+ * from the git clone. The table only gets written then too, so a build that fails before
+ * publishing leaves the next one to render every page again.
+ * <p>
+ * Turning the optimization off after a build that had it on takes the fingerprinted
+ * copies away again, and has every page rendered again to link to the plain names.
+ */
+@Log4j2
+@Component
+class PageOptimizer {
+
+	private static final Pattern REFERENCE = Pattern.compile("(href|src)=([\"'])(/?)([\\w./-]+\\.(?:css|js))\\2");
+
+	private final SiteGeneratorProperties properties;
+
+	private final ObjectMapper objectMapper;
+
+	private final TemplateEngine templateEngine;
+
+	private volatile Map<String, String> fingerprints = Collections.emptyMap();
+
+	private volatile Map<String, Fingerprint> table = Collections.emptyMap();
+
+	private volatile Set<String> sources = Collections.emptySet();
+
+	PageOptimizer(SiteGeneratorProperties properties, ObjectMapper objectMapper, TemplateEngine templateEngine) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		this.templateEngine = templateEngine;
+	}
+
+	boolean isEnabled() {
+		return this.properties.getAssets().isOptimize();
+	}
+
+	/**
+	 * Fingerprints every stylesheet and script that the templates link to and that's in
+	 * the assets directory, writing the fingerprinted copies to the same path under the
+	 * pages directory. With the optimization turned off, there are no fingerprints, and
+	 * the copies from the last build get deleted.
+	 * @return whether the fingerprints differ from the last build's, in which case every
+	 * page that links to them has to be written again
+	 */
+	@SneakyThrows
+	boolean fingerprint(Collection<Resource> templates, File assets, File pages) {
+		var start = System.currentTimeMillis();
+		var previous = this.readTable();
+		var table = new HashMap<String, Fingerprint>();
+		var minified = 0;
+		for (var template : this.isEnabled() ? templates : Collections.<Resource>emptyList()) {
+			var matcher = REFERENCE
+					.matcher(StreamUtils.copyToString(template.getInputStream(), StandardCharsets.UTF_8));
+			while (matcher.find()) {
+				var path = matcher.group(4);
+				var source = new File(assets, path);
+				if (table.containsKey(path) || !source.isFile()) {
+					continue;
+				}
+				var content = Files.readAllBytes(source.toPath());
+				var sourceHash = Hashes.sha256(content);
+				var entry = previous.get(path);
+				if (entry != null && entry.getSourceHash().equals(sourceHash)
+						&& new File(pages, entry.getPath()).exists()) {
+					table.put(path, entry);
+					continue;
+				}
+				var output = this.minify(path, content);
+				var fingerprinted = this.fingerprintedPath(path, Hashes.sha256(output).substring(0, 16));
+				FileUtils.write(new File(pages, fingerprinted), output);
+				table.put(path, new Fingerprint(sourceHash, fingerprinted));
+				minified += 1;
+			}
+		}
+		this.fingerprints = table.entrySet().stream()
+				.collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().getPath()));
+		this.table = table;
+		var sources = new HashSet<>(previous.keySet());
+		sources.addAll(table.keySet());
+		this.sources = sources;
+		var current = this.fingerprints.values();
+		previous.values().stream().map(Fingerprint::getPath).filter(path -> !current.contains(path))
+				.forEach(path -> FileUtils.delete(new File(pages, path)));
+		var changed = !table.equals(previous);
+		log.info("fingerprinted " + table.size() + " assets in " + (System.currentTimeMillis() - start) + "ms, "
+				+ minified + " of them new or changed");
+		return changed;
+	}
+
+	/**
+	 * Deletes every fingerprinted copy of the assets that isn't current anymore from
+	 * where the pages got published, and records the fingerprints for the next build.
+	 * @return how many copies were deleted
+	 */
+	int prune(File published) {
+		var deleted = 0;
+		for (var source : this.sources) {
+			var current = this.fingerprints.get(source);
+			var dot = source.lastIndexOf('.');
+			var copies = Pattern.compile(Pattern.quote(new File(source.substring(0, dot)).getName()) + "\\.[0-9a-f]{16}"
+					+ Pattern.quote(source.substring(dot)));
+			var stale = new File(published, source).getParentFile()
+					.listFiles(file -> copies.matcher(file.getName()).matches()
+							&& (current == null || !file.equals(new File(published, current))));
+			for (var file : stale == null ? new File[0] : stale) {
+				FileUtils.delete(file);
+				deleted += 1;
+			}
+		}
+		this.writeTable(this.table);
+		if (deleted > 0) {
+			log.info("deleted " + deleted + " stale fingerprinted assets from " + published.getAbsolutePath());
+		}
+		return deleted;
+	}
+
+	/**
+	 * Renders the page into the file, optimized if that's turned on.
+	 * @return whether the file changed
+	 */
+	boolean write(Template template, Object context, File file) {
+		if (!this.isEnabled()) {
+			return this.templateEngine.render(template, context, file);
+		}
+		return FileUtils.write(file, this.optimize(template.execute(context)));
+	}
+
+	String optimize(String html) {
+		var matcher = REFERENCE.matcher(html);
+		var rewritten = new StringBuilder(html.length());
+		while (matcher.find()) {
+			var fingerprinted = this.fingerprints.get(matcher.group(4));
+			var replacement = fingerprinted == null ? matcher.group()
+					: matcher.group(1) + "=" + matcher.group(2) + matcher.group(3) + fingerprinted + matcher.group(2);
+			matcher.appendReplacement(rewritten, Matcher.quoteReplacement(replacement));
+		}
+		matcher.appendTail(rewritten);
+		return Minifiers.html(rewritten.toString());
+	}
+
+	private byte[] minify(String path, byte[] content) {
+		if (!path.endsWith(".css") || path.contains(".min.")) {
+			return content;
+		}
+		return Minifiers.css(new String(content, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private String fingerprintedPath(String path, String hash) {
+		var dot = path.lastIndexOf('.');
+		return path.substring(0, dot) + "." + hash + path.substring(dot);
+	}
+
+	private Map<String, Fingerprint> readTable() {
+		var file = this.tableFile();
+		if (file.exists()) {
+			try {
+				return this.objectMapper.readValue(file, new TypeReference<Map<String, Fingerprint>>() {
+				});
+			}
+			catch (Exception e) {
+				log.warn("couldn't read the asset fingerprints " + file.getAbsolutePath() + ". Starting from scratch.",
+						e);
+			}
+		}
+		return new HashMap<>();
+	}
+
+	@SneakyThrows
+	private void writeTable(Map<String, Fingerprint> table) {
+		FileUtils.write(this.tableFile(), this.objectMapper.writeValueAsBytes(table));
+	}
+
+	private File tableFile() {
+		return new File(FileUtils.ensureDirectoryExists(this.properties.getOutput().getCache()),
+				"asset-fingerprints.json");
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	static class Fingerprint {
+
+		private String sourceHash, path;
+
+	}
+
+}
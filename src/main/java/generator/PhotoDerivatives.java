@@ -0,0 +1,195 @@
+package generator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import java.awt.Color;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Writes a thumbnail and resized 1x and 2x copies of each episode photo next to it, as
+ * {@code <uid>-thumb.jpg}, {@code <uid>-1x.jpg} and {@code <uid>-2x.jpg}, using nothing
+ * but {@link ImageIO}. Resizing is CPU bound, so it runs on a pool of its own sized to
+ * the processors rather than on the pool that downloads the photos.
+ * <p>
+ * The resized copies are kept in the cache directory under the hash of the photo they
+ * were made from, along with their width and quality, so a photo that hasn't changed is
+ * never decoded again, however many builds or episodes it turns up in.
+ */
+@Log4j2
+@Component
+class PhotoDerivatives implements DisposableBean {
+
+	private final SiteGeneratorProperties properties;
+
+	private final ExecutorService executor;
+
+	private final Counter hits, misses;
+
+	PhotoDerivatives(SiteGeneratorProperties properties, MeterRegistry registry) {
+		this.properties = properties;
+		this.executor = BoundedExecutors.newFixedThreadPool(properties.getPhotos().getResizeConcurrency(),
+				properties.getPipeline().getCapacity());
+		this.hits = registry.counter("podcast.generator.photos.derivatives", "result", "hit");
+		this.misses = registry.counter("podcast.generator.photos.derivatives", "result", "miss");
+	}
+
+	boolean isEnabled() {
+		return this.properties.getPhotos().isDerivatives();
+	}
+
+	/**
+	 * @return where the pages can find the episode's photo, resized if that's turned on
+	 */
+	EpisodePhoto photoFor(String uid) {
+		var original = "episode-photos/" + uid + ".jpg";
+		if (!this.isEnabled()) {
+			return new EpisodePhoto(original, "/" + original + " 1x", original, "/" + original + " 1x");
+		}
+		var thumbnail = "episode-photos/" + uid + "-thumb.jpg";
+		var oneX = "episode-photos/" + uid + "-1x.jpg";
+		var twoX = "episode-photos/" + uid + "-2x.jpg";
+		return new EpisodePhoto(oneX, "/" + oneX + " 1x, /" + twoX + " 2x", thumbnail,
+				"/" + thumbnail + " 1x, /" + oneX + " 2x");
+	}
+
+	/**
+	 * @return the names of the resized copies of the episode's photo
+	 */
+	List<String> fileNames(String uid) {
+		return List.of(uid + "-thumb.jpg", uid + "-1x.jpg", uid + "-2x.jpg");
+	}
+
+	/**
+	 * Queues up the resized copies of the photo, to be written into the directory.
+	 */
+	Future<?> submit(String uid, byte[] photo, File directory) {
+		if (!this.isEnabled()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return this.executor.submit(() -> this.write(uid, photo, directory));
+	}
+
+	private void write(String uid, byte[] photo, File directory) {
+		var photos = this.properties.getPhotos();
+		var widths = new LinkedHashMap<String, Integer>();
+		widths.put(uid + "-thumb.jpg", photos.getThumbnailWidth());
+		widths.put(uid + "-1x.jpg", photos.getWidth());
+		widths.put(uid + "-2x.jpg", photos.getWidth() * 2);
+		try {
+			for (var derivative : this.derivatives(photo, widths).entrySet()) {
+				FileUtils.write(new File(directory, derivative.getKey()), derivative.getValue());
+			}
+		}
+		catch (Exception e) {
+			// the pages link to the copies either way, so the original has to do
+			log.warn("couldn't resize the photo for the podcast with the UID " + uid + ". Using the original.", e);
+			widths.keySet().forEach(name -> FileUtils.write(new File(directory, name), photo));
+		}
+	}
+
+	/**
+	 * @return the resized copies of the photo, by name, from the cache where possible
+	 */
+	private Map<String, byte[]> derivatives(byte[] photo, Map<String, Integer> widths) throws IOException {
+		var quality = this.properties.getPhotos().getQuality();
+		var hash = Hashes.sha256(photo);
+		var derivatives = new LinkedHashMap<String, byte[]>();
+		BufferedImage image = null;
+		for (var entry : widths.entrySet()) {
+			var cached = new File(this.cacheDirectory(),
+					hash + "-" + entry.getValue() + "-" + Math.round(quality * 100) + ".jpg");
+			if (cached.isFile()) {
+				this.hits.increment();
+				derivatives.put(entry.getKey(), Files.readAllBytes(cached.toPath()));
+				continue;
+			}
+			if (image == null) {
+				image = ImageIO.read(new ByteArrayInputStream(photo));
+				if (image == null) {
+					throw new IOException("there's no ImageIO reader for the photo");
+				}
+			}
+			var resized = encode(resize(image, entry.getValue()), quality);
+			// moved into place whole, since another thread may be reading the same copy
+			FileUtils.write(cached, out -> out.write(resized));
+			this.misses.increment();
+			derivatives.put(entry.getKey(), resized);
+		}
+		return derivatives;
+	}
+
+	/**
+	 * Scales the image down to the width, halving it first for as long as that doesn't
+	 * take it below the width, since a single bilinear step that big would skip most of
+	 * the pixels. An image that's narrower already is left at its own size.
+	 */
+	static BufferedImage resize(BufferedImage image, int width) {
+		var targetWidth = Math.min(width, image.getWidth());
+		var targetHeight = Math.max(1, Math.round((float) image.getHeight() * targetWidth / image.getWidth()));
+		var current = image;
+		while (current.getWidth() / 2 >= targetWidth) {
+			current = scale(current, current.getWidth() / 2, Math.max(current.getHeight() / 2, targetHeight));
+		}
+		return scale(current, targetWidth, targetHeight);
+	}
+
+	private static BufferedImage scale(BufferedImage image, int width, int height) {
+		var scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		var graphics = scaled.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			// JPEGs have no transparency, so anything transparent goes white
+			graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+		}
+		finally {
+			graphics.dispose();
+		}
+		return scaled;
+	}
+
+	private static byte[] encode(BufferedImage image, float quality) throws IOException {
+		var writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		var parameters = writer.getDefaultWriteParam();
+		parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		parameters.setCompressionQuality(quality);
+		var bytes = new ByteArrayOutputStream();
+		try (var out = ImageIO.createImageOutputStream(bytes)) {
+			writer.setOutput(out);
+			writer.write(null, new IIOImage(image, null, null), parameters);
+		}
+		finally {
+			writer.dispose();
+		}
+		return bytes.toByteArray();
+	}
+
+	private File cacheDirectory() {
+		return FileUtils.ensureDirectoryExists(new File(this.properties.getOutput().getCache(), "photo-derivatives"));
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+}
@@ -0,0 +1,201 @@
+package generator;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streams the RSS feeds straight to disk with an {@link XMLStreamWriter}, one episode at
+ * a time: {@code feed.xml} with every episode and {@code feed-latest.xml} with just the
+ * latest, for the podcast apps that poll them.
+ * <p>
+ * Each feed starts with a comment carrying a hash of the episodes it was written from,
+ * made from the hashes in the {@link BuildManifest}, so a build that leaves them alone
+ * can tell from the top of the feed that there's nothing to rewrite. The dates in the
+ * feeds come from the episodes rather than the clock for the same reason.
+ */
+@Log4j2
+@Component
+class PodcastFeedWriter {
+
+	static final String ARCHIVE = "feed.xml";
+
+	static final String LATEST = "feed-latest.xml";
+
+	private static final String ITUNES = "http://www.itunes.com/dtds/podcast-1.0.dtd";
+
+	private static final String ATOM = "http://www.w3.org/2005/Atom";
+
+	private static final DateTimeFormatter RFC_822 = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+	private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+
+	private final SiteGeneratorProperties properties;
+
+	PodcastFeedWriter(SiteGeneratorProperties properties) {
+		var feeds = properties.getFeeds();
+		Assert.state(!feeds.isEnabled() || feeds.getSiteUri() != null,
+				"the feeds need podcast.generator.feeds.site-uri to link to the site");
+		this.properties = properties;
+	}
+
+	boolean isEnabled() {
+		return this.properties.getFeeds().isEnabled();
+	}
+
+	/**
+	 * @param newestFirst every episode, newest first
+	 * @param manifest the manifest of the build, which has a hash of every episode
+	 * @return how many bytes were written
+	 */
+	long write(List<PodcastRecord> newestFirst, BuildManifest manifest, File directory) {
+		var latestCount = Math.min(this.properties.getFeeds().getLatest(), newestFirst.size());
+		return this.writeFeed(newestFirst, manifest, new File(directory, ARCHIVE))
+				+ this.writeFeed(newestFirst.subList(0, latestCount), manifest, new File(directory, LATEST));
+	}
+
+	private long writeFeed(List<PodcastRecord> episodes, BuildManifest manifest, File feed) {
+		var marker = " catalog " + this.catalogHash(episodes, manifest) + " ";
+		if (marker.equals(this.readMarker(feed))) {
+			log.info("the catalog hasn't changed since " + feed.getAbsolutePath() + " was written. Skipping...");
+			return 0;
+		}
+		var written = FileUtils.write(feed, out -> this.write(episodes, feed.getName(), marker, out));
+		log.info((written ? "wrote " : "kept ") + "the feed of " + episodes.size() + " episodes in "
+				+ feed.getAbsolutePath());
+		return written ? feed.length() : 0;
+	}
+
+	@SneakyThrows
+	private void write(List<PodcastRecord> episodes, String name, String marker, OutputStream out) {
+		var feeds = this.properties.getFeeds();
+		var site = StringUtils.trimTrailingCharacter(feeds.getSiteUri().toString(), '/');
+		var xml = this.xmlOutputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+		xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+		xml.writeCharacters("\n");
+		xml.writeComment(marker);
+		xml.writeCharacters("\n");
+		xml.writeStartElement("rss");
+		xml.writeAttribute("version", "2.0");
+		xml.writeNamespace("itunes", ITUNES);
+		xml.writeNamespace("atom", ATOM);
+		xml.writeStartElement("channel");
+		xml.writeCharacters("\n");
+		element(xml, "title", feeds.getTitle());
+		element(xml, "link", site + "/");
+		element(xml, "description", feeds.getDescription());
+		element(xml, "language", feeds.getLanguage());
+		if (!episodes.isEmpty()) {
+			element(xml, "lastBuildDate", RFC_822.format(instant(episodes.get(0).getPodcast().getDate())));
+		}
+		xml.writeEmptyElement("atom", "link", ATOM);
+		xml.writeAttribute("href", site + "/" + name);
+		xml.writeAttribute("rel", "self");
+		xml.writeAttribute("type", "application/rss+xml");
+		xml.writeCharacters("\n");
+		xml.writeEmptyElement("itunes", "image", ITUNES);
+		xml.writeAttribute("href", site + "/assets/images/a-bootiful-podcast-default-square.jpg");
+		xml.writeCharacters("\n");
+		for (var episode : episodes) {
+			this.writeItem(xml, site, episode);
+		}
+		xml.writeEndElement();
+		xml.writeEndElement();
+		xml.writeEndDocument();
+		xml.flush();
+		xml.close();
+	}
+
+	private void writeItem(XMLStreamWriter xml, String site, PodcastRecord episode) throws XMLStreamException {
+		var podcast = episode.getPodcast();
+		xml.writeStartElement("item");
+		xml.writeCharacters("\n");
+		element(xml, "title", podcast.getTitle());
+		element(xml, "link", site + "/items/" + podcast.getUid() + ".html");
+		xml.writeStartElement("guid");
+		xml.writeAttribute("isPermaLink", "false");
+		xml.writeCharacters(podcast.getUid());
+		xml.writeEndElement();
+		xml.writeCharacters("\n");
+		element(xml, "pubDate", RFC_822.format(instant(podcast.getDate())));
+		element(xml, "description", episode.getHtmlDescription());
+		// the same audio the site's player plays, whose size the catalog doesn't record
+		// and would take a request per episode to look up. The RSS Best Practices
+		// Profile asks for a length of 0 when the size can't be determined.
+		xml.writeEmptyElement("enclosure");
+		xml.writeAttribute("url",
+				this.properties.getApi().getUri() + "/podcasts/" + podcast.getUid() + "/produced-audio");
+		xml.writeAttribute("length", "0");
+		xml.writeAttribute("type", "audio/mpeg");
+		xml.writeCharacters("\n");
+		xml.writeEmptyElement("itunes", "image", ITUNES);
+		xml.writeAttribute("href", site + "/" + episode.getPhoto().getSrc());
+		xml.writeCharacters("\n");
+		xml.writeEndElement();
+		xml.writeCharacters("\n");
+	}
+
+	/**
+	 * @return the date as an {@link Instant}, which the {@link java.sql.Date}s from the
+	 * database can't give on their own
+	 */
+	private static Instant instant(Date date) {
+		return Instant.ofEpochMilli(date.getTime());
+	}
+
+	private static void element(XMLStreamWriter xml, String name, String value) throws XMLStreamException {
+		xml.writeStartElement(name);
+		xml.writeCharacters(Objects.toString(value, ""));
+		xml.writeEndElement();
+		xml.writeCharacters("\n");
+	}
+
+	/**
+	 * @return a hash of the episodes, in order, and of everything else that goes into a
+	 * feed
+	 */
+	private String catalogHash(List<PodcastRecord> episodes, BuildManifest manifest) {
+		var feeds = this.properties.getFeeds();
+		var catalog = new StringBuilder();
+		catalog.append(feeds).append(this.properties.getApi().getUri()).append('\n');
+		for (var record : episodes) {
+			var uid = record.getPodcast().getUid();
+			catalog.append(uid).append(' ').append(manifest.getEpisodes().get(uid)).append(' ')
+					.append(record.getPhoto().getSrc()).append('\n');
+		}
+		return Hashes.sha256(catalog.toString());
+	}
+
+	/**
+	 * @return the comment at the top of the feed, or {@code null} if there's no feed
+	 */
+	@SneakyThrows
+	private String readMarker(File feed) {
+		if (!feed.isFile()) {
+			return null;
+		}
+		try (var reader = Files.newBufferedReader(feed.toPath())) {
+			reader.readLine();
+			var comment = reader.readLine();
+			return comment != null && comment.startsWith("<!--") && comment.endsWith("-->")
+					? comment.substring(4, comment.length() - 3) : null;
+		}
+	}
+
+}
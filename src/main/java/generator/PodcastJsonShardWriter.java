@@ -0,0 +1,99 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Splits the catalog into one JSON shard per year plus a compact shard, without
+ * descriptions, of the latest episodes. Each shard carries a hash of its content in its
+ * name, so it can be cached forever, and an unchanged shard is never rewritten.
+ * {@code index.json} is the only file with a stable name: it points to the current
+ * shards.
+ * <p>
+ * The home page's script loads the index and the latest shard to set up the player, and
+ * only fetches a year's shard once that year's tab is shown.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+class PodcastJsonShardWriter {
+
+	static final String INDEX = "index.json";
+
+	private final ObjectMapper objectMapper;
+
+	private final PodcastJsonWriter podcastJsonWriter;
+
+	private final SiteGeneratorProperties properties;
+
+	/**
+	 * @param years the years, each with its episodes newest first
+	 * @param newestFirst every episode, newest first
+	 * @return how many bytes were written
+	 */
+	@SneakyThrows
+	long write(List<YearRollup> years, List<PodcastRecord> newestFirst, File directory) {
+		FileUtils.ensureDirectoryExists(directory);
+		var bytes = new AtomicLong();
+		var current = new HashSet<String>();
+		current.add(INDEX);
+		var latestCount = Math.min(this.properties.getJson().getLatest(), newestFirst.size());
+		var latest = this.writeShard(directory, "latest", newestFirst.subList(0, latestCount), false, bytes);
+		current.add(latest);
+		var index = new File(directory, INDEX);
+		var written = FileUtils.write(index, out -> {
+			try (var json = this.objectMapper.getFactory().createGenerator(out).useDefaultPrettyPrinter()) {
+				json.writeStartObject();
+				json.writeStringField("latest", latest);
+				json.writeArrayFieldStart("years");
+				for (var year : years) {
+					var shard = this.writeShard(directory, Integer.toString(year.getYear()), year.getEpisodes(), true,
+							bytes);
+					current.add(shard);
+					json.writeStartObject();
+					json.writeNumberField("year", year.getYear());
+					json.writeNumberField("episodes", year.getEpisodes().size());
+					json.writeStringField("uri", shard);
+					json.writeEndObject();
+				}
+				json.writeEndArray();
+				json.writeEndObject();
+			}
+		});
+		var stale = Objects.requireNonNull(directory.listFiles(file -> !current.contains(file.getName())));
+		for (var file : stale) {
+			FileUtils.delete(file);
+		}
+		log.info((written ? "wrote " : "kept ") + "the JSON shard index in " + directory.getAbsolutePath()
+				+ " and removed " + stale.length + " stale shards");
+		return bytes.get() + (written ? index.length() : 0);
+	}
+
+	@SneakyThrows
+	private String writeShard(File directory, String prefix, Collection<PodcastRecord> podcasts,
+			boolean includeDescriptions, AtomicLong bytes) {
+		var out = new ByteArrayOutputStream();
+		this.podcastJsonWriter.write(podcasts, includeDescriptions, out);
+		var content = out.toByteArray();
+		var name = prefix + "." + Hashes.sha256(content).substring(0, 16) + ".json";
+		var file = new File(directory, name);
+		if (!file.exists()) {
+			FileUtils.write(file, content);
+			bytes.addAndGet(content.length);
+			log.info("wrote the JSON shard " + file.getAbsolutePath());
+		}
+		return name;
+	}
+
+}
@@ -0,0 +1,62 @@
+package generator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
+/**
+ * Streams {@code podcasts.json} straight to disk with a {@link JsonGenerator}, one
+ * episode at a time, rather than building the whole document as a tree and a
+ * {@link String} first.
+ */
+@Component
+@RequiredArgsConstructor
+class PodcastJsonWriter {
+
+	private final ObjectMapper objectMapper;
+
+	private final SiteGeneratorProperties properties;
+
+	/**
+	 * @return whether the file was written, which it won't be if it already has exactly
+	 * this content
+	 */
+	boolean write(Collection<PodcastRecord> podcasts, File file) {
+		return FileUtils.write(file, out -> this.write(podcasts, true, out));
+	}
+
+	void write(Collection<PodcastRecord> podcasts, boolean includeDescriptions, OutputStream out) throws IOException {
+		try (var json = this.objectMapper.getFactory().createGenerator(out).useDefaultPrettyPrinter()) {
+			json.writeStartArray();
+			for (var podcast : podcasts) {
+				this.writePodcast(json, podcast, includeDescriptions);
+			}
+			json.writeEndArray();
+		}
+	}
+
+	private void writePodcast(JsonGenerator json, PodcastRecord pr, boolean includeDescription) throws IOException {
+		json.writeStartObject();
+		json.writeStringField("id", Long.toString(pr.getPodcast().getId()));
+		json.writeStringField("uid", pr.getPodcast().getUid());
+		json.writeStringField("title", pr.getPodcast().getTitle());
+		json.writeNumberField("date", pr.getPodcast().getDate().getTime());
+		json.writeStringField("episodePhotoUri", pr.getPodcast().getPodbeanPhotoUri());
+		if (includeDescription) {
+			json.writeStringField("description", pr.getHtmlDescription());
+		}
+		json.writeStringField("dateAndTime", pr.getDateAndTime()); // correct
+		// does anything else use this mistaken property?
+		json.writeStringField("dataAndTime", pr.getDateAndTime());
+		json.writeStringField("episodeUri",
+				this.properties.getApi().getUri() + "/podcasts/" + pr.getPodcast().getUid() + "/produced-audio");
+		json.writeEndObject();
+	}
+
+}
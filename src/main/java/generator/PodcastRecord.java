@@ -9,8 +9,14 @@ class PodcastRecord {
 
 	private final Podcast podcast;
 
-	private final String imageSrc, dateAndTime;
+	private final EpisodePhoto photo;
+
+	private final String dateAndTime;
 
 	private final String htmlDescription; // the HTML rendered from the Markdown
 
+	String getImageSrc() {
+		return this.photo.getSrc();
+	}
+
 }
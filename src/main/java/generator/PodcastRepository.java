@@ -0,0 +1,138 @@
+package generator;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the whole catalog in a fixed number of round trips: one query for the podcasts,
+ * one for all of their {@link Media} and one for all of their {@link Link links}. The
+ * results are stitched together in memory by podcast ID, so the number of queries stays
+ * the same no matter how many episodes there are.
+ * <p>
+ * The queries run in a read-only transaction with a fetch size, so that Postgres reads
+ * the rows through a cursor rather than buffering every one of them in the driver, and
+ * only the podcast columns the site actually uses are selected.
+ */
+@Log4j2
+@Component
+class PodcastRepository {
+
+	private final NamedParameterJdbcTemplate template;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final SiteGeneratorProperties properties;
+
+	private final MediaRowMapper mediaRowMapper;
+
+	private final LinkRowMapper linkRowMapper;
+
+	PodcastRepository(JdbcTemplate template, PlatformTransactionManager transactionManager,
+			SiteGeneratorProperties properties, MediaRowMapper mediaRowMapper, LinkRowMapper linkRowMapper) {
+		// a template of our own, so the fetch size doesn't leak into anybody else's
+		// queries
+		var streaming = new JdbcTemplate(Objects.requireNonNull(template.getDataSource()));
+		streaming.setFetchSize(properties.getSql().getFetchSize());
+		this.template = new NamedParameterJdbcTemplate(streaming);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.properties = properties;
+		this.mediaRowMapper = mediaRowMapper;
+		this.linkRowMapper = linkRowMapper;
+	}
+
+	List<Podcast> loadPodcasts() {
+		var sql = this.properties.getSql();
+		return this.load(this.project(sql.getLoadPodcasts()), sql.getLoadMedia(), sql.getLoadLinks(),
+				EmptySqlParameterSource.INSTANCE);
+	}
+
+	/**
+	 * Hands each podcast to the consumer as its row is read, instead of collecting the
+	 * whole catalog into a list first. The consumer runs on the calling thread, so a slow
+	 * consumer slows down the reading of the rows.
+	 */
+	void streamPodcasts(Consumer<Podcast> consumer) {
+		var sql = this.properties.getSql();
+		var parameters = EmptySqlParameterSource.INSTANCE;
+		this.transactionTemplate.executeWithoutResult(status -> {
+			var media = this.loadByPodcastId(sql.getLoadMedia(), parameters, this.mediaRowMapper);
+			var links = this.loadByPodcastId(sql.getLoadLinks(), parameters, this.linkRowMapper);
+			var rowMapper = new PodcastRowMapper(media, links);
+			this.template.query(this.project(sql.getLoadPodcasts()), parameters,
+					(RowCallbackHandler) resultSet -> consumer.accept(rowMapper.mapRow(resultSet, resultSet.getRow())));
+		});
+	}
+
+	/**
+	 * Loads just the podcasts with the given UIDs, still in three round trips. The
+	 * configured queries are wrapped rather than duplicated, so a UID that isn't
+	 * published won't be found here either.
+	 */
+	List<Podcast> loadPodcasts(Collection<String> uids) {
+		if (uids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		var sql = this.properties.getSql();
+		var ids = "select \"id\" from \"podcast\" where \"uid\" in (:uids)";
+		return this.load(
+				"select * from (" + this.project(sql.getLoadPodcasts()) + ") as \"filtered\" where \"uid\" in (:uids)",
+				"select * from (" + sql.getLoadMedia() + ") as \"filtered\" where \"podcast_id\" in (" + ids + ")"
+						+ " order by \"podcast_id\", \"id\"",
+				"select * from (" + sql.getLoadLinks() + ") as \"filtered\" where \"podcast_id\" in (" + ids + ")"
+						+ " order by \"podcast_id\", \"id\"",
+				new MapSqlParameterSource("uids", uids));
+	}
+
+	private List<Podcast> load(String podcastsSql, String mediaSql, String linksSql, SqlParameterSource parameters) {
+		return this.transactionTemplate.execute(status -> {
+			var media = this.loadByPodcastId(mediaSql, parameters, this.mediaRowMapper);
+			var links = this.loadByPodcastId(linksSql, parameters, this.linkRowMapper);
+			var podcasts = this.template.query(podcastsSql, parameters, new PodcastRowMapper(media, links));
+			log.info("loaded " + podcasts.size() + " podcasts with media for " + media.size() + " and links for "
+					+ links.size() + " of them");
+			return podcasts;
+		});
+	}
+
+	/**
+	 * Wraps the query so that it selects just the configured podcast columns.
+	 */
+	private String project(String sql) {
+		var columns = this.properties.getSql().getPodcastColumns();
+		if (columns.isEmpty()) {
+			return sql;
+		}
+		var projection = columns.stream().map(column -> "\"" + column + "\"").collect(Collectors.joining(", "));
+		return "select " + projection + " from (" + sql + ") as \"projected\"";
+	}
+
+	private <T> Map<Long, List<T>> loadByPodcastId(String sql, SqlParameterSource parameters, RowMapper<T> rowMapper) {
+		var results = new HashMap<Long, List<T>>();
+		this.template.query(sql, parameters,
+				(RowCallbackHandler) resultSet -> results
+						.computeIfAbsent(resultSet.getLong("podcast_id"), id -> new ArrayList<>())
+						.add(rowMapper.mapRow(resultSet, resultSet.getRow())));
+		return results;
+	}
+
+}
@@ -1,57 +1,68 @@
 package generator;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.stereotype.Component;
+import org.springframework.jdbc.support.JdbcUtils;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-@Component
+/**
+ * Maps a {@code podcast} row. The {@link Media} and {@link Link links} have already been
+ * loaded in bulk by the {@link PodcastRepository} and are looked up by podcast ID rather
+ * than queried once per row. Any column that wasn't selected maps to {@code null}.
+ */
 class PodcastRowMapper implements RowMapper<Podcast> {
 
-	private final String loadMediaSql, loadLinkSql;
+	private final Map<Long, List<Media>> mediaByPodcast;
 
-	private final JdbcTemplate template;
+	private final Map<Long, List<Link>> linksByPodcast;
 
-	private final MediaRowMapper mediaRowMapper;
+	private Set<String> columns;
 
-	private final LinkRowMapper linkRowMapper;
-
-	PodcastRowMapper(JdbcTemplate template, LinkRowMapper linkRowMapper, MediaRowMapper mediaRowMapper,
-			@Value("${podcast.generator.sql.load-media}") String loadMediaSql,
-			@Value("${podcast.generator.sql.load-links}") String loadLinkSql) {
-		this.loadMediaSql = loadMediaSql;
-		this.loadLinkSql = loadLinkSql;
-		this.template = template;
-		this.mediaRowMapper = mediaRowMapper;
-		this.linkRowMapper = linkRowMapper;
+	PodcastRowMapper(Map<Long, List<Media>> mediaByPodcast, Map<Long, List<Link>> linksByPodcast) {
+		this.mediaByPodcast = mediaByPodcast;
+		this.linksByPodcast = linksByPodcast;
 	}
 
 	@Override
 	public Podcast mapRow(ResultSet resultSet, int i) throws SQLException {
-		var description = resultSet.getString("description");
+		var description = this.getString(resultSet, "description");
 		var id = resultSet.getLong("id");
-		var title = resultSet.getString("title");
+		var title = this.getString(resultSet, "title");
 		var date = resultSet.getDate("date");
-		var notes = resultSet.getString("notes");
-		var transcript = resultSet.getString("transcript");
-		var uid = resultSet.getString("uid");
-		var podbeanMediaUri = resultSet.getString("podbean_media_uri");
-		var podbeanPhotoUri = resultSet.getString("podbean_photo_uri");
+		var notes = this.getString(resultSet, "notes");
+		var transcript = this.getString(resultSet, "transcript");
+		var uid = this.getString(resultSet, "uid");
+		var podbeanMediaUri = this.getString(resultSet, "podbean_media_uri");
+		var podbeanPhotoUri = this.getString(resultSet, "podbean_photo_uri");
 
-		var s3AudioFileName = resultSet.getString("s3_audio_file_name");
-		var s3AudioUri = resultSet.getString("s3_audio_uri");
+		var s3AudioFileName = this.getString(resultSet, "s3_audio_file_name");
+		var s3AudioUri = this.getString(resultSet, "s3_audio_uri");
 
-		var s3PhotoFileName = resultSet.getString("s3_photo_file_name");
-		var s3PhotoUri = resultSet.getString("s3_photo_uri");
+		var s3PhotoFileName = this.getString(resultSet, "s3_photo_file_name");
+		var s3PhotoUri = this.getString(resultSet, "s3_photo_uri");
 
-		var media = this.template.query(this.loadMediaSql, this.mediaRowMapper, id);
-		var links = this.template.query(this.loadLinkSql, this.linkRowMapper, id);
+		var media = this.mediaByPodcast.getOrDefault(id, Collections.emptyList());
+		var links = this.linksByPodcast.getOrDefault(id, Collections.emptyList());
 
 		return new Podcast(id, date, description, podbeanMediaUri, podbeanPhotoUri, notes, title, transcript, uid,
 				s3AudioFileName, s3AudioUri, s3PhotoFileName, s3PhotoUri, media, links);
 	}
 
+	private String getString(ResultSet resultSet, String column) throws SQLException {
+		if (this.columns == null) {
+			var metaData = resultSet.getMetaData();
+			this.columns = new HashSet<>();
+			for (var i = 1; i <= metaData.getColumnCount(); i++) {
+				this.columns.add(JdbcUtils.lookupColumnName(metaData, i).toLowerCase());
+			}
+		}
+		return this.columns.contains(column) ? resultSet.getString(column) : null;
+	}
+
 }
@@ -0,0 +1,224 @@
+package generator;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a precompressed copy of each text file in a directory tree next to it, one per
+ * configured {@link Codec}, so the static hosting can serve them as they are instead of
+ * compressing on every request. The content hash of every file that was compressed is
+ * kept in the cache directory, so a file only gets compressed again once it changes.
+ */
+@Log4j2
+@Component
+class Precompressor implements DisposableBean {
+
+	private final SiteGeneratorProperties properties;
+
+	private final ObjectMapper objectMapper;
+
+	private final Map<String, Codec> codecs;
+
+	private final ExecutorService executor;
+
+	Precompressor(SiteGeneratorProperties properties, ObjectMapper objectMapper, Collection<Codec> codecs) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		this.codecs = codecs.stream().collect(Collectors.toMap(Codec::getName, codec -> codec));
+		this.executor = BoundedExecutors.newFixedThreadPool(properties.getCompression().getConcurrency(),
+				properties.getPipeline().getCapacity());
+	}
+
+	/**
+	 * Compresses every new or changed text file under the directory, and deletes the
+	 * compressed copies of files that are gone or no longer qualify.
+	 */
+	@SneakyThrows
+	CompressionResult compress(File directory) {
+		var start = System.currentTimeMillis();
+		var codecs = this.enabledCodecs();
+		var root = directory.toPath();
+		var previous = this.readManifest();
+		var manifest = new ConcurrentHashMap<String, Entry>();
+		var futures = new ArrayList<Future<CompressionResult>>();
+		var result = new CompressionResult();
+		Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+				return dir.getFileName().toString().equals(".git") ? FileVisitResult.SKIP_SUBTREE
+						: FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				var key = root.relativize(file).toString();
+				if (isCompressedCopy(key, previous.keySet())) {
+					if (!Files.exists(file.resolveSibling(stripExtension(file.getFileName().toString())))) {
+						Files.delete(file);
+						result.setDeleted(result.getDeleted() + 1);
+					}
+				}
+				else {
+					futures.add(executor.submit(() -> compress(file, key, attrs, codecs, previous.get(key), manifest)));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+		for (var future : futures) {
+			result.add(future.get());
+		}
+		this.writeManifest(manifest);
+		log.info("precompressed " + directory.getAbsolutePath() + " with " + codecs.keySet() + " in "
+				+ (System.currentTimeMillis() - start) + "ms: " + result
+				+ String.format(", ratio %.2f", result.getRatio()));
+		return result;
+	}
+
+	/**
+	 * @return whether the file is a compressed copy written by an earlier build
+	 */
+	boolean isCompressedCopy(File file, File source) {
+		return this.properties.getCompression().isEnabled()
+				&& this.enabledCodecs().values().stream()
+						.anyMatch(codec -> file.getName().endsWith("." + codec.getExtension()))
+				&& new File(source, stripExtension(file.getName())).exists();
+	}
+
+	private boolean isCompressedCopy(String key, Collection<String> compressed) {
+		var dot = key.lastIndexOf('.');
+		return dot > 0 && compressed.contains(key.substring(0, dot))
+				&& this.codecs.values().stream().anyMatch(codec -> key.endsWith("." + codec.getExtension()));
+	}
+
+	private CompressionResult compress(Path file, String key, BasicFileAttributes attrs, Map<String, Codec> codecs,
+			Entry previous, Map<String, Entry> manifest) throws IOException {
+		var result = new CompressionResult();
+		var compression = this.properties.getCompression();
+		var copies = new HashMap<Codec, File>();
+		codecs.values().forEach(codec -> copies.put(codec,
+				file.resolveSibling(file.getFileName() + "." + codec.getExtension()).toFile()));
+		var qualifies = attrs.size() >= compression.getThreshold().toBytes()
+				&& compression.getExtensions().contains(extensionOf(file.getFileName().toString()));
+		if (!qualifies) {
+			if (previous != null) {
+				for (var copy : copies.values()) {
+					if (copy.exists()) {
+						FileUtils.delete(copy);
+						result.setDeleted(result.getDeleted() + 1);
+					}
+				}
+			}
+			return result;
+		}
+		var lastModified = attrs.lastModifiedTime().toMillis();
+		var copiesExist = copies.values().stream().allMatch(File::exists);
+		if (previous != null && copiesExist && previous.getSize() == attrs.size()
+				&& previous.getLastModified() == lastModified) {
+			manifest.put(key, previous);
+			result.setSkipped(1);
+			return result;
+		}
+		var content = Files.readAllBytes(file);
+		var hash = Hashes.sha256(content);
+		manifest.put(key, new Entry(hash, attrs.size(), lastModified));
+		if (previous != null && copiesExist && previous.getHash().equals(hash)) {
+			result.setSkipped(1);
+			return result;
+		}
+		for (var copy : copies.entrySet()) {
+			FileUtils.write(copy.getValue(), out -> copy.getKey().compress(new ByteArrayInputStream(content), out));
+			result.setCompressed(result.getCompressed() + 1);
+			result.setOriginalBytes(result.getOriginalBytes() + content.length);
+			result.setCompressedBytes(result.getCompressedBytes() + copy.getValue().length());
+		}
+		return result;
+	}
+
+	private Map<String, Codec> enabledCodecs() {
+		var enabled = new HashMap<String, Codec>();
+		for (var name : this.properties.getCompression().getCodecs()) {
+			var codec = this.codecs.get(name);
+			Assert.notNull(codec, () -> "there's no codec called '" + name + "'. Try one of " + this.codecs.keySet());
+			enabled.put(name, codec);
+		}
+		return enabled;
+	}
+
+	private static String extensionOf(String fileName) {
+		var dot = fileName.lastIndexOf('.');
+		return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase();
+	}
+
+	private static String stripExtension(String fileName) {
+		return fileName.substring(0, fileName.lastIndexOf('.'));
+	}
+
+	private Map<String, Entry> readManifest() {
+		var file = this.manifestFile();
+		if (file.exists()) {
+			try {
+				return this.objectMapper.readValue(file, new TypeReference<Map<String, Entry>>() {
+				});
+			}
+			catch (Exception e) {
+				log.warn("couldn't read the compression manifest " + file.getAbsolutePath()
+						+ ". Compressing everything again.", e);
+			}
+		}
+		return new HashMap<>();
+	}
+
+	@SneakyThrows
+	private void writeManifest(Map<String, Entry> manifest) {
+		FileUtils.write(this.manifestFile(), this.objectMapper.writeValueAsBytes(new HashMap<>(manifest)));
+	}
+
+	private File manifestFile() {
+		return new File(FileUtils.ensureDirectoryExists(this.properties.getOutput().getCache()),
+				"compression-manifest.json");
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	static class Entry {
+
+		private String hash;
+
+		private long size, lastModified;
+
+	}
+
+}
@@ -0,0 +1,16 @@
+package generator;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor
+class PublishResult {
+
+	private final int added, modified, deleted;
+
+	boolean hasChanges() {
+		return this.added + this.modified + this.deleted > 0;
+	}
+
+}
@@ -0,0 +1,23 @@
+package generator;
+
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+class ReachableAssets {
+
+	/**
+	 * The paths, relative to the site root, of everything the pages link to.
+	 */
+	private final Set<String> paths;
+
+	private int published, unreachable;
+
+	private long publishedBytes, unreachableBytes;
+
+	boolean contains(String path) {
+		return this.paths.contains(path);
+	}
+
+}
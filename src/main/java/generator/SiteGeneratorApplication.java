@@ -1,5 +1,6 @@
 package generator;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import fm.bootifulpodcast.rabbitmq.RabbitMqHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -21,7 +22,9 @@ import java.io.File;
 /**
  * The job runs both when the application starts up <em>and</em> when requests come via
  * the RabbitMQ queue defined in
- * {@link SiteGeneratorProperties.Launcher#getRequestsQueue()}.
+ * {@link SiteGeneratorProperties.Launcher#getRequestsQueue()}. Either way the request
+ * goes through the {@link BuildScheduler}, which makes sure only one build runs at a time
+ * and that a burst of requests results in a single build.
  */
 @Log4j2
 @EnableConfigurationProperties(SiteGeneratorProperties.class)
@@ -29,18 +32,18 @@ import java.io.File;
 @RequiredArgsConstructor
 public class SiteGeneratorApplication {
 
-	private final GeneratorJob generatorJob;
+	private final BuildScheduler buildScheduler;
 
 	@EventListener(ApplicationReadyEvent.class)
 	public void ready() {
-		this.generatorJob.build();
+		this.buildScheduler.request(BuildRequest.everything());
 	}
 
 	@Bean
 	@Profile("!ci") // this is activated _only_ if we're _not_ in the `ci` profile!
 	@ConditionalOnProperty(name = "online", havingValue = "true", matchIfMissing = true)
 	IntegrationFlow launchRequestHandlerIntegrationFlow(ConnectionFactory cf, SiteGeneratorProperties properties,
-			RabbitMqHelper rabbitMqHelper) {
+			RabbitMqHelper rabbitMqHelper, ObjectMapper objectMapper) {
 
 		log.info("installing a launch request handler integration flow...");
 		log.info("requests-queue: " + properties.getLauncher().getRequestsQueue());
@@ -51,7 +54,7 @@ public class SiteGeneratorApplication {
 		return IntegrationFlows //
 				.from(amqpInboundAdapter) //
 				.handle(String.class, (payload, headers) -> {
-					this.generatorJob.build();
+					this.buildScheduler.request(BuildRequest.parse(payload, objectMapper));
 					return null;
 				})//
 				.get();
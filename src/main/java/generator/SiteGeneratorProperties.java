@@ -3,9 +3,13 @@ package generator;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
 
 import java.io.File;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 @ConfigurationProperties(SiteGeneratorProperties.PODCAST_GENERATOR_PROPERTIES)
@@ -15,6 +19,12 @@ public class SiteGeneratorProperties {
 
 	private boolean disabled;
 
+	/**
+	 * Keep the output of the previous build and only rewrite what changed, instead of
+	 * wiping and regenerating everything.
+	 */
+	private boolean incremental;
+
 	private final Sql sql = new Sql();
 
 	private final Templates templates = new Templates();
@@ -25,6 +35,26 @@ public class SiteGeneratorProperties {
 
 	private final Api api = new Api();
 
+	private final Photos photos = new Photos();
+
+	private final Assets assets = new Assets();
+
+	private final Json json = new Json();
+
+	private final Items items = new Items();
+
+	private final Markdown markdown = new Markdown();
+
+	private final Reports reports = new Reports();
+
+	private final Pipeline pipeline = new Pipeline();
+
+	private final Compression compression = new Compression();
+
+	private final Generations generations = new Generations();
+
+	private final Feeds feeds = new Feeds();
+
 	@Data
 	public static class Api {
 
@@ -34,19 +64,332 @@ public class SiteGeneratorProperties {
 
 		private String password;
 
+		/**
+		 * Authenticate with a bearer token from the API's {@code /token} endpoint,
+		 * fetched again whenever the API answers {@code 401}, instead of sending the
+		 * username and password with every call.
+		 */
+		private boolean token;
+
+		/**
+		 * How long to wait for a connection to the API, or for one to come free in the
+		 * pool.
+		 */
+		private Duration connectTimeout = Duration.ofSeconds(2);
+
+		/**
+		 * How long to wait for each response from the API.
+		 */
+		private Duration readTimeout = Duration.ofSeconds(10);
+
+		/**
+		 * How many connections to the API to keep open at most.
+		 */
+		private int connections = 8;
+
+		/**
+		 * How many times to try each call that fails with an I/O error, a {@code 429} or
+		 * a {@code 5xx}, counting the first.
+		 */
+		private int attempts = 3;
+
+		/**
+		 * How long to wait before the first retry. Each retry after that waits about
+		 * twice as long, with some jitter, up to the {@link #maxBackoff}.
+		 */
+		private Duration backoff = Duration.ofMillis(200);
+
+		private Duration maxBackoff = Duration.ofSeconds(2);
+
+		/**
+		 * How many calls in a row may fail before the circuit opens, and calls fail
+		 * straight away without reaching the API.
+		 */
+		private int failureThreshold = 5;
+
+		/**
+		 * How long the circuit stays open before a single call is let through to find out
+		 * whether the API has recovered.
+		 */
+		private Duration openTimeout = Duration.ofSeconds(30);
+
+	}
+
+	@Data
+	public static class Photos {
+
+		/**
+		 * How many episode photos may be downloaded at the same time.
+		 */
+		private int concurrency = 4;
+
+		/**
+		 * How the photos get downloaded.
+		 */
+		private Engine engine = Engine.BLOCKING;
+
+		/**
+		 * How many photo requests the {@link Engine#ASYNC asynchronous engine} may have
+		 * in flight at the same time.
+		 */
+		private int permits = 16;
+
+		/**
+		 * Write a thumbnail and resized 1x and 2x copies of each photo next to it, for
+		 * the pages to offer through {@code srcset}.
+		 */
+		private boolean derivatives;
+
+		/**
+		 * The width of the thumbnails, in pixels.
+		 */
+		private int thumbnailWidth = 110;
+
+		/**
+		 * The width of the 1x copies, in pixels. The 2x copies are twice as wide.
+		 */
+		private int width = 360;
+
+		/**
+		 * The JPEG quality of the resized copies, between 0 and 1.
+		 */
+		private float quality = 0.82f;
+
+		/**
+		 * How many photos may be resized at the same time.
+		 */
+		private int resizeConcurrency = Runtime.getRuntime().availableProcessors();
+
+		public enum Engine {
+
+			/**
+			 * One blocking call through the {@link ApiClient} per photo, on a pool of
+			 * {@link #concurrency} threads, with retries and the circuit breaker.
+			 */
+			BLOCKING,
+
+			/**
+			 * Non-blocking calls through the JDK's {@link java.net.http.HttpClient} over
+			 * HTTP/2 where the API offers it, with each photo streamed straight into the
+			 * cache directory.
+			 */
+			ASYNC
+
+		}
+
+	}
+
+	@Data
+	public static class Compression {
+
+		/**
+		 * Write a precompressed copy of each text file next to it in the git clone, so
+		 * the static hosting can serve it without compressing it on every request.
+		 */
+		private boolean enabled;
+
+		/**
+		 * The names of the {@link Codec codecs} to write a copy with.
+		 */
+		private List<String> codecs = new ArrayList<>(List.of("gzip"));
+
+		/**
+		 * The extensions of the files worth compressing.
+		 */
+		private List<String> extensions = new ArrayList<>(List.of("html", "css", "js", "json", "svg", "xml", "txt"));
+
+		/**
+		 * Files smaller than this aren't worth compressing.
+		 */
+		private DataSize threshold = DataSize.ofKilobytes(1);
+
+		/**
+		 * How many files may be compressed at the same time.
+		 */
+		private int concurrency = Runtime.getRuntime().availableProcessors();
+
+	}
+
+	@Data
+	public static class Pipeline {
+
+		/**
+		 * Stream the episodes through rendering, photo fetching and page writing as they
+		 * are read from the database, instead of running each step over the whole catalog
+		 * in turn. It only keeps a summary of each episode, rather than the whole catalog
+		 * that a build of just a few episodes is diffed against, so with this on every
+		 * build is a build of the whole catalog.
+		 */
+		private boolean enabled;
+
+		/**
+		 * How many tasks may queue up for each of the build's thread pools before whoever
+		 * is submitting them has to wait.
+		 */
+		private int capacity = 256;
+
+	}
+
+	@Data
+	public static class Generations {
+
+		/**
+		 * Build each generation of the pages and items in a directory of its own, and
+		 * publish it by atomically switching a symlink over to it, instead of deleting
+		 * and regenerating them in place.
+		 */
+		private boolean enabled;
+
+		/**
+		 * How many published generations to keep, counting the current one, so there's
+		 * something to roll back to.
+		 */
+		private int keep = 2;
+
+	}
+
+	@Data
+	public static class Feeds {
+
+		/**
+		 * Write an RSS feed of every episode, {@code feed.xml}, and one of just the
+		 * latest, {@code feed-latest.xml}, to the root of the pages. Needs the
+		 * {@link #siteUri}.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Where the site is published, which the links in the feeds are relative to.
+		 */
+		private URI siteUri;
+
+		private String title = "A Bootiful Podcast";
+
+		private String description = "A Bootiful Podcast with Josh Long";
+
+		private String language = "en-us";
+
+		/**
+		 * How many episodes go into the feed of the latest episodes.
+		 */
+		private int latest = 25;
+
+	}
+
+	@Data
+	public static class Reports {
+
+		/**
+		 * How many build reports to keep for the {@code builds} Actuator endpoint.
+		 */
+		private int history = 20;
+
+	}
+
+	@Data
+	public static class Markdown {
+
+		/**
+		 * How many rendered descriptions to keep in memory.
+		 */
+		private int maxEntries = 10_000;
+
+		/**
+		 * Whether to also keep the rendered descriptions in the cache directory, so they
+		 * survive restarts.
+		 */
+		private boolean diskCache = true;
+
+		/**
+		 * How many rendered descriptions to keep in the cache directory. The ones that
+		 * weren't needed by the latest build and were written the longest ago are deleted
+		 * after each build.
+		 */
+		private int maxDiskEntries = 20_000;
+
+	}
+
+	@Data
+	public static class Items {
+
+		/**
+		 * How many episode pages may be rendered at the same time.
+		 */
+		private int concurrency = Runtime.getRuntime().availableProcessors();
+
+	}
+
+	@Data
+	public static class Json {
+
+		/**
+		 * How many episodes go into the compact shard of the latest episodes, which the
+		 * home page loads first. It should be at least the three the page features.
+		 */
+		private int latest = 10;
+
+	}
+
+	@Data
+	public static class Assets {
+
+		/**
+		 * How the static assets and rendered pages get published into the git clone.
+		 */
+		private Mode mode = Mode.SYNC;
+
+		/**
+		 * Minify the pages and the stylesheets they link to, and fingerprint the
+		 * stylesheets and scripts so they can be cached for good.
+		 */
+		private boolean optimize;
+
+		/**
+		 * Only publish the static assets that the rendered pages link to, directly or
+		 * through the stylesheets and scripts they load, and delete the rest from the git
+		 * clone.
+		 */
+		private boolean prune;
+
+		/**
+		 * Ant-style patterns, relative to the site root, for assets that always get
+		 * published because they're only ever referenced at runtime.
+		 */
+		private List<String> keep = new ArrayList<>(List.of("assets/images/favicons/**"));
+
+		public enum Mode {
+
+			/**
+			 * Copy everything again, going through the pages directory.
+			 */
+			COPY,
+
+			/**
+			 * Copy only the files whose size and modification time or content differ.
+			 */
+			SYNC,
+
+			/**
+			 * Like {@link #SYNC}, but hard link files instead of copying them where the
+			 * filesystem allows it.
+			 */
+			LINK
+
+		}
+
 	}
 
 	@Data
 	public static class Output {
 
-		private File root, items, pages, gitClone;
+		private File root, items, pages, gitClone, cache;
 
 	}
 
 	@Data
 	public static class Templates {
 
-		private Resource episodeTemplate, pageChromeTemplate, yearTemplate;
+		private Resource episodeTemplate, episodePageTemplate, pageChromeTemplate, yearTemplate;
 
 	}
 
@@ -59,6 +402,21 @@ public class SiteGeneratorProperties {
 
 		private String loadMedia;
 
+		/**
+		 * How many rows to fetch per round trip. The podcasts are read inside a
+		 * transaction, so Postgres streams them from a server-side cursor this many at a
+		 * time instead of sending the whole result at once.
+		 */
+		private int fetchSize = 100;
+
+		/**
+		 * The podcast columns to read, or all of them if it's empty. Nothing renders the
+		 * notes or the transcripts, so by default they're left in the database.
+		 */
+		private List<String> podcastColumns = new ArrayList<>(
+				List.of("id", "uid", "title", "date", "description", "podbean_media_uri", "podbean_photo_uri",
+						"s3_audio_file_name", "s3_audio_uri", "s3_photo_file_name", "s3_photo_uri"));
+
 	}
 
 	@Data
@@ -70,6 +428,11 @@ public class SiteGeneratorProperties {
 
 		private String requestsRoutingKey = this.requestsQueue;
 
+		/**
+		 * How long a build request waits for others to join it before the build starts.
+		 */
+		private Duration debounce = Duration.ofSeconds(5);
+
 	}
 
 }
@@ -0,0 +1,22 @@
+package generator;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * What one stage of a build did. Stages fill in their own item and byte counts.
+ */
+@Data
+@RequiredArgsConstructor
+class StageReport {
+
+	private final String name;
+
+	private long durationMillis, items, bytes, errors;
+
+	/**
+	 * Anything else worth knowing about what the stage did.
+	 */
+	private String summary;
+
+}
@@ -0,0 +1,173 @@
+package generator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes a directory tree into another one. In
+ * {@link SiteGeneratorProperties.Assets.Mode#COPY COPY} mode every file is copied again,
+ * replacing the one in the target, and files that aren't published get deleted from it,
+ * while anything else in the target is left alone. In the other modes only files whose
+ * size and modification time (or, failing that, content) differ are written, so a build
+ * that didn't change an asset doesn't touch it. Either way, files that have disappeared
+ * from the mirrored directories get deleted from the target. In
+ * {@link SiteGeneratorProperties.Assets.Mode#LINK LINK} mode files are hard-linked rather
+ * than copied where the filesystem allows it. The compressed copies that the
+ * {@link Precompressor} writes next to published files aren't stale as long as the file
+ * they were compressed from is still there.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+class StaticAssetPublisher {
+
+	private final SiteGeneratorProperties properties;
+
+	private final Precompressor precompressor;
+
+	private volatile boolean linksSupported = true;
+
+	/**
+	 * @param mirroredDirectories directories, relative to the source, that only ever
+	 * contain generated files, so anything in the target that isn't in the source should
+	 * go
+	 */
+	AssetSyncResult publish(File source, File target, String... mirroredDirectories) {
+		return this.publish(source, target, path -> true, mirroredDirectories);
+	}
+
+	/**
+	 * @param include which files to publish, by their path relative to the source
+	 * @param mirroredDirectories directories, relative to the source, that only ever
+	 * contain generated files, so anything in the target that isn't in the source should
+	 * go
+	 */
+	AssetSyncResult publish(File source, File target, Predicate<String> include, String... mirroredDirectories) {
+		var start = System.currentTimeMillis();
+		var mode = this.properties.getAssets().getMode();
+		var result = mode == SiteGeneratorProperties.Assets.Mode.COPY ? this.copy(source, target, include) : this
+				.sync(source.toPath(), target.toPath(), include, mode == SiteGeneratorProperties.Assets.Mode.LINK);
+		result.add(this.deleteStale(source, target, mirroredDirectories));
+		log.info("published " + source.getAbsolutePath() + " to " + target.getAbsolutePath() + " in " + mode
+				+ " mode in " + (System.currentTimeMillis() - start) + "ms: " + result);
+		return result;
+	}
+
+	@SneakyThrows
+	private AssetSyncResult copy(File source, File target, Predicate<String> include) {
+		var result = new AssetSyncResult();
+		var root = source.toPath();
+		try (var paths = Files.walk(root)) {
+			for (var path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+				var destination = target.toPath().resolve(root.relativize(path).toString());
+				if (!include.test(relativePath(root, path))) {
+					if (Files.deleteIfExists(destination)) {
+						result.setDeleted(result.getDeleted() + 1);
+					}
+					continue;
+				}
+				Files.createDirectories(destination.getParent());
+				Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+				result.setWritten(result.getWritten() + 1);
+				result.setBytesWritten(result.getBytesWritten() + Files.size(path));
+			}
+		}
+		return result;
+	}
+
+	@SneakyThrows
+	private AssetSyncResult sync(Path source, Path target, Predicate<String> include, boolean link) {
+		var result = new AssetSyncResult();
+		Files.walkFileTree(source, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				if (!include.test(relativePath(source, file))) {
+					return FileVisitResult.CONTINUE;
+				}
+				var destination = target.resolve(source.relativize(file).toString());
+				if (isUpToDate(file, attrs, destination)) {
+					result.setSkipped(result.getSkipped() + 1);
+					return FileVisitResult.CONTINUE;
+				}
+				// only directories with something published in them get created
+				Files.createDirectories(destination.getParent());
+				if (link && createLink(file, destination)) {
+					result.setLinked(result.getLinked() + 1);
+				}
+				else {
+					Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING,
+							StandardCopyOption.COPY_ATTRIBUTES);
+					result.setWritten(result.getWritten() + 1);
+					result.setBytesWritten(result.getBytesWritten() + attrs.size());
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+		return result;
+	}
+
+	private AssetSyncResult deleteStale(File source, File target, String... mirroredDirectories) {
+		var result = new AssetSyncResult();
+		for (var mirrored : mirroredDirectories) {
+			var sourceDirectory = new File(source, mirrored);
+			var stale = new File(target, mirrored).listFiles(file -> !new File(sourceDirectory, file.getName()).exists()
+					&& !this.precompressor.isCompressedCopy(file, sourceDirectory));
+			for (var file : stale == null ? new File[0] : stale) {
+				FileUtils.delete(file);
+				result.setDeleted(result.getDeleted() + 1);
+			}
+		}
+		return result;
+	}
+
+	private static String relativePath(Path root, Path file) {
+		return root.relativize(file).toString().replace(File.separatorChar, '/');
+	}
+
+	private boolean isUpToDate(Path file, BasicFileAttributes attrs, Path destination) throws IOException {
+		if (!Files.isRegularFile(destination) || Files.size(destination) != attrs.size()) {
+			return false;
+		}
+		if (Files.getLastModifiedTime(destination).equals(attrs.lastModifiedTime())) {
+			return true;
+		}
+		if (FileUtils.contentEquals(file, destination)) {
+			// same content, so line the timestamps up to make the next check cheap
+			Files.setLastModifiedTime(destination, attrs.lastModifiedTime());
+			return true;
+		}
+		return false;
+	}
+
+	private boolean createLink(Path file, Path destination) {
+		if (!this.linksSupported) {
+			return false;
+		}
+		try {
+			Files.deleteIfExists(destination);
+			Files.createLink(destination, file);
+			return true;
+		}
+		catch (IOException | UnsupportedOperationException e) {
+			log.info("couldn't hard link " + destination + " to " + file + ". Falling back to copying.", e);
+			this.linksSupported = false;
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+package generator;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles each Mustache template once and keeps it for the life of the application,
+ * which renders many builds. A template that lives on the filesystem (as it does when
+ * running from an IDE) gets recompiled when its file changes. Templates render straight
+ * to a {@link Writer} or a file, never to an intermediate {@link String}.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+class TemplateEngine {
+
+	private final Mustache.Compiler compiler;
+
+	private final Map<Resource, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+	void render(Resource resource, Object context, Writer writer) {
+		this.template(resource).execute(context, writer);
+	}
+
+	/**
+	 * @return whether the file was written, which it won't be if it already has exactly
+	 * this content
+	 */
+	boolean render(Resource resource, Object context, File file) {
+		return this.render(this.template(resource), context, file);
+	}
+
+	boolean render(Template template, Object context, File file) {
+		return FileUtils.write(file, out -> {
+			var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+			template.execute(context, writer);
+			writer.flush();
+		});
+	}
+
+	Template template(Resource resource) {
+		var lastModified = this.lastModified(resource);
+		return this.templates.compute(resource, (r, compiled) -> {
+			if (compiled != null && compiled.lastModified == lastModified) {
+				return compiled;
+			}
+			return new CompiledTemplate(this.compile(r), lastModified);
+		}).template;
+	}
+
+	@SneakyThrows
+	private Template compile(Resource resource) {
+		log.info("compiling the template " + resource.getDescription());
+		try (var reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+			return this.compiler.compile(reader);
+		}
+	}
+
+	private long lastModified(Resource resource) {
+		try {
+			return resource.isFile() ? resource.lastModified() : 0;
+		}
+		catch (Exception e) {
+			return 0;
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class CompiledTemplate {
+
+		private final Template template;
+
+		private final long lastModified;
+
+	}
+
+}
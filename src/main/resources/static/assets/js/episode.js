@@ -0,0 +1,15 @@
+/*
+    The script for the episode pages, which play the episode with the
+    browser's own audio controls and so don't need the player, or the
+    catalog, that the home page loads.
+ */
+$(document).ready(() => {
+    $('.mobile-nav-btn').on('click', () => {
+        $('.hamburger-menu').toggleClass('open');
+    });
+    $('.nav-link').attr('target', '_blank');
+    $('#scrollTop').click(() => {
+        window.scrollTo(window.scrollX, 0);
+        return false;
+    });
+});
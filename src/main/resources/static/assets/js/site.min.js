@@ -3,4 +3,177 @@ function dzsap_is_mobile(){return is_ios()||is_android_good()}function is_ios(){
   * Bootstrap v4.4.1 (https://getbootstrap.com/)
   * Copyright 2011-2019 The Bootstrap Authors (https://github.com/twbs/bootstrap/graphs/contributors)
   * Licensed under MIT (https://github.com/twbs/bootstrap/blob/master/LICENSE)
-  */(function(e,t){"object"==typeof exports&&"undefined"!=typeof module?t(exports,require("jquery"),require("popper.js")):"function"==typeof define&&define.amd?define(["exports","jquery","popper.js"],t):t((e=e||self).bootstrap={},e.jQuery,e.Popper)}(this,(function(e,t,a){"use strict";function i(e,t){for(var a=0;a<t.length;a++){var i=t[a];i.enumerable=i.enumerable||!1,i.configurable=!0,"value"in i&&(i.writable=!0),Object.defineProperty(e,i.key,i)}}function n(e,t,a){return t&&i(e.prototype,t),a&&i(e,a),e}function s(e,t,a){return t in e?Object.defineProperty(e,t,{value:a,enumerable:!0,configurable:!0,writable:!0}):e[t]=a,e}function o(e,t){var a=Object.keys(e);if(Object.getOwnPropertySymbols){var i=Object.getOwnPropertySymbols(e);t&&(i=i.filter((function(t){return Object.getOwnPropertyDescriptor(e,t).enumerable}))),a.push.apply(a,i)}return a}function r(e){for(var t=1;t<arguments.length;t++){var a=null!=arguments[t]?arguments[t]:{};t%2?o(Object(a),!0).forEach((function(t){s(e,t,a[t])})):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(a)):o(Object(a)).forEach((function(t){Object.defineProperty(e,t,Object.getOwnPropertyDescriptor(a,t))}))}return e}t=t&&t.hasOwnProperty("default")?t.default:t,a=a&&a.hasOwnProperty("default")?a.default:a;function l(e){var a=this,i=!1;return t(this).one(d.TRANSITION_END,(function(){i=!0})),setTimeout((function(){i||d.triggerTransitionEnd(a)}),e),this}var d={TRANSITION_END:"bsTransitionEnd",getUID:function(e){do{e+=~~(1e6*Math.random())}while(document.getElementById(e));return e},getSelectorFromElement:function(e){var t=e.getAttribute("data-target");if(!t||"#"===t){var a=e.getAttribute("href");t=a&&"#"!==a?a.trim():""}try{return document.querySelector(t)?t:null}catch(e){return null}},getTransitionDurationFromElement:function(e){if(!e)return 0;var a=t(e).css("transition-duration"),i=t(e).css("transition-delay"),n=parseFloat(a),s=parseFloat(i);return n||s?(a=a.split(",")[0],i=i.split(",")[0],1e3*(parseFloat(a)+parseFloat(i))):0},reflow:function(e){return e.offsetHeight},triggerTransitionEnd:function(e){t(e).trigger("transitionend")},supportsTransitionEnd:function(){return Boolean("transitionend")},isElement:function(e){return(e[0]||e).nodeType},typeCheckConfig:function(e,t,a){for(var i in a)if(Object.prototype.hasOwnProperty.call(a,i)){var n=a[i],s=t[i],o=s&&d.isElement(s)?"element":(r=s,{}.toString.call(r).match(/\s([a-z]+)/i)[1].toLowerCase());if(!new RegExp(n).test(o))throw new Error(e.toUpperCase()+': Option "'+i+'" provided type "'+o+'" but expected type "'+n+'".')}var r},findShadowRoot:function(e){if(!document.documentElement.attachShadow)return null;if("function"==typeof e.getRootNode){var t=e.getRootNode();return t instanceof ShadowRoot?t:null}return e instanceof ShadowRoot?e:e.parentNode?d.findShadowRoot(e.parentNode):null},jQueryDetection:function(){if(void 0===t)throw new TypeError("Bootstrap's JavaScript requires jQuery. jQuery must be included before Bootstrap's JavaScript.");var e=t.fn.jquery.split(" ")[0].split(".");if(e[0]<2&&e[1]<9||1===e[0]&&9===e[1]&&e[2]<1||e[0]>=4)throw new Error("Bootstrap's JavaScript requires at least jQuery v1.9.1 but less than v4.0.0")}};d.jQueryDetection(),t.fn.emulateTransitionEnd=l,t.event.special[d.TRANSITION_END]={bindType:"transitionend",delegateType:"transitionend",handle:function(e){if(t(e.target).is(this))return e.handleObj.handler.apply(this,arguments)}};var c=t.fn.alert,u={CLOSE:"close.bs.alert",CLOSED:"closed.bs.alert",CLICK_DATA_API:"click.bs.alert.data-api"},p="alert",h="fade",_="show",f=function(){function e(e){this._element=e}var a=e.prototype;return a.close=function(e){var t=this._element;e&&(t=this._getRootElement(e)),this._triggerCloseEvent(t).isDefaultPrevented()||this._removeElement(t)},a.dispose=function(){t.removeData(this._element,"bs.alert"),this._element=null},a._getRootElement=function(e){var a=d.getSelectorFromElement(e),i=!1;return a&&(i=document.querySelector(a)),i||(i=t(e).closest("."+p)[0]),i},a._triggerCloseEvent=function(e){var a=t.Event(u.CLOSE);return t(e).trigger(a),a},a._removeElement=function(e){var a=this;if(t(e).removeClass(_),t(e).hasClass(h)){var i=d.getTransitionDurationFromElement(e);t(e).one(d.TRANSITION_END,(function(t){return a._destroyElement(e,t)})).emulateTransitionEnd(i)}else this._destroyElement(e)},a._destroyElement=function(e){t(e).detach().trigger(u.CLOSED).remove()},e._jQueryInterface=function(a){return this.each((function(){var i=t(this),n=i.data("bs.alert");n||(n=new e(this),i.data("bs.alert",n)),"close"===a&&n[a](this)}))},e._handleDismiss=function(e){return function(t){t&&t.preventDefault(),e.close(this)}},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}}]),e}();t(document).on(u.CLICK_DATA_API,'[data-dismiss="alert"]',f._handleDismiss(new f)),t.fn.alert=f._jQueryInterface,t.fn.alert.Constructor=f,t.fn.alert.noConflict=function(){return t.fn.alert=c,f._jQueryInterface};var m=t.fn.button,g="active",v="btn",y="focus",w='[data-toggle^="button"]',b='[data-toggle="buttons"]',k='[data-toggle="button"]',C='[data-toggle="buttons"] .btn',x='input:not([type="hidden"])',E=".active",T=".btn",z={CLICK_DATA_API:"click.bs.button.data-api",FOCUS_BLUR_DATA_API:"focus.bs.button.data-api blur.bs.button.data-api",LOAD_DATA_API:"load.bs.button.data-api"},S=function(){function e(e){this._element=e}var a=e.prototype;return a.toggle=function(){var e=!0,a=!0,i=t(this._element).closest(b)[0];if(i){var n=this._element.querySelector(x);if(n){if("radio"===n.type)if(n.checked&&this._element.classList.contains(g))e=!1;else{var s=i.querySelector(E);s&&t(s).removeClass(g)}else"checkbox"===n.type?"LABEL"===this._element.tagName&&n.checked===this._element.classList.contains(g)&&(e=!1):e=!1;e&&(n.checked=!this._element.classList.contains(g),t(n).trigger("change")),n.focus(),a=!1}}this._element.hasAttribute("disabled")||this._element.classList.contains("disabled")||(a&&this._element.setAttribute("aria-pressed",!this._element.classList.contains(g)),e&&t(this._element).toggleClass(g))},a.dispose=function(){t.removeData(this._element,"bs.button"),this._element=null},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.button");i||(i=new e(this),t(this).data("bs.button",i)),"toggle"===a&&i[a]()}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}}]),e}();t(document).on(z.CLICK_DATA_API,w,(function(e){var a=e.target;if(t(a).hasClass(v)||(a=t(a).closest(T)[0]),!a||a.hasAttribute("disabled")||a.classList.contains("disabled"))e.preventDefault();else{var i=a.querySelector(x);if(i&&(i.hasAttribute("disabled")||i.classList.contains("disabled")))return void e.preventDefault();S._jQueryInterface.call(t(a),"toggle")}})).on(z.FOCUS_BLUR_DATA_API,w,(function(e){var a=t(e.target).closest(T)[0];t(a).toggleClass(y,/^focus(in)?$/.test(e.type))})),t(window).on(z.LOAD_DATA_API,(function(){for(var e=[].slice.call(document.querySelectorAll(C)),t=0,a=e.length;t<a;t++){var i=e[t],n=i.querySelector(x);n.checked||n.hasAttribute("checked")?i.classList.add(g):i.classList.remove(g)}for(var s=0,o=(e=[].slice.call(document.querySelectorAll(k))).length;s<o;s++){var r=e[s];"true"===r.getAttribute("aria-pressed")?r.classList.add(g):r.classList.remove(g)}})),t.fn.button=S._jQueryInterface,t.fn.button.Constructor=S,t.fn.button.noConflict=function(){return t.fn.button=m,S._jQueryInterface};var A="carousel",I=".bs.carousel",D=t.fn[A],P={interval:5e3,keyboard:!0,slide:!1,pause:"hover",wrap:!0,touch:!0},O={interval:"(number|boolean)",keyboard:"boolean",slide:"(boolean|string)",pause:"(string|boolean)",wrap:"boolean",touch:"boolean"},N="next",q="prev",R="left",L="right",M={SLIDE:"slide.bs.carousel",SLID:"slid.bs.carousel",KEYDOWN:"keydown.bs.carousel",MOUSEENTER:"mouseenter.bs.carousel",MOUSELEAVE:"mouseleave.bs.carousel",TOUCHSTART:"touchstart.bs.carousel",TOUCHMOVE:"touchmove.bs.carousel",TOUCHEND:"touchend.bs.carousel",POINTERDOWN:"pointerdown.bs.carousel",POINTERUP:"pointerup.bs.carousel",DRAG_START:"dragstart.bs.carousel",LOAD_DATA_API:"load.bs.carousel.data-api",CLICK_DATA_API:"click.bs.carousel.data-api"},j="carousel",$="active",W="slide",H="carousel-item-right",B="carousel-item-left",F="carousel-item-next",U="carousel-item-prev",Q="pointer-event",V=".active",K=".active.carousel-item",Y=".carousel-item",X=".carousel-item img",G=".carousel-item-next, .carousel-item-prev",J=".carousel-indicators",Z="[data-slide], [data-slide-to]",ee='[data-ride="carousel"]',te={TOUCH:"touch",PEN:"pen"},ae=function(){function e(e,t){this._items=null,this._interval=null,this._activeElement=null,this._isPaused=!1,this._isSliding=!1,this.touchTimeout=null,this.touchStartX=0,this.touchDeltaX=0,this._config=this._getConfig(t),this._element=e,this._indicatorsElement=this._element.querySelector(J),this._touchSupported="ontouchstart"in document.documentElement||navigator.maxTouchPoints>0,this._pointerEvent=Boolean(window.PointerEvent||window.MSPointerEvent),this._addEventListeners()}var a=e.prototype;return a.next=function(){this._isSliding||this._slide(N)},a.nextWhenVisible=function(){!document.hidden&&t(this._element).is(":visible")&&"hidden"!==t(this._element).css("visibility")&&this.next()},a.prev=function(){this._isSliding||this._slide(q)},a.pause=function(e){e||(this._isPaused=!0),this._element.querySelector(G)&&(d.triggerTransitionEnd(this._element),this.cycle(!0)),clearInterval(this._interval),this._interval=null},a.cycle=function(e){e||(this._isPaused=!1),this._interval&&(clearInterval(this._interval),this._interval=null),this._config.interval&&!this._isPaused&&(this._interval=setInterval((document.visibilityState?this.nextWhenVisible:this.next).bind(this),this._config.interval))},a.to=function(e){var a=this;this._activeElement=this._element.querySelector(K);var i=this._getItemIndex(this._activeElement);if(!(e>this._items.length-1||e<0))if(this._isSliding)t(this._element).one(M.SLID,(function(){return a.to(e)}));else{if(i===e)return this.pause(),void this.cycle();var n=e>i?N:q;this._slide(n,this._items[e])}},a.dispose=function(){t(this._element).off(I),t.removeData(this._element,"bs.carousel"),this._items=null,this._config=null,this._element=null,this._interval=null,this._isPaused=null,this._isSliding=null,this._activeElement=null,this._indicatorsElement=null},a._getConfig=function(e){return e=r({},P,{},e),d.typeCheckConfig(A,e,O),e},a._handleSwipe=function(){var e=Math.abs(this.touchDeltaX);if(!(e<=40)){var t=e/this.touchDeltaX;this.touchDeltaX=0,t>0&&this.prev(),t<0&&this.next()}},a._addEventListeners=function(){var e=this;this._config.keyboard&&t(this._element).on(M.KEYDOWN,(function(t){return e._keydown(t)})),"hover"===this._config.pause&&t(this._element).on(M.MOUSEENTER,(function(t){return e.pause(t)})).on(M.MOUSELEAVE,(function(t){return e.cycle(t)})),this._config.touch&&this._addTouchEventListeners()},a._addTouchEventListeners=function(){var e=this;if(this._touchSupported){var a=function(t){e._pointerEvent&&te[t.originalEvent.pointerType.toUpperCase()]?e.touchStartX=t.originalEvent.clientX:e._pointerEvent||(e.touchStartX=t.originalEvent.touches[0].clientX)},i=function(t){e._pointerEvent&&te[t.originalEvent.pointerType.toUpperCase()]&&(e.touchDeltaX=t.originalEvent.clientX-e.touchStartX),e._handleSwipe(),"hover"===e._config.pause&&(e.pause(),e.touchTimeout&&clearTimeout(e.touchTimeout),e.touchTimeout=setTimeout((function(t){return e.cycle(t)}),500+e._config.interval))};t(this._element.querySelectorAll(X)).on(M.DRAG_START,(function(e){return e.preventDefault()})),this._pointerEvent?(t(this._element).on(M.POINTERDOWN,(function(e){return a(e)})),t(this._element).on(M.POINTERUP,(function(e){return i(e)})),this._element.classList.add(Q)):(t(this._element).on(M.TOUCHSTART,(function(e){return a(e)})),t(this._element).on(M.TOUCHMOVE,(function(t){return function(t){t.originalEvent.touches&&t.originalEvent.touches.length>1?e.touchDeltaX=0:e.touchDeltaX=t.originalEvent.touches[0].clientX-e.touchStartX}(t)})),t(this._element).on(M.TOUCHEND,(function(e){return i(e)})))}},a._keydown=function(e){if(!/input|textarea/i.test(e.target.tagName))switch(e.which){case 37:e.preventDefault(),this.prev();break;case 39:e.preventDefault(),this.next()}},a._getItemIndex=function(e){return this._items=e&&e.parentNode?[].slice.call(e.parentNode.querySelectorAll(Y)):[],this._items.indexOf(e)},a._getItemByDirection=function(e,t){var a=e===N,i=e===q,n=this._getItemIndex(t),s=this._items.length-1;if((i&&0===n||a&&n===s)&&!this._config.wrap)return t;var o=(n+(e===q?-1:1))%this._items.length;return-1===o?this._items[this._items.length-1]:this._items[o]},a._triggerSlideEvent=function(e,a){var i=this._getItemIndex(e),n=this._getItemIndex(this._element.querySelector(K)),s=t.Event(M.SLIDE,{relatedTarget:e,direction:a,from:n,to:i});return t(this._element).trigger(s),s},a._setActiveIndicatorElement=function(e){if(this._indicatorsElement){var a=[].slice.call(this._indicatorsElement.querySelectorAll(V));t(a).removeClass($);var i=this._indicatorsElement.children[this._getItemIndex(e)];i&&t(i).addClass($)}},a._slide=function(e,a){var i,n,s,o=this,r=this._element.querySelector(K),l=this._getItemIndex(r),c=a||r&&this._getItemByDirection(e,r),u=this._getItemIndex(c),p=Boolean(this._interval);if(e===N?(i=B,n=F,s=R):(i=H,n=U,s=L),c&&t(c).hasClass($))this._isSliding=!1;else if(!this._triggerSlideEvent(c,s).isDefaultPrevented()&&r&&c){this._isSliding=!0,p&&this.pause(),this._setActiveIndicatorElement(c);var h=t.Event(M.SLID,{relatedTarget:c,direction:s,from:l,to:u});if(t(this._element).hasClass(W)){t(c).addClass(n),d.reflow(c),t(r).addClass(i),t(c).addClass(i);var _=parseInt(c.getAttribute("data-interval"),10);_?(this._config.defaultInterval=this._config.defaultInterval||this._config.interval,this._config.interval=_):this._config.interval=this._config.defaultInterval||this._config.interval;var f=d.getTransitionDurationFromElement(r);t(r).one(d.TRANSITION_END,(function(){t(c).removeClass(i+" "+n).addClass($),t(r).removeClass($+" "+n+" "+i),o._isSliding=!1,setTimeout((function(){return t(o._element).trigger(h)}),0)})).emulateTransitionEnd(f)}else t(r).removeClass($),t(c).addClass($),this._isSliding=!1,t(this._element).trigger(h);p&&this.cycle()}},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.carousel"),n=r({},P,{},t(this).data());"object"==typeof a&&(n=r({},n,{},a));var s="string"==typeof a?a:n.slide;if(i||(i=new e(this,n),t(this).data("bs.carousel",i)),"number"==typeof a)i.to(a);else if("string"==typeof s){if(void 0===i[s])throw new TypeError('No method named "'+s+'"');i[s]()}else n.interval&&n.ride&&(i.pause(),i.cycle())}))},e._dataApiClickHandler=function(a){var i=d.getSelectorFromElement(this);if(i){var n=t(i)[0];if(n&&t(n).hasClass(j)){var s=r({},t(n).data(),{},t(this).data()),o=this.getAttribute("data-slide-to");o&&(s.interval=!1),e._jQueryInterface.call(t(n),s),o&&t(n).data("bs.carousel").to(o),a.preventDefault()}}},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return P}}]),e}();t(document).on(M.CLICK_DATA_API,Z,ae._dataApiClickHandler),t(window).on(M.LOAD_DATA_API,(function(){for(var e=[].slice.call(document.querySelectorAll(ee)),a=0,i=e.length;a<i;a++){var n=t(e[a]);ae._jQueryInterface.call(n,n.data())}})),t.fn[A]=ae._jQueryInterface,t.fn[A].Constructor=ae,t.fn[A].noConflict=function(){return t.fn[A]=D,ae._jQueryInterface};var ie="collapse",ne=t.fn[ie],se={toggle:!0,parent:""},oe={toggle:"boolean",parent:"(string|element)"},re={SHOW:"show.bs.collapse",SHOWN:"shown.bs.collapse",HIDE:"hide.bs.collapse",HIDDEN:"hidden.bs.collapse",CLICK_DATA_API:"click.bs.collapse.data-api"},le="show",de="collapse",ce="collapsing",ue="collapsed",pe="width",he="height",_e=".show, .collapsing",fe='[data-toggle="collapse"]',me=function(){function e(e,t){this._isTransitioning=!1,this._element=e,this._config=this._getConfig(t),this._triggerArray=[].slice.call(document.querySelectorAll('[data-toggle="collapse"][href="#'+e.id+'"],[data-toggle="collapse"][data-target="#'+e.id+'"]'));for(var a=[].slice.call(document.querySelectorAll(fe)),i=0,n=a.length;i<n;i++){var s=a[i],o=d.getSelectorFromElement(s),r=[].slice.call(document.querySelectorAll(o)).filter((function(t){return t===e}));null!==o&&r.length>0&&(this._selector=o,this._triggerArray.push(s))}this._parent=this._config.parent?this._getParent():null,this._config.parent||this._addAriaAndCollapsedClass(this._element,this._triggerArray),this._config.toggle&&this.toggle()}var a=e.prototype;return a.toggle=function(){t(this._element).hasClass(le)?this.hide():this.show()},a.show=function(){var a,i,n=this;if(!this._isTransitioning&&!t(this._element).hasClass(le)&&(this._parent&&0===(a=[].slice.call(this._parent.querySelectorAll(_e)).filter((function(e){return"string"==typeof n._config.parent?e.getAttribute("data-parent")===n._config.parent:e.classList.contains(de)}))).length&&(a=null),!(a&&(i=t(a).not(this._selector).data("bs.collapse"))&&i._isTransitioning))){var s=t.Event(re.SHOW);if(t(this._element).trigger(s),!s.isDefaultPrevented()){a&&(e._jQueryInterface.call(t(a).not(this._selector),"hide"),i||t(a).data("bs.collapse",null));var o=this._getDimension();t(this._element).removeClass(de).addClass(ce),this._element.style[o]=0,this._triggerArray.length&&t(this._triggerArray).removeClass(ue).attr("aria-expanded",!0),this.setTransitioning(!0);var r="scroll"+(o[0].toUpperCase()+o.slice(1)),l=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,(function(){t(n._element).removeClass(ce).addClass(de).addClass(le),n._element.style[o]="",n.setTransitioning(!1),t(n._element).trigger(re.SHOWN)})).emulateTransitionEnd(l),this._element.style[o]=this._element[r]+"px"}}},a.hide=function(){var e=this;if(!this._isTransitioning&&t(this._element).hasClass(le)){var a=t.Event(re.HIDE);if(t(this._element).trigger(a),!a.isDefaultPrevented()){var i=this._getDimension();this._element.style[i]=this._element.getBoundingClientRect()[i]+"px",d.reflow(this._element),t(this._element).addClass(ce).removeClass(de).removeClass(le);var n=this._triggerArray.length;if(n>0)for(var s=0;s<n;s++){var o=this._triggerArray[s],r=d.getSelectorFromElement(o);if(null!==r)t([].slice.call(document.querySelectorAll(r))).hasClass(le)||t(o).addClass(ue).attr("aria-expanded",!1)}this.setTransitioning(!0);this._element.style[i]="";var l=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,(function(){e.setTransitioning(!1),t(e._element).removeClass(ce).addClass(de).trigger(re.HIDDEN)})).emulateTransitionEnd(l)}}},a.setTransitioning=function(e){this._isTransitioning=e},a.dispose=function(){t.removeData(this._element,"bs.collapse"),this._config=null,this._parent=null,this._element=null,this._triggerArray=null,this._isTransitioning=null},a._getConfig=function(e){return(e=r({},se,{},e)).toggle=Boolean(e.toggle),d.typeCheckConfig(ie,e,oe),e},a._getDimension=function(){return t(this._element).hasClass(pe)?pe:he},a._getParent=function(){var a,i=this;d.isElement(this._config.parent)?(a=this._config.parent,void 0!==this._config.parent.jquery&&(a=this._config.parent[0])):a=document.querySelector(this._config.parent);var n='[data-toggle="collapse"][data-parent="'+this._config.parent+'"]',s=[].slice.call(a.querySelectorAll(n));return t(s).each((function(t,a){i._addAriaAndCollapsedClass(e._getTargetFromElement(a),[a])})),a},a._addAriaAndCollapsedClass=function(e,a){var i=t(e).hasClass(le);a.length&&t(a).toggleClass(ue,!i).attr("aria-expanded",i)},e._getTargetFromElement=function(e){var t=d.getSelectorFromElement(e);return t?document.querySelector(t):null},e._jQueryInterface=function(a){return this.each((function(){var i=t(this),n=i.data("bs.collapse"),s=r({},se,{},i.data(),{},"object"==typeof a&&a?a:{});if(!n&&s.toggle&&/show|hide/.test(a)&&(s.toggle=!1),n||(n=new e(this,s),i.data("bs.collapse",n)),"string"==typeof a){if(void 0===n[a])throw new TypeError('No method named "'+a+'"');n[a]()}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return se}}]),e}();t(document).on(re.CLICK_DATA_API,fe,(function(e){"A"===e.currentTarget.tagName&&e.preventDefault();var a=t(this),i=d.getSelectorFromElement(this),n=[].slice.call(document.querySelectorAll(i));t(n).each((function(){var e=t(this),i=e.data("bs.collapse")?"toggle":a.data();me._jQueryInterface.call(e,i)}))})),t.fn[ie]=me._jQueryInterface,t.fn[ie].Constructor=me,t.fn[ie].noConflict=function(){return t.fn[ie]=ne,me._jQueryInterface};var ge="dropdown",ve=t.fn[ge],ye=new RegExp("38|40|27"),we={HIDE:"hide.bs.dropdown",HIDDEN:"hidden.bs.dropdown",SHOW:"show.bs.dropdown",SHOWN:"shown.bs.dropdown",CLICK:"click.bs.dropdown",CLICK_DATA_API:"click.bs.dropdown.data-api",KEYDOWN_DATA_API:"keydown.bs.dropdown.data-api",KEYUP_DATA_API:"keyup.bs.dropdown.data-api"},be="disabled",ke="show",Ce="dropup",xe="dropright",Ee="dropleft",Te="dropdown-menu-right",ze="position-static",Se='[data-toggle="dropdown"]',Ae=".dropdown form",Ie=".dropdown-menu",De=".navbar-nav",Pe=".dropdown-menu .dropdown-item:not(.disabled):not(:disabled)",Oe="top-start",Ne="top-end",qe="bottom-start",Re="bottom-end",Le="right-start",Me="left-start",je={offset:0,flip:!0,boundary:"scrollParent",reference:"toggle",display:"dynamic",popperConfig:null},$e={offset:"(number|string|function)",flip:"boolean",boundary:"(string|element)",reference:"(string|element)",display:"string",popperConfig:"(null|object)"},We=function(){function e(e,t){this._element=e,this._popper=null,this._config=this._getConfig(t),this._menu=this._getMenuElement(),this._inNavbar=this._detectNavbar(),this._addEventListeners()}var i=e.prototype;return i.toggle=function(){if(!this._element.disabled&&!t(this._element).hasClass(be)){var a=t(this._menu).hasClass(ke);e._clearMenus(),a||this.show(!0)}},i.show=function(i){if(void 0===i&&(i=!1),!(this._element.disabled||t(this._element).hasClass(be)||t(this._menu).hasClass(ke))){var n={relatedTarget:this._element},s=t.Event(we.SHOW,n),o=e._getParentFromElement(this._element);if(t(o).trigger(s),!s.isDefaultPrevented()){if(!this._inNavbar&&i){if(void 0===a)throw new TypeError("Bootstrap's dropdowns require Popper.js (https://popper.js.org/)");var r=this._element;"parent"===this._config.reference?r=o:d.isElement(this._config.reference)&&(r=this._config.reference,void 0!==this._config.reference.jquery&&(r=this._config.reference[0])),"scrollParent"!==this._config.boundary&&t(o).addClass(ze),this._popper=new a(r,this._menu,this._getPopperConfig())}"ontouchstart"in document.documentElement&&0===t(o).closest(De).length&&t(document.body).children().on("mouseover",null,t.noop),this._element.focus(),this._element.setAttribute("aria-expanded",!0),t(this._menu).toggleClass(ke),t(o).toggleClass(ke).trigger(t.Event(we.SHOWN,n))}}},i.hide=function(){if(!this._element.disabled&&!t(this._element).hasClass(be)&&t(this._menu).hasClass(ke)){var a={relatedTarget:this._element},i=t.Event(we.HIDE,a),n=e._getParentFromElement(this._element);t(n).trigger(i),i.isDefaultPrevented()||(this._popper&&this._popper.destroy(),t(this._menu).toggleClass(ke),t(n).toggleClass(ke).trigger(t.Event(we.HIDDEN,a)))}},i.dispose=function(){t.removeData(this._element,"bs.dropdown"),t(this._element).off(".bs.dropdown"),this._element=null,this._menu=null,null!==this._popper&&(this._popper.destroy(),this._popper=null)},i.update=function(){this._inNavbar=this._detectNavbar(),null!==this._popper&&this._popper.scheduleUpdate()},i._addEventListeners=function(){var e=this;t(this._element).on(we.CLICK,(function(t){t.preventDefault(),t.stopPropagation(),e.toggle()}))},i._getConfig=function(e){return e=r({},this.constructor.Default,{},t(this._element).data(),{},e),d.typeCheckConfig(ge,e,this.constructor.DefaultType),e},i._getMenuElement=function(){if(!this._menu){var t=e._getParentFromElement(this._element);t&&(this._menu=t.querySelector(Ie))}return this._menu},i._getPlacement=function(){var e=t(this._element.parentNode),a=qe;return e.hasClass(Ce)?(a=Oe,t(this._menu).hasClass(Te)&&(a=Ne)):e.hasClass(xe)?a=Le:e.hasClass(Ee)?a=Me:t(this._menu).hasClass(Te)&&(a=Re),a},i._detectNavbar=function(){return t(this._element).closest(".navbar").length>0},i._getOffset=function(){var e=this,t={};return"function"==typeof this._config.offset?t.fn=function(t){return t.offsets=r({},t.offsets,{},e._config.offset(t.offsets,e._element)||{}),t}:t.offset=this._config.offset,t},i._getPopperConfig=function(){var e={placement:this._getPlacement(),modifiers:{offset:this._getOffset(),flip:{enabled:this._config.flip},preventOverflow:{boundariesElement:this._config.boundary}}};return"static"===this._config.display&&(e.modifiers.applyStyle={enabled:!1}),r({},e,{},this._config.popperConfig)},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.dropdown");if(i||(i=new e(this,"object"==typeof a?a:null),t(this).data("bs.dropdown",i)),"string"==typeof a){if(void 0===i[a])throw new TypeError('No method named "'+a+'"');i[a]()}}))},e._clearMenus=function(a){if(!a||3!==a.which&&("keyup"!==a.type||9===a.which))for(var i=[].slice.call(document.querySelectorAll(Se)),n=0,s=i.length;n<s;n++){var o=e._getParentFromElement(i[n]),r=t(i[n]).data("bs.dropdown"),l={relatedTarget:i[n]};if(a&&"click"===a.type&&(l.clickEvent=a),r){var d=r._menu;if(t(o).hasClass(ke)&&!(a&&("click"===a.type&&/input|textarea/i.test(a.target.tagName)||"keyup"===a.type&&9===a.which)&&t.contains(o,a.target))){var c=t.Event(we.HIDE,l);t(o).trigger(c),c.isDefaultPrevented()||("ontouchstart"in document.documentElement&&t(document.body).children().off("mouseover",null,t.noop),i[n].setAttribute("aria-expanded","false"),r._popper&&r._popper.destroy(),t(d).removeClass(ke),t(o).removeClass(ke).trigger(t.Event(we.HIDDEN,l)))}}}},e._getParentFromElement=function(e){var t,a=d.getSelectorFromElement(e);return a&&(t=document.querySelector(a)),t||e.parentNode},e._dataApiKeydownHandler=function(a){if((/input|textarea/i.test(a.target.tagName)?!(32===a.which||27!==a.which&&(40!==a.which&&38!==a.which||t(a.target).closest(Ie).length)):ye.test(a.which))&&(a.preventDefault(),a.stopPropagation(),!this.disabled&&!t(this).hasClass(be))){var i=e._getParentFromElement(this),n=t(i).hasClass(ke);if(n||27!==a.which)if(n&&(!n||27!==a.which&&32!==a.which)){var s=[].slice.call(i.querySelectorAll(Pe)).filter((function(e){return t(e).is(":visible")}));if(0!==s.length){var o=s.indexOf(a.target);38===a.which&&o>0&&o--,40===a.which&&o<s.length-1&&o++,o<0&&(o=0),s[o].focus()}}else{if(27===a.which){var r=i.querySelector(Se);t(r).trigger("focus")}t(this).trigger("click")}}},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return je}},{key:"DefaultType",get:function(){return $e}}]),e}();t(document).on(we.KEYDOWN_DATA_API,Se,We._dataApiKeydownHandler).on(we.KEYDOWN_DATA_API,Ie,We._dataApiKeydownHandler).on(we.CLICK_DATA_API+" "+we.KEYUP_DATA_API,We._clearMenus).on(we.CLICK_DATA_API,Se,(function(e){e.preventDefault(),e.stopPropagation(),We._jQueryInterface.call(t(this),"toggle")})).on(we.CLICK_DATA_API,Ae,(function(e){e.stopPropagation()})),t.fn[ge]=We._jQueryInterface,t.fn[ge].Constructor=We,t.fn[ge].noConflict=function(){return t.fn[ge]=ve,We._jQueryInterface};var He=t.fn.modal,Be={backdrop:!0,keyboard:!0,focus:!0,show:!0},Fe={backdrop:"(boolean|string)",keyboard:"boolean",focus:"boolean",show:"boolean"},Ue={HIDE:"hide.bs.modal",HIDE_PREVENTED:"hidePrevented.bs.modal",HIDDEN:"hidden.bs.modal",SHOW:"show.bs.modal",SHOWN:"shown.bs.modal",FOCUSIN:"focusin.bs.modal",RESIZE:"resize.bs.modal",CLICK_DISMISS:"click.dismiss.bs.modal",KEYDOWN_DISMISS:"keydown.dismiss.bs.modal",MOUSEUP_DISMISS:"mouseup.dismiss.bs.modal",MOUSEDOWN_DISMISS:"mousedown.dismiss.bs.modal",CLICK_DATA_API:"click.bs.modal.data-api"},Qe="modal-dialog-scrollable",Ve="modal-scrollbar-measure",Ke="modal-backdrop",Ye="modal-open",Xe="fade",Ge="show",Je="modal-static",Ze=".modal-dialog",et=".modal-body",tt='[data-toggle="modal"]',at='[data-dismiss="modal"]',it=".fixed-top, .fixed-bottom, .is-fixed, .sticky-top",nt=".sticky-top",st=function(){function e(e,t){this._config=this._getConfig(t),this._element=e,this._dialog=e.querySelector(Ze),this._backdrop=null,this._isShown=!1,this._isBodyOverflowing=!1,this._ignoreBackdropClick=!1,this._isTransitioning=!1,this._scrollbarWidth=0}var a=e.prototype;return a.toggle=function(e){return this._isShown?this.hide():this.show(e)},a.show=function(e){var a=this;if(!this._isShown&&!this._isTransitioning){t(this._element).hasClass(Xe)&&(this._isTransitioning=!0);var i=t.Event(Ue.SHOW,{relatedTarget:e});t(this._element).trigger(i),this._isShown||i.isDefaultPrevented()||(this._isShown=!0,this._checkScrollbar(),this._setScrollbar(),this._adjustDialog(),this._setEscapeEvent(),this._setResizeEvent(),t(this._element).on(Ue.CLICK_DISMISS,at,(function(e){return a.hide(e)})),t(this._dialog).on(Ue.MOUSEDOWN_DISMISS,(function(){t(a._element).one(Ue.MOUSEUP_DISMISS,(function(e){t(e.target).is(a._element)&&(a._ignoreBackdropClick=!0)}))})),this._showBackdrop((function(){return a._showElement(e)})))}},a.hide=function(e){var a=this;if(e&&e.preventDefault(),this._isShown&&!this._isTransitioning){var i=t.Event(Ue.HIDE);if(t(this._element).trigger(i),this._isShown&&!i.isDefaultPrevented()){this._isShown=!1;var n=t(this._element).hasClass(Xe);if(n&&(this._isTransitioning=!0),this._setEscapeEvent(),this._setResizeEvent(),t(document).off(Ue.FOCUSIN),t(this._element).removeClass(Ge),t(this._element).off(Ue.CLICK_DISMISS),t(this._dialog).off(Ue.MOUSEDOWN_DISMISS),n){var s=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,(function(e){return a._hideModal(e)})).emulateTransitionEnd(s)}else this._hideModal()}}},a.dispose=function(){[window,this._element,this._dialog].forEach((function(e){return t(e).off(".bs.modal")})),t(document).off(Ue.FOCUSIN),t.removeData(this._element,"bs.modal"),this._config=null,this._element=null,this._dialog=null,this._backdrop=null,this._isShown=null,this._isBodyOverflowing=null,this._ignoreBackdropClick=null,this._isTransitioning=null,this._scrollbarWidth=null},a.handleUpdate=function(){this._adjustDialog()},a._getConfig=function(e){return e=r({},Be,{},e),d.typeCheckConfig("modal",e,Fe),e},a._triggerBackdropTransition=function(){var e=this;if("static"===this._config.backdrop){var a=t.Event(Ue.HIDE_PREVENTED);if(t(this._element).trigger(a),a.defaultPrevented)return;this._element.classList.add(Je);var i=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,(function(){e._element.classList.remove(Je)})).emulateTransitionEnd(i),this._element.focus()}else this.hide()},a._showElement=function(e){var a=this,i=t(this._element).hasClass(Xe),n=this._dialog?this._dialog.querySelector(et):null;this._element.parentNode&&this._element.parentNode.nodeType===Node.ELEMENT_NODE||document.body.appendChild(this._element),this._element.style.display="block",this._element.removeAttribute("aria-hidden"),this._element.setAttribute("aria-modal",!0),t(this._dialog).hasClass(Qe)&&n?n.scrollTop=0:this._element.scrollTop=0,i&&d.reflow(this._element),t(this._element).addClass(Ge),this._config.focus&&this._enforceFocus();var s=t.Event(Ue.SHOWN,{relatedTarget:e}),o=function(){a._config.focus&&a._element.focus(),a._isTransitioning=!1,t(a._element).trigger(s)};if(i){var r=d.getTransitionDurationFromElement(this._dialog);t(this._dialog).one(d.TRANSITION_END,o).emulateTransitionEnd(r)}else o()},a._enforceFocus=function(){var e=this;t(document).off(Ue.FOCUSIN).on(Ue.FOCUSIN,(function(a){document!==a.target&&e._element!==a.target&&0===t(e._element).has(a.target).length&&e._element.focus()}))},a._setEscapeEvent=function(){var e=this;this._isShown&&this._config.keyboard?t(this._element).on(Ue.KEYDOWN_DISMISS,(function(t){27===t.which&&e._triggerBackdropTransition()})):this._isShown||t(this._element).off(Ue.KEYDOWN_DISMISS)},a._setResizeEvent=function(){var e=this;this._isShown?t(window).on(Ue.RESIZE,(function(t){return e.handleUpdate(t)})):t(window).off(Ue.RESIZE)},a._hideModal=function(){var e=this;this._element.style.display="none",this._element.setAttribute("aria-hidden",!0),this._element.removeAttribute("aria-modal"),this._isTransitioning=!1,this._showBackdrop((function(){t(document.body).removeClass(Ye),e._resetAdjustments(),e._resetScrollbar(),t(e._element).trigger(Ue.HIDDEN)}))},a._removeBackdrop=function(){this._backdrop&&(t(this._backdrop).remove(),this._backdrop=null)},a._showBackdrop=function(e){var a=this,i=t(this._element).hasClass(Xe)?Xe:"";if(this._isShown&&this._config.backdrop){if(this._backdrop=document.createElement("div"),this._backdrop.className=Ke,i&&this._backdrop.classList.add(i),t(this._backdrop).appendTo(document.body),t(this._element).on(Ue.CLICK_DISMISS,(function(e){a._ignoreBackdropClick?a._ignoreBackdropClick=!1:e.target===e.currentTarget&&a._triggerBackdropTransition()})),i&&d.reflow(this._backdrop),t(this._backdrop).addClass(Ge),!e)return;if(!i)return void e();var n=d.getTransitionDurationFromElement(this._backdrop);t(this._backdrop).one(d.TRANSITION_END,e).emulateTransitionEnd(n)}else if(!this._isShown&&this._backdrop){t(this._backdrop).removeClass(Ge);var s=function(){a._removeBackdrop(),e&&e()};if(t(this._element).hasClass(Xe)){var o=d.getTransitionDurationFromElement(this._backdrop);t(this._backdrop).one(d.TRANSITION_END,s).emulateTransitionEnd(o)}else s()}else e&&e()},a._adjustDialog=function(){var e=this._element.scrollHeight>document.documentElement.clientHeight;!this._isBodyOverflowing&&e&&(this._element.style.paddingLeft=this._scrollbarWidth+"px"),this._isBodyOverflowing&&!e&&(this._element.style.paddingRight=this._scrollbarWidth+"px")},a._resetAdjustments=function(){this._element.style.paddingLeft="",this._element.style.paddingRight=""},a._checkScrollbar=function(){var e=document.body.getBoundingClientRect();this._isBodyOverflowing=e.left+e.right<window.innerWidth,this._scrollbarWidth=this._getScrollbarWidth()},a._setScrollbar=function(){var e=this;if(this._isBodyOverflowing){var a=[].slice.call(document.querySelectorAll(it)),i=[].slice.call(document.querySelectorAll(nt));t(a).each((function(a,i){var n=i.style.paddingRight,s=t(i).css("padding-right");t(i).data("padding-right",n).css("padding-right",parseFloat(s)+e._scrollbarWidth+"px")})),t(i).each((function(a,i){var n=i.style.marginRight,s=t(i).css("margin-right");t(i).data("margin-right",n).css("margin-right",parseFloat(s)-e._scrollbarWidth+"px")}));var n=document.body.style.paddingRight,s=t(document.body).css("padding-right");t(document.body).data("padding-right",n).css("padding-right",parseFloat(s)+this._scrollbarWidth+"px")}t(document.body).addClass(Ye)},a._resetScrollbar=function(){var e=[].slice.call(document.querySelectorAll(it));t(e).each((function(e,a){var i=t(a).data("padding-right");t(a).removeData("padding-right"),a.style.paddingRight=i||""}));var a=[].slice.call(document.querySelectorAll(""+nt));t(a).each((function(e,a){var i=t(a).data("margin-right");void 0!==i&&t(a).css("margin-right",i).removeData("margin-right")}));var i=t(document.body).data("padding-right");t(document.body).removeData("padding-right"),document.body.style.paddingRight=i||""},a._getScrollbarWidth=function(){var e=document.createElement("div");e.className=Ve,document.body.appendChild(e);var t=e.getBoundingClientRect().width-e.clientWidth;return document.body.removeChild(e),t},e._jQueryInterface=function(a,i){return this.each((function(){var n=t(this).data("bs.modal"),s=r({},Be,{},t(this).data(),{},"object"==typeof a&&a?a:{});if(n||(n=new e(this,s),t(this).data("bs.modal",n)),"string"==typeof a){if(void 0===n[a])throw new TypeError('No method named "'+a+'"');n[a](i)}else s.show&&n.show(i)}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return Be}}]),e}();t(document).on(Ue.CLICK_DATA_API,tt,(function(e){var a,i=this,n=d.getSelectorFromElement(this);n&&(a=document.querySelector(n));var s=t(a).data("bs.modal")?"toggle":r({},t(a).data(),{},t(this).data());"A"!==this.tagName&&"AREA"!==this.tagName||e.preventDefault();var o=t(a).one(Ue.SHOW,(function(e){e.isDefaultPrevented()||o.one(Ue.HIDDEN,(function(){t(i).is(":visible")&&i.focus()}))}));st._jQueryInterface.call(t(a),s,this)})),t.fn.modal=st._jQueryInterface,t.fn.modal.Constructor=st,t.fn.modal.noConflict=function(){return t.fn.modal=He,st._jQueryInterface};var ot=["background","cite","href","itemtype","longdesc","poster","src","xlink:href"],rt={"*":["class","dir","id","lang","role",/^aria-[\w-]*$/i],a:["target","href","title","rel"],area:[],b:[],br:[],col:[],code:[],div:[],em:[],hr:[],h1:[],h2:[],h3:[],h4:[],h5:[],h6:[],i:[],img:["src","alt","title","width","height"],li:[],ol:[],p:[],pre:[],s:[],small:[],span:[],sub:[],sup:[],strong:[],u:[],ul:[]},lt=/^(?:(?:https?|mailto|ftp|tel|file):|[^&:/?#]*(?:[/?#]|$))/gi,dt=/^data:(?:image\/(?:bmp|gif|jpeg|jpg|png|tiff|webp)|video\/(?:mpeg|mp4|ogg|webm)|audio\/(?:mp3|oga|ogg|opus));base64,[a-z0-9+/]+=*$/i;function ct(e,t,a){if(0===e.length)return e;if(a&&"function"==typeof a)return a(e);for(var i=(new window.DOMParser).parseFromString(e,"text/html"),n=Object.keys(t),s=[].slice.call(i.body.querySelectorAll("*")),o=function(e,a){var i=s[e],o=i.nodeName.toLowerCase();if(-1===n.indexOf(i.nodeName.toLowerCase()))return i.parentNode.removeChild(i),"continue";var r=[].slice.call(i.attributes),l=[].concat(t["*"]||[],t[o]||[]);r.forEach((function(e){(function(e,t){var a=e.nodeName.toLowerCase();if(-1!==t.indexOf(a))return-1===ot.indexOf(a)||Boolean(e.nodeValue.match(lt)||e.nodeValue.match(dt));for(var i=t.filter((function(e){return e instanceof RegExp})),n=0,s=i.length;n<s;n++)if(a.match(i[n]))return!0;return!1})(e,l)||i.removeAttribute(e.nodeName)}))},r=0,l=s.length;r<l;r++)o(r);return i.body.innerHTML}var ut="tooltip",pt=t.fn.tooltip,ht=new RegExp("(^|\\s)bs-tooltip\\S+","g"),_t=["sanitize","whiteList","sanitizeFn"],ft={animation:"boolean",template:"string",title:"(string|element|function)",trigger:"string",delay:"(number|object)",html:"boolean",selector:"(string|boolean)",placement:"(string|function)",offset:"(number|string|function)",container:"(string|element|boolean)",fallbackPlacement:"(string|array)",boundary:"(string|element)",sanitize:"boolean",sanitizeFn:"(null|function)",whiteList:"object",popperConfig:"(null|object)"},mt={AUTO:"auto",TOP:"top",RIGHT:"right",BOTTOM:"bottom",LEFT:"left"},gt={animation:!0,template:'<div class="tooltip" role="tooltip"><div class="arrow"></div><div class="tooltip-inner"></div></div>',trigger:"hover focus",title:"",delay:0,html:!1,selector:!1,placement:"top",offset:0,container:!1,fallbackPlacement:"flip",boundary:"scrollParent",sanitize:!0,sanitizeFn:null,whiteList:rt,popperConfig:null},vt="show",yt="out",wt={HIDE:"hide.bs.tooltip",HIDDEN:"hidden.bs.tooltip",SHOW:"show.bs.tooltip",SHOWN:"shown.bs.tooltip",INSERTED:"inserted.bs.tooltip",CLICK:"click.bs.tooltip",FOCUSIN:"focusin.bs.tooltip",FOCUSOUT:"focusout.bs.tooltip",MOUSEENTER:"mouseenter.bs.tooltip",MOUSELEAVE:"mouseleave.bs.tooltip"},bt="fade",kt="show",Ct=".tooltip-inner",xt=".arrow",Et="hover",Tt="focus",zt="click",St="manual",At=function(){function e(e,t){if(void 0===a)throw new TypeError("Bootstrap's tooltips require Popper.js (https://popper.js.org/)");this._isEnabled=!0,this._timeout=0,this._hoverState="",this._activeTrigger={},this._popper=null,this.element=e,this.config=this._getConfig(t),this.tip=null,this._setListeners()}var i=e.prototype;return i.enable=function(){this._isEnabled=!0},i.disable=function(){this._isEnabled=!1},i.toggleEnabled=function(){this._isEnabled=!this._isEnabled},i.toggle=function(e){if(this._isEnabled)if(e){var a=this.constructor.DATA_KEY,i=t(e.currentTarget).data(a);i||(i=new this.constructor(e.currentTarget,this._getDelegateConfig()),t(e.currentTarget).data(a,i)),i._activeTrigger.click=!i._activeTrigger.click,i._isWithActiveTrigger()?i._enter(null,i):i._leave(null,i)}else{if(t(this.getTipElement()).hasClass(kt))return void this._leave(null,this);this._enter(null,this)}},i.dispose=function(){clearTimeout(this._timeout),t.removeData(this.element,this.constructor.DATA_KEY),t(this.element).off(this.constructor.EVENT_KEY),t(this.element).closest(".modal").off("hide.bs.modal",this._hideModalHandler),this.tip&&t(this.tip).remove(),this._isEnabled=null,this._timeout=null,this._hoverState=null,this._activeTrigger=null,this._popper&&this._popper.destroy(),this._popper=null,this.element=null,this.config=null,this.tip=null},i.show=function(){var e=this;if("none"===t(this.element).css("display"))throw new Error("Please use show on visible elements");var i=t.Event(this.constructor.Event.SHOW);if(this.isWithContent()&&this._isEnabled){t(this.element).trigger(i);var n=d.findShadowRoot(this.element),s=t.contains(null!==n?n:this.element.ownerDocument.documentElement,this.element);if(i.isDefaultPrevented()||!s)return;var o=this.getTipElement(),r=d.getUID(this.constructor.NAME);o.setAttribute("id",r),this.element.setAttribute("aria-describedby",r),this.setContent(),this.config.animation&&t(o).addClass(bt);var l="function"==typeof this.config.placement?this.config.placement.call(this,o,this.element):this.config.placement,c=this._getAttachment(l);this.addAttachmentClass(c);var u=this._getContainer();t(o).data(this.constructor.DATA_KEY,this),t.contains(this.element.ownerDocument.documentElement,this.tip)||t(o).appendTo(u),t(this.element).trigger(this.constructor.Event.INSERTED),this._popper=new a(this.element,o,this._getPopperConfig(c)),t(o).addClass(kt),"ontouchstart"in document.documentElement&&t(document.body).children().on("mouseover",null,t.noop);var p=function(){e.config.animation&&e._fixTransition();var a=e._hoverState;e._hoverState=null,t(e.element).trigger(e.constructor.Event.SHOWN),a===yt&&e._leave(null,e)};if(t(this.tip).hasClass(bt)){var h=d.getTransitionDurationFromElement(this.tip);t(this.tip).one(d.TRANSITION_END,p).emulateTransitionEnd(h)}else p()}},i.hide=function(e){var a=this,i=this.getTipElement(),n=t.Event(this.constructor.Event.HIDE),s=function(){a._hoverState!==vt&&i.parentNode&&i.parentNode.removeChild(i),a._cleanTipClass(),a.element.removeAttribute("aria-describedby"),t(a.element).trigger(a.constructor.Event.HIDDEN),null!==a._popper&&a._popper.destroy(),e&&e()};if(t(this.element).trigger(n),!n.isDefaultPrevented()){if(t(i).removeClass(kt),"ontouchstart"in document.documentElement&&t(document.body).children().off("mouseover",null,t.noop),this._activeTrigger[zt]=!1,this._activeTrigger[Tt]=!1,this._activeTrigger[Et]=!1,t(this.tip).hasClass(bt)){var o=d.getTransitionDurationFromElement(i);t(i).one(d.TRANSITION_END,s).emulateTransitionEnd(o)}else s();this._hoverState=""}},i.update=function(){null!==this._popper&&this._popper.scheduleUpdate()},i.isWithContent=function(){return Boolean(this.getTitle())},i.addAttachmentClass=function(e){t(this.getTipElement()).addClass("bs-tooltip-"+e)},i.getTipElement=function(){return this.tip=this.tip||t(this.config.template)[0],this.tip},i.setContent=function(){var e=this.getTipElement();this.setElementContent(t(e.querySelectorAll(Ct)),this.getTitle()),t(e).removeClass(bt+" "+kt)},i.setElementContent=function(e,a){"object"!=typeof a||!a.nodeType&&!a.jquery?this.config.html?(this.config.sanitize&&(a=ct(a,this.config.whiteList,this.config.sanitizeFn)),e.html(a)):e.text(a):this.config.html?t(a).parent().is(e)||e.empty().append(a):e.text(t(a).text())},i.getTitle=function(){var e=this.element.getAttribute("data-original-title");return e||(e="function"==typeof this.config.title?this.config.title.call(this.element):this.config.title),e},i._getPopperConfig=function(e){var t=this;return r({},{placement:e,modifiers:{offset:this._getOffset(),flip:{behavior:this.config.fallbackPlacement},arrow:{element:xt},preventOverflow:{boundariesElement:this.config.boundary}},onCreate:function(e){e.originalPlacement!==e.placement&&t._handlePopperPlacementChange(e)},onUpdate:function(e){return t._handlePopperPlacementChange(e)}},{},this.config.popperConfig)},i._getOffset=function(){var e=this,t={};return"function"==typeof this.config.offset?t.fn=function(t){return t.offsets=r({},t.offsets,{},e.config.offset(t.offsets,e.element)||{}),t}:t.offset=this.config.offset,t},i._getContainer=function(){return!1===this.config.container?document.body:d.isElement(this.config.container)?t(this.config.container):t(document).find(this.config.container)},i._getAttachment=function(e){return mt[e.toUpperCase()]},i._setListeners=function(){var e=this;this.config.trigger.split(" ").forEach((function(a){if("click"===a)t(e.element).on(e.constructor.Event.CLICK,e.config.selector,(function(t){return e.toggle(t)}));else if(a!==St){var i=a===Et?e.constructor.Event.MOUSEENTER:e.constructor.Event.FOCUSIN,n=a===Et?e.constructor.Event.MOUSELEAVE:e.constructor.Event.FOCUSOUT;t(e.element).on(i,e.config.selector,(function(t){return e._enter(t)})).on(n,e.config.selector,(function(t){return e._leave(t)}))}})),this._hideModalHandler=function(){e.element&&e.hide()},t(this.element).closest(".modal").on("hide.bs.modal",this._hideModalHandler),this.config.selector?this.config=r({},this.config,{trigger:"manual",selector:""}):this._fixTitle()},i._fixTitle=function(){var e=typeof this.element.getAttribute("data-original-title");(this.element.getAttribute("title")||"string"!==e)&&(this.element.setAttribute("data-original-title",this.element.getAttribute("title")||""),this.element.setAttribute("title",""))},i._enter=function(e,a){var i=this.constructor.DATA_KEY;(a=a||t(e.currentTarget).data(i))||(a=new this.constructor(e.currentTarget,this._getDelegateConfig()),t(e.currentTarget).data(i,a)),e&&(a._activeTrigger["focusin"===e.type?Tt:Et]=!0),t(a.getTipElement()).hasClass(kt)||a._hoverState===vt?a._hoverState=vt:(clearTimeout(a._timeout),a._hoverState=vt,a.config.delay&&a.config.delay.show?a._timeout=setTimeout((function(){a._hoverState===vt&&a.show()}),a.config.delay.show):a.show())},i._leave=function(e,a){var i=this.constructor.DATA_KEY;(a=a||t(e.currentTarget).data(i))||(a=new this.constructor(e.currentTarget,this._getDelegateConfig()),t(e.currentTarget).data(i,a)),e&&(a._activeTrigger["focusout"===e.type?Tt:Et]=!1),a._isWithActiveTrigger()||(clearTimeout(a._timeout),a._hoverState=yt,a.config.delay&&a.config.delay.hide?a._timeout=setTimeout((function(){a._hoverState===yt&&a.hide()}),a.config.delay.hide):a.hide())},i._isWithActiveTrigger=function(){for(var e in this._activeTrigger)if(this._activeTrigger[e])return!0;return!1},i._getConfig=function(e){var a=t(this.element).data();return Object.keys(a).forEach((function(e){-1!==_t.indexOf(e)&&delete a[e]})),"number"==typeof(e=r({},this.constructor.Default,{},a,{},"object"==typeof e&&e?e:{})).delay&&(e.delay={show:e.delay,hide:e.delay}),"number"==typeof e.title&&(e.title=e.title.toString()),"number"==typeof e.content&&(e.content=e.content.toString()),d.typeCheckConfig(ut,e,this.constructor.DefaultType),e.sanitize&&(e.template=ct(e.template,e.whiteList,e.sanitizeFn)),e},i._getDelegateConfig=function(){var e={};if(this.config)for(var t in this.config)this.constructor.Default[t]!==this.config[t]&&(e[t]=this.config[t]);return e},i._cleanTipClass=function(){var e=t(this.getTipElement()),a=e.attr("class").match(ht);null!==a&&a.length&&e.removeClass(a.join(""))},i._handlePopperPlacementChange=function(e){var t=e.instance;this.tip=t.popper,this._cleanTipClass(),this.addAttachmentClass(this._getAttachment(e.placement))},i._fixTransition=function(){var e=this.getTipElement(),a=this.config.animation;null===e.getAttribute("x-placement")&&(t(e).removeClass(bt),this.config.animation=!1,this.hide(),this.show(),this.config.animation=a)},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.tooltip"),n="object"==typeof a&&a;if((i||!/dispose|hide/.test(a))&&(i||(i=new e(this,n),t(this).data("bs.tooltip",i)),"string"==typeof a)){if(void 0===i[a])throw new TypeError('No method named "'+a+'"');i[a]()}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return gt}},{key:"NAME",get:function(){return ut}},{key:"DATA_KEY",get:function(){return"bs.tooltip"}},{key:"Event",get:function(){return wt}},{key:"EVENT_KEY",get:function(){return".bs.tooltip"}},{key:"DefaultType",get:function(){return ft}}]),e}();t.fn.tooltip=At._jQueryInterface,t.fn.tooltip.Constructor=At,t.fn.tooltip.noConflict=function(){return t.fn.tooltip=pt,At._jQueryInterface};var It="popover",Dt=t.fn.popover,Pt=new RegExp("(^|\\s)bs-popover\\S+","g"),Ot=r({},At.Default,{placement:"right",trigger:"click",content:"",template:'<div class="popover" role="tooltip"><div class="arrow"></div><h3 class="popover-header"></h3><div class="popover-body"></div></div>'}),Nt=r({},At.DefaultType,{content:"(string|element|function)"}),qt="fade",Rt="show",Lt=".popover-header",Mt=".popover-body",jt={HIDE:"hide.bs.popover",HIDDEN:"hidden.bs.popover",SHOW:"show.bs.popover",SHOWN:"shown.bs.popover",INSERTED:"inserted.bs.popover",CLICK:"click.bs.popover",FOCUSIN:"focusin.bs.popover",FOCUSOUT:"focusout.bs.popover",MOUSEENTER:"mouseenter.bs.popover",MOUSELEAVE:"mouseleave.bs.popover"},$t=function(e){var a,i;function s(){return e.apply(this,arguments)||this}i=e,(a=s).prototype=Object.create(i.prototype),a.prototype.constructor=a,a.__proto__=i;var o=s.prototype;return o.isWithContent=function(){return this.getTitle()||this._getContent()},o.addAttachmentClass=function(e){t(this.getTipElement()).addClass("bs-popover-"+e)},o.getTipElement=function(){return this.tip=this.tip||t(this.config.template)[0],this.tip},o.setContent=function(){var e=t(this.getTipElement());this.setElementContent(e.find(Lt),this.getTitle());var a=this._getContent();"function"==typeof a&&(a=a.call(this.element)),this.setElementContent(e.find(Mt),a),e.removeClass(qt+" "+Rt)},o._getContent=function(){return this.element.getAttribute("data-content")||this.config.content},o._cleanTipClass=function(){var e=t(this.getTipElement()),a=e.attr("class").match(Pt);null!==a&&a.length>0&&e.removeClass(a.join(""))},s._jQueryInterface=function(e){return this.each((function(){var a=t(this).data("bs.popover"),i="object"==typeof e?e:null;if((a||!/dispose|hide/.test(e))&&(a||(a=new s(this,i),t(this).data("bs.popover",a)),"string"==typeof e)){if(void 0===a[e])throw new TypeError('No method named "'+e+'"');a[e]()}}))},n(s,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return Ot}},{key:"NAME",get:function(){return It}},{key:"DATA_KEY",get:function(){return"bs.popover"}},{key:"Event",get:function(){return jt}},{key:"EVENT_KEY",get:function(){return".bs.popover"}},{key:"DefaultType",get:function(){return Nt}}]),s}(At);t.fn.popover=$t._jQueryInterface,t.fn.popover.Constructor=$t,t.fn.popover.noConflict=function(){return t.fn.popover=Dt,$t._jQueryInterface};var Wt="scrollspy",Ht=t.fn[Wt],Bt={offset:10,method:"auto",target:""},Ft={offset:"number",method:"string",target:"(string|element)"},Ut={ACTIVATE:"activate.bs.scrollspy",SCROLL:"scroll.bs.scrollspy",LOAD_DATA_API:"load.bs.scrollspy.data-api"},Qt="dropdown-item",Vt="active",Kt='[data-spy="scroll"]',Yt=".nav, .list-group",Xt=".nav-link",Gt=".nav-item",Jt=".list-group-item",Zt=".dropdown",ea=".dropdown-item",ta=".dropdown-toggle",aa="offset",ia="position",na=function(){function e(e,a){var i=this;this._element=e,this._scrollElement="BODY"===e.tagName?window:e,this._config=this._getConfig(a),this._selector=this._config.target+" "+Xt+","+this._config.target+" "+Jt+","+this._config.target+" "+ea,this._offsets=[],this._targets=[],this._activeTarget=null,this._scrollHeight=0,t(this._scrollElement).on(Ut.SCROLL,(function(e){return i._process(e)})),this.refresh(),this._process()}var a=e.prototype;return a.refresh=function(){var e=this,a=this._scrollElement===this._scrollElement.window?aa:ia,i="auto"===this._config.method?a:this._config.method,n=i===ia?this._getScrollTop():0;this._offsets=[],this._targets=[],this._scrollHeight=this._getScrollHeight(),[].slice.call(document.querySelectorAll(this._selector)).map((function(e){var a,s=d.getSelectorFromElement(e);if(s&&(a=document.querySelector(s)),a){var o=a.getBoundingClientRect();if(o.width||o.height)return[t(a)[i]().top+n,s]}return null})).filter((function(e){return e})).sort((function(e,t){return e[0]-t[0]})).forEach((function(t){e._offsets.push(t[0]),e._targets.push(t[1])}))},a.dispose=function(){t.removeData(this._element,"bs.scrollspy"),t(this._scrollElement).off(".bs.scrollspy"),this._element=null,this._scrollElement=null,this._config=null,this._selector=null,this._offsets=null,this._targets=null,this._activeTarget=null,this._scrollHeight=null},a._getConfig=function(e){if("string"!=typeof(e=r({},Bt,{},"object"==typeof e&&e?e:{})).target){var a=t(e.target).attr("id");a||(a=d.getUID(Wt),t(e.target).attr("id",a)),e.target="#"+a}return d.typeCheckConfig(Wt,e,Ft),e},a._getScrollTop=function(){return this._scrollElement===window?this._scrollElement.pageYOffset:this._scrollElement.scrollTop},a._getScrollHeight=function(){return this._scrollElement.scrollHeight||Math.max(document.body.scrollHeight,document.documentElement.scrollHeight)},a._getOffsetHeight=function(){return this._scrollElement===window?window.innerHeight:this._scrollElement.getBoundingClientRect().height},a._process=function(){var e=this._getScrollTop()+this._config.offset,t=this._getScrollHeight(),a=this._config.offset+t-this._getOffsetHeight();if(this._scrollHeight!==t&&this.refresh(),e>=a){var i=this._targets[this._targets.length-1];this._activeTarget!==i&&this._activate(i)}else{if(this._activeTarget&&e<this._offsets[0]&&this._offsets[0]>0)return this._activeTarget=null,void this._clear();for(var n=this._offsets.length;n--;){this._activeTarget!==this._targets[n]&&e>=this._offsets[n]&&(void 0===this._offsets[n+1]||e<this._offsets[n+1])&&this._activate(this._targets[n])}}},a._activate=function(e){this._activeTarget=e,this._clear();var a=this._selector.split(",").map((function(t){return t+'[data-target="'+e+'"],'+t+'[href="'+e+'"]'})),i=t([].slice.call(document.querySelectorAll(a.join(","))));i.hasClass(Qt)?(i.closest(Zt).find(ta).addClass(Vt),i.addClass(Vt)):(i.addClass(Vt),i.parents(Yt).prev(Xt+", "+Jt).addClass(Vt),i.parents(Yt).prev(Gt).children(Xt).addClass(Vt)),t(this._scrollElement).trigger(Ut.ACTIVATE,{relatedTarget:e})},a._clear=function(){[].slice.call(document.querySelectorAll(this._selector)).filter((function(e){return e.classList.contains(Vt)})).forEach((function(e){return e.classList.remove(Vt)}))},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.scrollspy");if(i||(i=new e(this,"object"==typeof a&&a),t(this).data("bs.scrollspy",i)),"string"==typeof a){if(void 0===i[a])throw new TypeError('No method named "'+a+'"');i[a]()}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return Bt}}]),e}();t(window).on(Ut.LOAD_DATA_API,(function(){for(var e=[].slice.call(document.querySelectorAll(Kt)),a=e.length;a--;){var i=t(e[a]);na._jQueryInterface.call(i,i.data())}})),t.fn[Wt]=na._jQueryInterface,t.fn[Wt].Constructor=na,t.fn[Wt].noConflict=function(){return t.fn[Wt]=Ht,na._jQueryInterface};var sa=t.fn.tab,oa={HIDE:"hide.bs.tab",HIDDEN:"hidden.bs.tab",SHOW:"show.bs.tab",SHOWN:"shown.bs.tab",CLICK_DATA_API:"click.bs.tab.data-api"},ra="dropdown-menu",la="active",da="disabled",ca="fade",ua="show",pa=".dropdown",ha=".nav, .list-group",_a=".active",fa="> li > .active",ma='[data-toggle="tab"], [data-toggle="pill"], [data-toggle="list"]',ga=".dropdown-toggle",va="> .dropdown-menu .active",ya=function(){function e(e){this._element=e}var a=e.prototype;return a.show=function(){var e=this;if(!(this._element.parentNode&&this._element.parentNode.nodeType===Node.ELEMENT_NODE&&t(this._element).hasClass(la)||t(this._element).hasClass(da))){var a,i,n=t(this._element).closest(ha)[0],s=d.getSelectorFromElement(this._element);if(n){var o="UL"===n.nodeName||"OL"===n.nodeName?fa:_a;i=(i=t.makeArray(t(n).find(o)))[i.length-1]}var r=t.Event(oa.HIDE,{relatedTarget:this._element}),l=t.Event(oa.SHOW,{relatedTarget:i});if(i&&t(i).trigger(r),t(this._element).trigger(l),!l.isDefaultPrevented()&&!r.isDefaultPrevented()){s&&(a=document.querySelector(s)),this._activate(this._element,n);var c=function(){var a=t.Event(oa.HIDDEN,{relatedTarget:e._element}),n=t.Event(oa.SHOWN,{relatedTarget:i});t(i).trigger(a),t(e._element).trigger(n)};a?this._activate(a,a.parentNode,c):c()}}},a.dispose=function(){t.removeData(this._element,"bs.tab"),this._element=null},a._activate=function(e,a,i){var n=this,s=(!a||"UL"!==a.nodeName&&"OL"!==a.nodeName?t(a).children(_a):t(a).find(fa))[0],o=i&&s&&t(s).hasClass(ca),r=function(){return n._transitionComplete(e,s,i)};if(s&&o){var l=d.getTransitionDurationFromElement(s);t(s).removeClass(ua).one(d.TRANSITION_END,r).emulateTransitionEnd(l)}else r()},a._transitionComplete=function(e,a,i){if(a){t(a).removeClass(la);var n=t(a.parentNode).find(va)[0];n&&t(n).removeClass(la),"tab"===a.getAttribute("role")&&a.setAttribute("aria-selected",!1)}if(t(e).addClass(la),"tab"===e.getAttribute("role")&&e.setAttribute("aria-selected",!0),d.reflow(e),e.classList.contains(ca)&&e.classList.add(ua),e.parentNode&&t(e.parentNode).hasClass(ra)){var s=t(e).closest(pa)[0];if(s){var o=[].slice.call(s.querySelectorAll(ga));t(o).addClass(la)}e.setAttribute("aria-expanded",!0)}i&&i()},e._jQueryInterface=function(a){return this.each((function(){var i=t(this),n=i.data("bs.tab");if(n||(n=new e(this),i.data("bs.tab",n)),"string"==typeof a){if(void 0===n[a])throw new TypeError('No method named "'+a+'"');n[a]()}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}}]),e}();t(document).on(oa.CLICK_DATA_API,ma,(function(e){e.preventDefault(),ya._jQueryInterface.call(t(this),"show")})),t.fn.tab=ya._jQueryInterface,t.fn.tab.Constructor=ya,t.fn.tab.noConflict=function(){return t.fn.tab=sa,ya._jQueryInterface};var wa=t.fn.toast,ba={CLICK_DISMISS:"click.dismiss.bs.toast",HIDE:"hide.bs.toast",HIDDEN:"hidden.bs.toast",SHOW:"show.bs.toast",SHOWN:"shown.bs.toast"},ka="fade",Ca="hide",xa="show",Ea="showing",Ta={animation:"boolean",autohide:"boolean",delay:"number"},za={animation:!0,autohide:!0,delay:500},Sa='[data-dismiss="toast"]',Aa=function(){function e(e,t){this._element=e,this._config=this._getConfig(t),this._timeout=null,this._setListeners()}var a=e.prototype;return a.show=function(){var e=this,a=t.Event(ba.SHOW);if(t(this._element).trigger(a),!a.isDefaultPrevented()){this._config.animation&&this._element.classList.add(ka);var i=function(){e._element.classList.remove(Ea),e._element.classList.add(xa),t(e._element).trigger(ba.SHOWN),e._config.autohide&&(e._timeout=setTimeout((function(){e.hide()}),e._config.delay))};if(this._element.classList.remove(Ca),d.reflow(this._element),this._element.classList.add(Ea),this._config.animation){var n=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,i).emulateTransitionEnd(n)}else i()}},a.hide=function(){if(this._element.classList.contains(xa)){var e=t.Event(ba.HIDE);t(this._element).trigger(e),e.isDefaultPrevented()||this._close()}},a.dispose=function(){clearTimeout(this._timeout),this._timeout=null,this._element.classList.contains(xa)&&this._element.classList.remove(xa),t(this._element).off(ba.CLICK_DISMISS),t.removeData(this._element,"bs.toast"),this._element=null,this._config=null},a._getConfig=function(e){return e=r({},za,{},t(this._element).data(),{},"object"==typeof e&&e?e:{}),d.typeCheckConfig("toast",e,this.constructor.DefaultType),e},a._setListeners=function(){var e=this;t(this._element).on(ba.CLICK_DISMISS,Sa,(function(){return e.hide()}))},a._close=function(){var e=this,a=function(){e._element.classList.add(Ca),t(e._element).trigger(ba.HIDDEN)};if(this._element.classList.remove(xa),this._config.animation){var i=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,a).emulateTransitionEnd(i)}else a()},e._jQueryInterface=function(a){return this.each((function(){var i=t(this),n=i.data("bs.toast");if(n||(n=new e(this,"object"==typeof a&&a),i.data("bs.toast",n)),"string"==typeof a){if(void 0===n[a])throw new TypeError('No method named "'+a+'"');n[a](this)}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"DefaultType",get:function(){return Ta}},{key:"Default",get:function(){return za}}]),e}();t.fn.toast=Aa._jQueryInterface,t.fn.toast.Constructor=Aa,t.fn.toast.noConflict=function(){return t.fn.toast=wa,Aa._jQueryInterface},e.Alert=f,e.Button=S,e.Carousel=ae,e.Collapse=me,e.Dropdown=We,e.Modal=st,e.Popover=$t,e.Scrollspy=na,e.Tab=ya,e.Toast=Aa,e.Tooltip=At,e.Util=d,Object.defineProperty(e,"__esModule",{value:!0})}))),$(document).ready((function(){$(".mobile-nav-btn").on("click",()=>{$(".hamburger-menu").toggleClass("open")})})),$(document).ready((function(){$(".tab-pane-toggle").each((e,t)=>{const a=$(t).attr("id"),i=a.split("-tab")[0]+"-content";return $("#"+a).click(()=>{$(".tab-pane-content").hide(),$("#"+i).show()}),!0})})),$(document).ready(()=>{$("#scrollTop").click(()=>(window.scrollTo(window.scrollX,0),!1))}),$(document).ready(()=>{$(".nav-link").attr("target","_blank")}),$(document).ready(()=>{$("#scrollTop, .btn-slide").click(()=>{const e=$(this).attr("href");return $("html, body").stop().animate({scrollTop:$(e).offset().top},700),!1})});const bootiful={latestPodcast:null,podcasts:{}};function getMainPlayerDataSourceId(){return getDataSourceElementIdFor(bootiful.latestPodcast.podcast.uid)}function initializePlayerForLatest(e){$(".data-source-container").hide();const t=bootiful.podcasts[e.uid];bootiful.latestPodcast=t;const a=getMainPlayerDataSourceId();console.log("the main player ID is",a,"for podcast title",bootiful.latestPodcast.podcast.title),$("#"+a).show(),dzsap_init("#"+a,{autoplay:"off",init_each:"on",disable_volume:"on",skinwave_mode:"normal",settings_backup_type:"light",skinwave_:"light",skinwave_enableSpectrum:"off",embed_code:"light",skinwave_wave_mode:"canvas",skinwave_wave_mode_canvas_waves_number:"3",skinwave_wave_mode_canvas_waves_padding:"1",skinwave_wave_mode_canvas_reflection_size:"0",design_color_bg:"999999,ffffff",skinwave_wave_mode_canvas_mode:"reflecto",preview_on_hover:"off",design_wave_color_progress:"ff657a,ffffff",pcm_data_try_to_generate:"on",skinwave_comments_enable:"off",skinwave_comments_retrievefromajax:"off",failsafe_repair_media_element:500}),t.view.show()}function getDataSourceElementIdFor(e){return"data-source-"+e+"-element"}function PodcastPlayerView(e){var t,a;this.container=$("#containerOfDataSources"),this.podcast=e,this.uid=this.podcast.uid,this.dataSourceElement=(t=this.podcast,(a=$('<div><span class="meta-artist"><span class="the-artist"> '+t.title+"</span></span></div>")).attr("data-source",t.uri),a.attr("id",getDataSourceElementIdFor(t.uid)),a.attr("data-type","audio"),a.attr("data-scrubbg","assets/soundplugin/audioplayer/img/dzsplugins.png"),a.attr("data-scrubprog","assets/soundplugin/audioplayer/img/bgminion.jpg"),a.attr("data-thumb",t.episodePhotoUri),"aptest-with-play skin-wave-mode-small audioplayer-tobe skin-wave button-aspect-noir data-source-container".split(" ").forEach(e=>{a.addClass(e.trim())}),a),this.container.append(this.dataSourceElement),this.play=function(){document.getElementById(getMainPlayerDataSourceId()).api_change_media(this.dataSourceElement,{type:"audio",fakeplayer_is_feeder:"off"})},this.show=function(){console.log("showing ("+this.uid+")"),this.dataSourceElement.show()}}$(document).ready(()=>{function e(){$(".play-status").html("Listen Now")}fetch("/podcasts.json").then(e=>e.json()).then(t=>{e(),t.sort((e,t)=>t.date-e.date),t.forEach(t=>{const a=t.uid,i=new Podcast(t.id,t.uid,t.title,t.episodeUri,t.episodePhotoUri);bootiful.podcasts[t.uid]={podcast:i,view:new PodcastPlayerView(i)};const n=bootiful.podcasts[a],s=t=>{const i=n.view;return i.show(),i.play(),e(),$("#episode-play-"+a+"-status").html("Listening Now"),!1};$("#top3-play-"+a).click(s),$("#episode-play-"+a).click(s),$("#delayed-image-"+a).append($('<img src="'+i.episodePhotoUri+'"/>'))}),console.log("there are",t.length,"podcasts"),t.length>0&&initializePlayerForLatest(t[0])})});
\ No newline at end of file
+  */(function(e,t){"object"==typeof exports&&"undefined"!=typeof module?t(exports,require("jquery"),require("popper.js")):"function"==typeof define&&define.amd?define(["exports","jquery","popper.js"],t):t((e=e||self).bootstrap={},e.jQuery,e.Popper)}(this,(function(e,t,a){"use strict";function i(e,t){for(var a=0;a<t.length;a++){var i=t[a];i.enumerable=i.enumerable||!1,i.configurable=!0,"value"in i&&(i.writable=!0),Object.defineProperty(e,i.key,i)}}function n(e,t,a){return t&&i(e.prototype,t),a&&i(e,a),e}function s(e,t,a){return t in e?Object.defineProperty(e,t,{value:a,enumerable:!0,configurable:!0,writable:!0}):e[t]=a,e}function o(e,t){var a=Object.keys(e);if(Object.getOwnPropertySymbols){var i=Object.getOwnPropertySymbols(e);t&&(i=i.filter((function(t){return Object.getOwnPropertyDescriptor(e,t).enumerable}))),a.push.apply(a,i)}return a}function r(e){for(var t=1;t<arguments.length;t++){var a=null!=arguments[t]?arguments[t]:{};t%2?o(Object(a),!0).forEach((function(t){s(e,t,a[t])})):Object.getOwnPropertyDescriptors?Object.defineProperties(e,Object.getOwnPropertyDescriptors(a)):o(Object(a)).forEach((function(t){Object.defineProperty(e,t,Object.getOwnPropertyDescriptor(a,t))}))}return e}t=t&&t.hasOwnProperty("default")?t.default:t,a=a&&a.hasOwnProperty("default")?a.default:a;function l(e){var a=this,i=!1;return t(this).one(d.TRANSITION_END,(function(){i=!0})),setTimeout((function(){i||d.triggerTransitionEnd(a)}),e),this}var d={TRANSITION_END:"bsTransitionEnd",getUID:function(e){do{e+=~~(1e6*Math.random())}while(document.getElementById(e));return e},getSelectorFromElement:function(e){var t=e.getAttribute("data-target");if(!t||"#"===t){var a=e.getAttribute("href");t=a&&"#"!==a?a.trim():""}try{return document.querySelector(t)?t:null}catch(e){return null}},getTransitionDurationFromElement:function(e){if(!e)return 0;var a=t(e).css("transition-duration"),i=t(e).css("transition-delay"),n=parseFloat(a),s=parseFloat(i);return n||s?(a=a.split(",")[0],i=i.split(",")[0],1e3*(parseFloat(a)+parseFloat(i))):0},reflow:function(e){return e.offsetHeight},triggerTransitionEnd:function(e){t(e).trigger("transitionend")},supportsTransitionEnd:function(){return Boolean("transitionend")},isElement:function(e){return(e[0]||e).nodeType},typeCheckConfig:function(e,t,a){for(var i in a)if(Object.prototype.hasOwnProperty.call(a,i)){var n=a[i],s=t[i],o=s&&d.isElement(s)?"element":(r=s,{}.toString.call(r).match(/\s([a-z]+)/i)[1].toLowerCase());if(!new RegExp(n).test(o))throw new Error(e.toUpperCase()+': Option "'+i+'" provided type "'+o+'" but expected type "'+n+'".')}var r},findShadowRoot:function(e){if(!document.documentElement.attachShadow)return null;if("function"==typeof e.getRootNode){var t=e.getRootNode();return t instanceof ShadowRoot?t:null}return e instanceof ShadowRoot?e:e.parentNode?d.findShadowRoot(e.parentNode):null},jQueryDetection:function(){if(void 0===t)throw new TypeError("Bootstrap's JavaScript requires jQuery. jQuery must be included before Bootstrap's JavaScript.");var e=t.fn.jquery.split(" ")[0].split(".");if(e[0]<2&&e[1]<9||1===e[0]&&9===e[1]&&e[2]<1||e[0]>=4)throw new Error("Bootstrap's JavaScript requires at least jQuery v1.9.1 but less than v4.0.0")}};d.jQueryDetection(),t.fn.emulateTransitionEnd=l,t.event.special[d.TRANSITION_END]={bindType:"transitionend",delegateType:"transitionend",handle:function(e){if(t(e.target).is(this))return e.handleObj.handler.apply(this,arguments)}};var c=t.fn.alert,u={CLOSE:"close.bs.alert",CLOSED:"closed.bs.alert",CLICK_DATA_API:"click.bs.alert.data-api"},p="alert",h="fade",_="show",f=function(){function e(e){this._element=e}var a=e.prototype;return a.close=function(e){var t=this._element;e&&(t=this._getRootElement(e)),this._triggerCloseEvent(t).isDefaultPrevented()||this._removeElement(t)},a.dispose=function(){t.removeData(this._element,"bs.alert"),this._element=null},a._getRootElement=function(e){var a=d.getSelectorFromElement(e),i=!1;return a&&(i=document.querySelector(a)),i||(i=t(e).closest("."+p)[0]),i},a._triggerCloseEvent=function(e){var a=t.Event(u.CLOSE);return t(e).trigger(a),a},a._removeElement=function(e){var a=this;if(t(e).removeClass(_),t(e).hasClass(h)){var i=d.getTransitionDurationFromElement(e);t(e).one(d.TRANSITION_END,(function(t){return a._destroyElement(e,t)})).emulateTransitionEnd(i)}else this._destroyElement(e)},a._destroyElement=function(e){t(e).detach().trigger(u.CLOSED).remove()},e._jQueryInterface=function(a){return this.each((function(){var i=t(this),n=i.data("bs.alert");n||(n=new e(this),i.data("bs.alert",n)),"close"===a&&n[a](this)}))},e._handleDismiss=function(e){return function(t){t&&t.preventDefault(),e.close(this)}},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}}]),e}();t(document).on(u.CLICK_DATA_API,'[data-dismiss="alert"]',f._handleDismiss(new f)),t.fn.alert=f._jQueryInterface,t.fn.alert.Constructor=f,t.fn.alert.noConflict=function(){return t.fn.alert=c,f._jQueryInterface};var m=t.fn.button,g="active",v="btn",y="focus",w='[data-toggle^="button"]',b='[data-toggle="buttons"]',k='[data-toggle="button"]',C='[data-toggle="buttons"] .btn',x='input:not([type="hidden"])',E=".active",T=".btn",z={CLICK_DATA_API:"click.bs.button.data-api",FOCUS_BLUR_DATA_API:"focus.bs.button.data-api blur.bs.button.data-api",LOAD_DATA_API:"load.bs.button.data-api"},S=function(){function e(e){this._element=e}var a=e.prototype;return a.toggle=function(){var e=!0,a=!0,i=t(this._element).closest(b)[0];if(i){var n=this._element.querySelector(x);if(n){if("radio"===n.type)if(n.checked&&this._element.classList.contains(g))e=!1;else{var s=i.querySelector(E);s&&t(s).removeClass(g)}else"checkbox"===n.type?"LABEL"===this._element.tagName&&n.checked===this._element.classList.contains(g)&&(e=!1):e=!1;e&&(n.checked=!this._element.classList.contains(g),t(n).trigger("change")),n.focus(),a=!1}}this._element.hasAttribute("disabled")||this._element.classList.contains("disabled")||(a&&this._element.setAttribute("aria-pressed",!this._element.classList.contains(g)),e&&t(this._element).toggleClass(g))},a.dispose=function(){t.removeData(this._element,"bs.button"),this._element=null},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.button");i||(i=new e(this),t(this).data("bs.button",i)),"toggle"===a&&i[a]()}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}}]),e}();t(document).on(z.CLICK_DATA_API,w,(function(e){var a=e.target;if(t(a).hasClass(v)||(a=t(a).closest(T)[0]),!a||a.hasAttribute("disabled")||a.classList.contains("disabled"))e.preventDefault();else{var i=a.querySelector(x);if(i&&(i.hasAttribute("disabled")||i.classList.contains("disabled")))return void e.preventDefault();S._jQueryInterface.call(t(a),"toggle")}})).on(z.FOCUS_BLUR_DATA_API,w,(function(e){var a=t(e.target).closest(T)[0];t(a).toggleClass(y,/^focus(in)?$/.test(e.type))})),t(window).on(z.LOAD_DATA_API,(function(){for(var e=[].slice.call(document.querySelectorAll(C)),t=0,a=e.length;t<a;t++){var i=e[t],n=i.querySelector(x);n.checked||n.hasAttribute("checked")?i.classList.add(g):i.classList.remove(g)}for(var s=0,o=(e=[].slice.call(document.querySelectorAll(k))).length;s<o;s++){var r=e[s];"true"===r.getAttribute("aria-pressed")?r.classList.add(g):r.classList.remove(g)}})),t.fn.button=S._jQueryInterface,t.fn.button.Constructor=S,t.fn.button.noConflict=function(){return t.fn.button=m,S._jQueryInterface};var A="carousel",I=".bs.carousel",D=t.fn[A],P={interval:5e3,keyboard:!0,slide:!1,pause:"hover",wrap:!0,touch:!0},O={interval:"(number|boolean)",keyboard:"boolean",slide:"(boolean|string)",pause:"(string|boolean)",wrap:"boolean",touch:"boolean"},N="next",q="prev",R="left",L="right",M={SLIDE:"slide.bs.carousel",SLID:"slid.bs.carousel",KEYDOWN:"keydown.bs.carousel",MOUSEENTER:"mouseenter.bs.carousel",MOUSELEAVE:"mouseleave.bs.carousel",TOUCHSTART:"touchstart.bs.carousel",TOUCHMOVE:"touchmove.bs.carousel",TOUCHEND:"touchend.bs.carousel",POINTERDOWN:"pointerdown.bs.carousel",POINTERUP:"pointerup.bs.carousel",DRAG_START:"dragstart.bs.carousel",LOAD_DATA_API:"load.bs.carousel.data-api",CLICK_DATA_API:"click.bs.carousel.data-api"},j="carousel",$="active",W="slide",H="carousel-item-right",B="carousel-item-left",F="carousel-item-next",U="carousel-item-prev",Q="pointer-event",V=".active",K=".active.carousel-item",Y=".carousel-item",X=".carousel-item img",G=".carousel-item-next, .carousel-item-prev",J=".carousel-indicators",Z="[data-slide], [data-slide-to]",ee='[data-ride="carousel"]',te={TOUCH:"touch",PEN:"pen"},ae=function(){function e(e,t){this._items=null,this._interval=null,this._activeElement=null,this._isPaused=!1,this._isSliding=!1,this.touchTimeout=null,this.touchStartX=0,this.touchDeltaX=0,this._config=this._getConfig(t),this._element=e,this._indicatorsElement=this._element.querySelector(J),this._touchSupported="ontouchstart"in document.documentElement||navigator.maxTouchPoints>0,this._pointerEvent=Boolean(window.PointerEvent||window.MSPointerEvent),this._addEventListeners()}var a=e.prototype;return a.next=function(){this._isSliding||this._slide(N)},a.nextWhenVisible=function(){!document.hidden&&t(this._element).is(":visible")&&"hidden"!==t(this._element).css("visibility")&&this.next()},a.prev=function(){this._isSliding||this._slide(q)},a.pause=function(e){e||(this._isPaused=!0),this._element.querySelector(G)&&(d.triggerTransitionEnd(this._element),this.cycle(!0)),clearInterval(this._interval),this._interval=null},a.cycle=function(e){e||(this._isPaused=!1),this._interval&&(clearInterval(this._interval),this._interval=null),this._config.interval&&!this._isPaused&&(this._interval=setInterval((document.visibilityState?this.nextWhenVisible:this.next).bind(this),this._config.interval))},a.to=function(e){var a=this;this._activeElement=this._element.querySelector(K);var i=this._getItemIndex(this._activeElement);if(!(e>this._items.length-1||e<0))if(this._isSliding)t(this._element).one(M.SLID,(function(){return a.to(e)}));else{if(i===e)return this.pause(),void this.cycle();var n=e>i?N:q;this._slide(n,this._items[e])}},a.dispose=function(){t(this._element).off(I),t.removeData(this._element,"bs.carousel"),this._items=null,this._config=null,this._element=null,this._interval=null,this._isPaused=null,this._isSliding=null,this._activeElement=null,this._indicatorsElement=null},a._getConfig=function(e){return e=r({},P,{},e),d.typeCheckConfig(A,e,O),e},a._handleSwipe=function(){var e=Math.abs(this.touchDeltaX);if(!(e<=40)){var t=e/this.touchDeltaX;this.touchDeltaX=0,t>0&&this.prev(),t<0&&this.next()}},a._addEventListeners=function(){var e=this;this._config.keyboard&&t(this._element).on(M.KEYDOWN,(function(t){return e._keydown(t)})),"hover"===this._config.pause&&t(this._element).on(M.MOUSEENTER,(function(t){return e.pause(t)})).on(M.MOUSELEAVE,(function(t){return e.cycle(t)})),this._config.touch&&this._addTouchEventListeners()},a._addTouchEventListeners=function(){var e=this;if(this._touchSupported){var a=function(t){e._pointerEvent&&te[t.originalEvent.pointerType.toUpperCase()]?e.touchStartX=t.originalEvent.clientX:e._pointerEvent||(e.touchStartX=t.originalEvent.touches[0].clientX)},i=function(t){e._pointerEvent&&te[t.originalEvent.pointerType.toUpperCase()]&&(e.touchDeltaX=t.originalEvent.clientX-e.touchStartX),e._handleSwipe(),"hover"===e._config.pause&&(e.pause(),e.touchTimeout&&clearTimeout(e.touchTimeout),e.touchTimeout=setTimeout((function(t){return e.cycle(t)}),500+e._config.interval))};t(this._element.querySelectorAll(X)).on(M.DRAG_START,(function(e){return e.preventDefault()})),this._pointerEvent?(t(this._element).on(M.POINTERDOWN,(function(e){return a(e)})),t(this._element).on(M.POINTERUP,(function(e){return i(e)})),this._element.classList.add(Q)):(t(this._element).on(M.TOUCHSTART,(function(e){return a(e)})),t(this._element).on(M.TOUCHMOVE,(function(t){return function(t){t.originalEvent.touches&&t.originalEvent.touches.length>1?e.touchDeltaX=0:e.touchDeltaX=t.originalEvent.touches[0].clientX-e.touchStartX}(t)})),t(this._element).on(M.TOUCHEND,(function(e){return i(e)})))}},a._keydown=function(e){if(!/input|textarea/i.test(e.target.tagName))switch(e.which){case 37:e.preventDefault(),this.prev();break;case 39:e.preventDefault(),this.next()}},a._getItemIndex=function(e){return this._items=e&&e.parentNode?[].slice.call(e.parentNode.querySelectorAll(Y)):[],this._items.indexOf(e)},a._getItemByDirection=function(e,t){var a=e===N,i=e===q,n=this._getItemIndex(t),s=this._items.length-1;if((i&&0===n||a&&n===s)&&!this._config.wrap)return t;var o=(n+(e===q?-1:1))%this._items.length;return-1===o?this._items[this._items.length-1]:this._items[o]},a._triggerSlideEvent=function(e,a){var i=this._getItemIndex(e),n=this._getItemIndex(this._element.querySelector(K)),s=t.Event(M.SLIDE,{relatedTarget:e,direction:a,from:n,to:i});return t(this._element).trigger(s),s},a._setActiveIndicatorElement=function(e){if(this._indicatorsElement){var a=[].slice.call(this._indicatorsElement.querySelectorAll(V));t(a).removeClass($);var i=this._indicatorsElement.children[this._getItemIndex(e)];i&&t(i).addClass($)}},a._slide=function(e,a){var i,n,s,o=this,r=this._element.querySelector(K),l=this._getItemIndex(r),c=a||r&&this._getItemByDirection(e,r),u=this._getItemIndex(c),p=Boolean(this._interval);if(e===N?(i=B,n=F,s=R):(i=H,n=U,s=L),c&&t(c).hasClass($))this._isSliding=!1;else if(!this._triggerSlideEvent(c,s).isDefaultPrevented()&&r&&c){this._isSliding=!0,p&&this.pause(),this._setActiveIndicatorElement(c);var h=t.Event(M.SLID,{relatedTarget:c,direction:s,from:l,to:u});if(t(this._element).hasClass(W)){t(c).addClass(n),d.reflow(c),t(r).addClass(i),t(c).addClass(i);var _=parseInt(c.getAttribute("data-interval"),10);_?(this._config.defaultInterval=this._config.defaultInterval||this._config.interval,this._config.interval=_):this._config.interval=this._config.defaultInterval||this._config.interval;var f=d.getTransitionDurationFromElement(r);t(r).one(d.TRANSITION_END,(function(){t(c).removeClass(i+" "+n).addClass($),t(r).removeClass($+" "+n+" "+i),o._isSliding=!1,setTimeout((function(){return t(o._element).trigger(h)}),0)})).emulateTransitionEnd(f)}else t(r).removeClass($),t(c).addClass($),this._isSliding=!1,t(this._element).trigger(h);p&&this.cycle()}},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.carousel"),n=r({},P,{},t(this).data());"object"==typeof a&&(n=r({},n,{},a));var s="string"==typeof a?a:n.slide;if(i||(i=new e(this,n),t(this).data("bs.carousel",i)),"number"==typeof a)i.to(a);else if("string"==typeof s){if(void 0===i[s])throw new TypeError('No method named "'+s+'"');i[s]()}else n.interval&&n.ride&&(i.pause(),i.cycle())}))},e._dataApiClickHandler=function(a){var i=d.getSelectorFromElement(this);if(i){var n=t(i)[0];if(n&&t(n).hasClass(j)){var s=r({},t(n).data(),{},t(this).data()),o=this.getAttribute("data-slide-to");o&&(s.interval=!1),e._jQueryInterface.call(t(n),s),o&&t(n).data("bs.carousel").to(o),a.preventDefault()}}},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return P}}]),e}();t(document).on(M.CLICK_DATA_API,Z,ae._dataApiClickHandler),t(window).on(M.LOAD_DATA_API,(function(){for(var e=[].slice.call(document.querySelectorAll(ee)),a=0,i=e.length;a<i;a++){var n=t(e[a]);ae._jQueryInterface.call(n,n.data())}})),t.fn[A]=ae._jQueryInterface,t.fn[A].Constructor=ae,t.fn[A].noConflict=function(){return t.fn[A]=D,ae._jQueryInterface};var ie="collapse",ne=t.fn[ie],se={toggle:!0,parent:""},oe={toggle:"boolean",parent:"(string|element)"},re={SHOW:"show.bs.collapse",SHOWN:"shown.bs.collapse",HIDE:"hide.bs.collapse",HIDDEN:"hidden.bs.collapse",CLICK_DATA_API:"click.bs.collapse.data-api"},le="show",de="collapse",ce="collapsing",ue="collapsed",pe="width",he="height",_e=".show, .collapsing",fe='[data-toggle="collapse"]',me=function(){function e(e,t){this._isTransitioning=!1,this._element=e,this._config=this._getConfig(t),this._triggerArray=[].slice.call(document.querySelectorAll('[data-toggle="collapse"][href="#'+e.id+'"],[data-toggle="collapse"][data-target="#'+e.id+'"]'));for(var a=[].slice.call(document.querySelectorAll(fe)),i=0,n=a.length;i<n;i++){var s=a[i],o=d.getSelectorFromElement(s),r=[].slice.call(document.querySelectorAll(o)).filter((function(t){return t===e}));null!==o&&r.length>0&&(this._selector=o,this._triggerArray.push(s))}this._parent=this._config.parent?this._getParent():null,this._config.parent||this._addAriaAndCollapsedClass(this._element,this._triggerArray),this._config.toggle&&this.toggle()}var a=e.prototype;return a.toggle=function(){t(this._element).hasClass(le)?this.hide():this.show()},a.show=function(){var a,i,n=this;if(!this._isTransitioning&&!t(this._element).hasClass(le)&&(this._parent&&0===(a=[].slice.call(this._parent.querySelectorAll(_e)).filter((function(e){return"string"==typeof n._config.parent?e.getAttribute("data-parent")===n._config.parent:e.classList.contains(de)}))).length&&(a=null),!(a&&(i=t(a).not(this._selector).data("bs.collapse"))&&i._isTransitioning))){var s=t.Event(re.SHOW);if(t(this._element).trigger(s),!s.isDefaultPrevented()){a&&(e._jQueryInterface.call(t(a).not(this._selector),"hide"),i||t(a).data("bs.collapse",null));var o=this._getDimension();t(this._element).removeClass(de).addClass(ce),this._element.style[o]=0,this._triggerArray.length&&t(this._triggerArray).removeClass(ue).attr("aria-expanded",!0),this.setTransitioning(!0);var r="scroll"+(o[0].toUpperCase()+o.slice(1)),l=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,(function(){t(n._element).removeClass(ce).addClass(de).addClass(le),n._element.style[o]="",n.setTransitioning(!1),t(n._element).trigger(re.SHOWN)})).emulateTransitionEnd(l),this._element.style[o]=this._element[r]+"px"}}},a.hide=function(){var e=this;if(!this._isTransitioning&&t(this._element).hasClass(le)){var a=t.Event(re.HIDE);if(t(this._element).trigger(a),!a.isDefaultPrevented()){var i=this._getDimension();this._element.style[i]=this._element.getBoundingClientRect()[i]+"px",d.reflow(this._element),t(this._element).addClass(ce).removeClass(de).removeClass(le);var n=this._triggerArray.length;if(n>0)for(var s=0;s<n;s++){var o=this._triggerArray[s],r=d.getSelectorFromElement(o);if(null!==r)t([].slice.call(document.querySelectorAll(r))).hasClass(le)||t(o).addClass(ue).attr("aria-expanded",!1)}this.setTransitioning(!0);this._element.style[i]="";var l=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,(function(){e.setTransitioning(!1),t(e._element).removeClass(ce).addClass(de).trigger(re.HIDDEN)})).emulateTransitionEnd(l)}}},a.setTransitioning=function(e){this._isTransitioning=e},a.dispose=function(){t.removeData(this._element,"bs.collapse"),this._config=null,this._parent=null,this._element=null,this._triggerArray=null,this._isTransitioning=null},a._getConfig=function(e){return(e=r({},se,{},e)).toggle=Boolean(e.toggle),d.typeCheckConfig(ie,e,oe),e},a._getDimension=function(){return t(this._element).hasClass(pe)?pe:he},a._getParent=function(){var a,i=this;d.isElement(this._config.parent)?(a=this._config.parent,void 0!==this._config.parent.jquery&&(a=this._config.parent[0])):a=document.querySelector(this._config.parent);var n='[data-toggle="collapse"][data-parent="'+this._config.parent+'"]',s=[].slice.call(a.querySelectorAll(n));return t(s).each((function(t,a){i._addAriaAndCollapsedClass(e._getTargetFromElement(a),[a])})),a},a._addAriaAndCollapsedClass=function(e,a){var i=t(e).hasClass(le);a.length&&t(a).toggleClass(ue,!i).attr("aria-expanded",i)},e._getTargetFromElement=function(e){var t=d.getSelectorFromElement(e);return t?document.querySelector(t):null},e._jQueryInterface=function(a){return this.each((function(){var i=t(this),n=i.data("bs.collapse"),s=r({},se,{},i.data(),{},"object"==typeof a&&a?a:{});if(!n&&s.toggle&&/show|hide/.test(a)&&(s.toggle=!1),n||(n=new e(this,s),i.data("bs.collapse",n)),"string"==typeof a){if(void 0===n[a])throw new TypeError('No method named "'+a+'"');n[a]()}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return se}}]),e}();t(document).on(re.CLICK_DATA_API,fe,(function(e){"A"===e.currentTarget.tagName&&e.preventDefault();var a=t(this),i=d.getSelectorFromElement(this),n=[].slice.call(document.querySelectorAll(i));t(n).each((function(){var e=t(this),i=e.data("bs.collapse")?"toggle":a.data();me._jQueryInterface.call(e,i)}))})),t.fn[ie]=me._jQueryInterface,t.fn[ie].Constructor=me,t.fn[ie].noConflict=function(){return t.fn[ie]=ne,me._jQueryInterface};var ge="dropdown",ve=t.fn[ge],ye=new RegExp("38|40|27"),we={HIDE:"hide.bs.dropdown",HIDDEN:"hidden.bs.dropdown",SHOW:"show.bs.dropdown",SHOWN:"shown.bs.dropdown",CLICK:"click.bs.dropdown",CLICK_DATA_API:"click.bs.dropdown.data-api",KEYDOWN_DATA_API:"keydown.bs.dropdown.data-api",KEYUP_DATA_API:"keyup.bs.dropdown.data-api"},be="disabled",ke="show",Ce="dropup",xe="dropright",Ee="dropleft",Te="dropdown-menu-right",ze="position-static",Se='[data-toggle="dropdown"]',Ae=".dropdown form",Ie=".dropdown-menu",De=".navbar-nav",Pe=".dropdown-menu .dropdown-item:not(.disabled):not(:disabled)",Oe="top-start",Ne="top-end",qe="bottom-start",Re="bottom-end",Le="right-start",Me="left-start",je={offset:0,flip:!0,boundary:"scrollParent",reference:"toggle",display:"dynamic",popperConfig:null},$e={offset:"(number|string|function)",flip:"boolean",boundary:"(string|element)",reference:"(string|element)",display:"string",popperConfig:"(null|object)"},We=function(){function e(e,t){this._element=e,this._popper=null,this._config=this._getConfig(t),this._menu=this._getMenuElement(),this._inNavbar=this._detectNavbar(),this._addEventListeners()}var i=e.prototype;return i.toggle=function(){if(!this._element.disabled&&!t(this._element).hasClass(be)){var a=t(this._menu).hasClass(ke);e._clearMenus(),a||this.show(!0)}},i.show=function(i){if(void 0===i&&(i=!1),!(this._element.disabled||t(this._element).hasClass(be)||t(this._menu).hasClass(ke))){var n={relatedTarget:this._element},s=t.Event(we.SHOW,n),o=e._getParentFromElement(this._element);if(t(o).trigger(s),!s.isDefaultPrevented()){if(!this._inNavbar&&i){if(void 0===a)throw new TypeError("Bootstrap's dropdowns require Popper.js (https://popper.js.org/)");var r=this._element;"parent"===this._config.reference?r=o:d.isElement(this._config.reference)&&(r=this._config.reference,void 0!==this._config.reference.jquery&&(r=this._config.reference[0])),"scrollParent"!==this._config.boundary&&t(o).addClass(ze),this._popper=new a(r,this._menu,this._getPopperConfig())}"ontouchstart"in document.documentElement&&0===t(o).closest(De).length&&t(document.body).children().on("mouseover",null,t.noop),this._element.focus(),this._element.setAttribute("aria-expanded",!0),t(this._menu).toggleClass(ke),t(o).toggleClass(ke).trigger(t.Event(we.SHOWN,n))}}},i.hide=function(){if(!this._element.disabled&&!t(this._element).hasClass(be)&&t(this._menu).hasClass(ke)){var a={relatedTarget:this._element},i=t.Event(we.HIDE,a),n=e._getParentFromElement(this._element);t(n).trigger(i),i.isDefaultPrevented()||(this._popper&&this._popper.destroy(),t(this._menu).toggleClass(ke),t(n).toggleClass(ke).trigger(t.Event(we.HIDDEN,a)))}},i.dispose=function(){t.removeData(this._element,"bs.dropdown"),t(this._element).off(".bs.dropdown"),this._element=null,this._menu=null,null!==this._popper&&(this._popper.destroy(),this._popper=null)},i.update=function(){this._inNavbar=this._detectNavbar(),null!==this._popper&&this._popper.scheduleUpdate()},i._addEventListeners=function(){var e=this;t(this._element).on(we.CLICK,(function(t){t.preventDefault(),t.stopPropagation(),e.toggle()}))},i._getConfig=function(e){return e=r({},this.constructor.Default,{},t(this._element).data(),{},e),d.typeCheckConfig(ge,e,this.constructor.DefaultType),e},i._getMenuElement=function(){if(!this._menu){var t=e._getParentFromElement(this._element);t&&(this._menu=t.querySelector(Ie))}return this._menu},i._getPlacement=function(){var e=t(this._element.parentNode),a=qe;return e.hasClass(Ce)?(a=Oe,t(this._menu).hasClass(Te)&&(a=Ne)):e.hasClass(xe)?a=Le:e.hasClass(Ee)?a=Me:t(this._menu).hasClass(Te)&&(a=Re),a},i._detectNavbar=function(){return t(this._element).closest(".navbar").length>0},i._getOffset=function(){var e=this,t={};return"function"==typeof this._config.offset?t.fn=function(t){return t.offsets=r({},t.offsets,{},e._config.offset(t.offsets,e._element)||{}),t}:t.offset=this._config.offset,t},i._getPopperConfig=function(){var e={placement:this._getPlacement(),modifiers:{offset:this._getOffset(),flip:{enabled:this._config.flip},preventOverflow:{boundariesElement:this._config.boundary}}};return"static"===this._config.display&&(e.modifiers.applyStyle={enabled:!1}),r({},e,{},this._config.popperConfig)},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.dropdown");if(i||(i=new e(this,"object"==typeof a?a:null),t(this).data("bs.dropdown",i)),"string"==typeof a){if(void 0===i[a])throw new TypeError('No method named "'+a+'"');i[a]()}}))},e._clearMenus=function(a){if(!a||3!==a.which&&("keyup"!==a.type||9===a.which))for(var i=[].slice.call(document.querySelectorAll(Se)),n=0,s=i.length;n<s;n++){var o=e._getParentFromElement(i[n]),r=t(i[n]).data("bs.dropdown"),l={relatedTarget:i[n]};if(a&&"click"===a.type&&(l.clickEvent=a),r){var d=r._menu;if(t(o).hasClass(ke)&&!(a&&("click"===a.type&&/input|textarea/i.test(a.target.tagName)||"keyup"===a.type&&9===a.which)&&t.contains(o,a.target))){var c=t.Event(we.HIDE,l);t(o).trigger(c),c.isDefaultPrevented()||("ontouchstart"in document.documentElement&&t(document.body).children().off("mouseover",null,t.noop),i[n].setAttribute("aria-expanded","false"),r._popper&&r._popper.destroy(),t(d).removeClass(ke),t(o).removeClass(ke).trigger(t.Event(we.HIDDEN,l)))}}}},e._getParentFromElement=function(e){var t,a=d.getSelectorFromElement(e);return a&&(t=document.querySelector(a)),t||e.parentNode},e._dataApiKeydownHandler=function(a){if((/input|textarea/i.test(a.target.tagName)?!(32===a.which||27!==a.which&&(40!==a.which&&38!==a.which||t(a.target).closest(Ie).length)):ye.test(a.which))&&(a.preventDefault(),a.stopPropagation(),!this.disabled&&!t(this).hasClass(be))){var i=e._getParentFromElement(this),n=t(i).hasClass(ke);if(n||27!==a.which)if(n&&(!n||27!==a.which&&32!==a.which)){var s=[].slice.call(i.querySelectorAll(Pe)).filter((function(e){return t(e).is(":visible")}));if(0!==s.length){var o=s.indexOf(a.target);38===a.which&&o>0&&o--,40===a.which&&o<s.length-1&&o++,o<0&&(o=0),s[o].focus()}}else{if(27===a.which){var r=i.querySelector(Se);t(r).trigger("focus")}t(this).trigger("click")}}},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return je}},{key:"DefaultType",get:function(){return $e}}]),e}();t(document).on(we.KEYDOWN_DATA_API,Se,We._dataApiKeydownHandler).on(we.KEYDOWN_DATA_API,Ie,We._dataApiKeydownHandler).on(we.CLICK_DATA_API+" "+we.KEYUP_DATA_API,We._clearMenus).on(we.CLICK_DATA_API,Se,(function(e){e.preventDefault(),e.stopPropagation(),We._jQueryInterface.call(t(this),"toggle")})).on(we.CLICK_DATA_API,Ae,(function(e){e.stopPropagation()})),t.fn[ge]=We._jQueryInterface,t.fn[ge].Constructor=We,t.fn[ge].noConflict=function(){return t.fn[ge]=ve,We._jQueryInterface};var He=t.fn.modal,Be={backdrop:!0,keyboard:!0,focus:!0,show:!0},Fe={backdrop:"(boolean|string)",keyboard:"boolean",focus:"boolean",show:"boolean"},Ue={HIDE:"hide.bs.modal",HIDE_PREVENTED:"hidePrevented.bs.modal",HIDDEN:"hidden.bs.modal",SHOW:"show.bs.modal",SHOWN:"shown.bs.modal",FOCUSIN:"focusin.bs.modal",RESIZE:"resize.bs.modal",CLICK_DISMISS:"click.dismiss.bs.modal",KEYDOWN_DISMISS:"keydown.dismiss.bs.modal",MOUSEUP_DISMISS:"mouseup.dismiss.bs.modal",MOUSEDOWN_DISMISS:"mousedown.dismiss.bs.modal",CLICK_DATA_API:"click.bs.modal.data-api"},Qe="modal-dialog-scrollable",Ve="modal-scrollbar-measure",Ke="modal-backdrop",Ye="modal-open",Xe="fade",Ge="show",Je="modal-static",Ze=".modal-dialog",et=".modal-body",tt='[data-toggle="modal"]',at='[data-dismiss="modal"]',it=".fixed-top, .fixed-bottom, .is-fixed, .sticky-top",nt=".sticky-top",st=function(){function e(e,t){this._config=this._getConfig(t),this._element=e,this._dialog=e.querySelector(Ze),this._backdrop=null,this._isShown=!1,this._isBodyOverflowing=!1,this._ignoreBackdropClick=!1,this._isTransitioning=!1,this._scrollbarWidth=0}var a=e.prototype;return a.toggle=function(e){return this._isShown?this.hide():this.show(e)},a.show=function(e){var a=this;if(!this._isShown&&!this._isTransitioning){t(this._element).hasClass(Xe)&&(this._isTransitioning=!0);var i=t.Event(Ue.SHOW,{relatedTarget:e});t(this._element).trigger(i),this._isShown||i.isDefaultPrevented()||(this._isShown=!0,this._checkScrollbar(),this._setScrollbar(),this._adjustDialog(),this._setEscapeEvent(),this._setResizeEvent(),t(this._element).on(Ue.CLICK_DISMISS,at,(function(e){return a.hide(e)})),t(this._dialog).on(Ue.MOUSEDOWN_DISMISS,(function(){t(a._element).one(Ue.MOUSEUP_DISMISS,(function(e){t(e.target).is(a._element)&&(a._ignoreBackdropClick=!0)}))})),this._showBackdrop((function(){return a._showElement(e)})))}},a.hide=function(e){var a=this;if(e&&e.preventDefault(),this._isShown&&!this._isTransitioning){var i=t.Event(Ue.HIDE);if(t(this._element).trigger(i),this._isShown&&!i.isDefaultPrevented()){this._isShown=!1;var n=t(this._element).hasClass(Xe);if(n&&(this._isTransitioning=!0),this._setEscapeEvent(),this._setResizeEvent(),t(document).off(Ue.FOCUSIN),t(this._element).removeClass(Ge),t(this._element).off(Ue.CLICK_DISMISS),t(this._dialog).off(Ue.MOUSEDOWN_DISMISS),n){var s=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,(function(e){return a._hideModal(e)})).emulateTransitionEnd(s)}else this._hideModal()}}},a.dispose=function(){[window,this._element,this._dialog].forEach((function(e){return t(e).off(".bs.modal")})),t(document).off(Ue.FOCUSIN),t.removeData(this._element,"bs.modal"),this._config=null,this._element=null,this._dialog=null,this._backdrop=null,this._isShown=null,this._isBodyOverflowing=null,this._ignoreBackdropClick=null,this._isTransitioning=null,this._scrollbarWidth=null},a.handleUpdate=function(){this._adjustDialog()},a._getConfig=function(e){return e=r({},Be,{},e),d.typeCheckConfig("modal",e,Fe),e},a._triggerBackdropTransition=function(){var e=this;if("static"===this._config.backdrop){var a=t.Event(Ue.HIDE_PREVENTED);if(t(this._element).trigger(a),a.defaultPrevented)return;this._element.classList.add(Je);var i=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,(function(){e._element.classList.remove(Je)})).emulateTransitionEnd(i),this._element.focus()}else this.hide()},a._showElement=function(e){var a=this,i=t(this._element).hasClass(Xe),n=this._dialog?this._dialog.querySelector(et):null;this._element.parentNode&&this._element.parentNode.nodeType===Node.ELEMENT_NODE||document.body.appendChild(this._element),this._element.style.display="block",this._element.removeAttribute("aria-hidden"),this._element.setAttribute("aria-modal",!0),t(this._dialog).hasClass(Qe)&&n?n.scrollTop=0:this._element.scrollTop=0,i&&d.reflow(this._element),t(this._element).addClass(Ge),this._config.focus&&this._enforceFocus();var s=t.Event(Ue.SHOWN,{relatedTarget:e}),o=function(){a._config.focus&&a._element.focus(),a._isTransitioning=!1,t(a._element).trigger(s)};if(i){var r=d.getTransitionDurationFromElement(this._dialog);t(this._dialog).one(d.TRANSITION_END,o).emulateTransitionEnd(r)}else o()},a._enforceFocus=function(){var e=this;t(document).off(Ue.FOCUSIN).on(Ue.FOCUSIN,(function(a){document!==a.target&&e._element!==a.target&&0===t(e._element).has(a.target).length&&e._element.focus()}))},a._setEscapeEvent=function(){var e=this;this._isShown&&this._config.keyboard?t(this._element).on(Ue.KEYDOWN_DISMISS,(function(t){27===t.which&&e._triggerBackdropTransition()})):this._isShown||t(this._element).off(Ue.KEYDOWN_DISMISS)},a._setResizeEvent=function(){var e=this;this._isShown?t(window).on(Ue.RESIZE,(function(t){return e.handleUpdate(t)})):t(window).off(Ue.RESIZE)},a._hideModal=function(){var e=this;this._element.style.display="none",this._element.setAttribute("aria-hidden",!0),this._element.removeAttribute("aria-modal"),this._isTransitioning=!1,this._showBackdrop((function(){t(document.body).removeClass(Ye),e._resetAdjustments(),e._resetScrollbar(),t(e._element).trigger(Ue.HIDDEN)}))},a._removeBackdrop=function(){this._backdrop&&(t(this._backdrop).remove(),this._backdrop=null)},a._showBackdrop=function(e){var a=this,i=t(this._element).hasClass(Xe)?Xe:"";if(this._isShown&&this._config.backdrop){if(this._backdrop=document.createElement("div"),this._backdrop.className=Ke,i&&this._backdrop.classList.add(i),t(this._backdrop).appendTo(document.body),t(this._element).on(Ue.CLICK_DISMISS,(function(e){a._ignoreBackdropClick?a._ignoreBackdropClick=!1:e.target===e.currentTarget&&a._triggerBackdropTransition()})),i&&d.reflow(this._backdrop),t(this._backdrop).addClass(Ge),!e)return;if(!i)return void e();var n=d.getTransitionDurationFromElement(this._backdrop);t(this._backdrop).one(d.TRANSITION_END,e).emulateTransitionEnd(n)}else if(!this._isShown&&this._backdrop){t(this._backdrop).removeClass(Ge);var s=function(){a._removeBackdrop(),e&&e()};if(t(this._element).hasClass(Xe)){var o=d.getTransitionDurationFromElement(this._backdrop);t(this._backdrop).one(d.TRANSITION_END,s).emulateTransitionEnd(o)}else s()}else e&&e()},a._adjustDialog=function(){var e=this._element.scrollHeight>document.documentElement.clientHeight;!this._isBodyOverflowing&&e&&(this._element.style.paddingLeft=this._scrollbarWidth+"px"),this._isBodyOverflowing&&!e&&(this._element.style.paddingRight=this._scrollbarWidth+"px")},a._resetAdjustments=function(){this._element.style.paddingLeft="",this._element.style.paddingRight=""},a._checkScrollbar=function(){var e=document.body.getBoundingClientRect();this._isBodyOverflowing=e.left+e.right<window.innerWidth,this._scrollbarWidth=this._getScrollbarWidth()},a._setScrollbar=function(){var e=this;if(this._isBodyOverflowing){var a=[].slice.call(document.querySelectorAll(it)),i=[].slice.call(document.querySelectorAll(nt));t(a).each((function(a,i){var n=i.style.paddingRight,s=t(i).css("padding-right");t(i).data("padding-right",n).css("padding-right",parseFloat(s)+e._scrollbarWidth+"px")})),t(i).each((function(a,i){var n=i.style.marginRight,s=t(i).css("margin-right");t(i).data("margin-right",n).css("margin-right",parseFloat(s)-e._scrollbarWidth+"px")}));var n=document.body.style.paddingRight,s=t(document.body).css("padding-right");t(document.body).data("padding-right",n).css("padding-right",parseFloat(s)+this._scrollbarWidth+"px")}t(document.body).addClass(Ye)},a._resetScrollbar=function(){var e=[].slice.call(document.querySelectorAll(it));t(e).each((function(e,a){var i=t(a).data("padding-right");t(a).removeData("padding-right"),a.style.paddingRight=i||""}));var a=[].slice.call(document.querySelectorAll(""+nt));t(a).each((function(e,a){var i=t(a).data("margin-right");void 0!==i&&t(a).css("margin-right",i).removeData("margin-right")}));var i=t(document.body).data("padding-right");t(document.body).removeData("padding-right"),document.body.style.paddingRight=i||""},a._getScrollbarWidth=function(){var e=document.createElement("div");e.className=Ve,document.body.appendChild(e);var t=e.getBoundingClientRect().width-e.clientWidth;return document.body.removeChild(e),t},e._jQueryInterface=function(a,i){return this.each((function(){var n=t(this).data("bs.modal"),s=r({},Be,{},t(this).data(),{},"object"==typeof a&&a?a:{});if(n||(n=new e(this,s),t(this).data("bs.modal",n)),"string"==typeof a){if(void 0===n[a])throw new TypeError('No method named "'+a+'"');n[a](i)}else s.show&&n.show(i)}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return Be}}]),e}();t(document).on(Ue.CLICK_DATA_API,tt,(function(e){var a,i=this,n=d.getSelectorFromElement(this);n&&(a=document.querySelector(n));var s=t(a).data("bs.modal")?"toggle":r({},t(a).data(),{},t(this).data());"A"!==this.tagName&&"AREA"!==this.tagName||e.preventDefault();var o=t(a).one(Ue.SHOW,(function(e){e.isDefaultPrevented()||o.one(Ue.HIDDEN,(function(){t(i).is(":visible")&&i.focus()}))}));st._jQueryInterface.call(t(a),s,this)})),t.fn.modal=st._jQueryInterface,t.fn.modal.Constructor=st,t.fn.modal.noConflict=function(){return t.fn.modal=He,st._jQueryInterface};var ot=["background","cite","href","itemtype","longdesc","poster","src","xlink:href"],rt={"*":["class","dir","id","lang","role",/^aria-[\w-]*$/i],a:["target","href","title","rel"],area:[],b:[],br:[],col:[],code:[],div:[],em:[],hr:[],h1:[],h2:[],h3:[],h4:[],h5:[],h6:[],i:[],img:["src","alt","title","width","height"],li:[],ol:[],p:[],pre:[],s:[],small:[],span:[],sub:[],sup:[],strong:[],u:[],ul:[]},lt=/^(?:(?:https?|mailto|ftp|tel|file):|[^&:/?#]*(?:[/?#]|$))/gi,dt=/^data:(?:image\/(?:bmp|gif|jpeg|jpg|png|tiff|webp)|video\/(?:mpeg|mp4|ogg|webm)|audio\/(?:mp3|oga|ogg|opus));base64,[a-z0-9+/]+=*$/i;function ct(e,t,a){if(0===e.length)return e;if(a&&"function"==typeof a)return a(e);for(var i=(new window.DOMParser).parseFromString(e,"text/html"),n=Object.keys(t),s=[].slice.call(i.body.querySelectorAll("*")),o=function(e,a){var i=s[e],o=i.nodeName.toLowerCase();if(-1===n.indexOf(i.nodeName.toLowerCase()))return i.parentNode.removeChild(i),"continue";var r=[].slice.call(i.attributes),l=[].concat(t["*"]||[],t[o]||[]);r.forEach((function(e){(function(e,t){var a=e.nodeName.toLowerCase();if(-1!==t.indexOf(a))return-1===ot.indexOf(a)||Boolean(e.nodeValue.match(lt)||e.nodeValue.match(dt));for(var i=t.filter((function(e){return e instanceof RegExp})),n=0,s=i.length;n<s;n++)if(a.match(i[n]))return!0;return!1})(e,l)||i.removeAttribute(e.nodeName)}))},r=0,l=s.length;r<l;r++)o(r);return i.body.innerHTML}var ut="tooltip",pt=t.fn.tooltip,ht=new RegExp("(^|\\s)bs-tooltip\\S+","g"),_t=["sanitize","whiteList","sanitizeFn"],ft={animation:"boolean",template:"string",title:"(string|element|function)",trigger:"string",delay:"(number|object)",html:"boolean",selector:"(string|boolean)",placement:"(string|function)",offset:"(number|string|function)",container:"(string|element|boolean)",fallbackPlacement:"(string|array)",boundary:"(string|element)",sanitize:"boolean",sanitizeFn:"(null|function)",whiteList:"object",popperConfig:"(null|object)"},mt={AUTO:"auto",TOP:"top",RIGHT:"right",BOTTOM:"bottom",LEFT:"left"},gt={animation:!0,template:'<div class="tooltip" role="tooltip"><div class="arrow"></div><div class="tooltip-inner"></div></div>',trigger:"hover focus",title:"",delay:0,html:!1,selector:!1,placement:"top",offset:0,container:!1,fallbackPlacement:"flip",boundary:"scrollParent",sanitize:!0,sanitizeFn:null,whiteList:rt,popperConfig:null},vt="show",yt="out",wt={HIDE:"hide.bs.tooltip",HIDDEN:"hidden.bs.tooltip",SHOW:"show.bs.tooltip",SHOWN:"shown.bs.tooltip",INSERTED:"inserted.bs.tooltip",CLICK:"click.bs.tooltip",FOCUSIN:"focusin.bs.tooltip",FOCUSOUT:"focusout.bs.tooltip",MOUSEENTER:"mouseenter.bs.tooltip",MOUSELEAVE:"mouseleave.bs.tooltip"},bt="fade",kt="show",Ct=".tooltip-inner",xt=".arrow",Et="hover",Tt="focus",zt="click",St="manual",At=function(){function e(e,t){if(void 0===a)throw new TypeError("Bootstrap's tooltips require Popper.js (https://popper.js.org/)");this._isEnabled=!0,this._timeout=0,this._hoverState="",this._activeTrigger={},this._popper=null,this.element=e,this.config=this._getConfig(t),this.tip=null,this._setListeners()}var i=e.prototype;return i.enable=function(){this._isEnabled=!0},i.disable=function(){this._isEnabled=!1},i.toggleEnabled=function(){this._isEnabled=!this._isEnabled},i.toggle=function(e){if(this._isEnabled)if(e){var a=this.constructor.DATA_KEY,i=t(e.currentTarget).data(a);i||(i=new this.constructor(e.currentTarget,this._getDelegateConfig()),t(e.currentTarget).data(a,i)),i._activeTrigger.click=!i._activeTrigger.click,i._isWithActiveTrigger()?i._enter(null,i):i._leave(null,i)}else{if(t(this.getTipElement()).hasClass(kt))return void this._leave(null,this);this._enter(null,this)}},i.dispose=function(){clearTimeout(this._timeout),t.removeData(this.element,this.constructor.DATA_KEY),t(this.element).off(this.constructor.EVENT_KEY),t(this.element).closest(".modal").off("hide.bs.modal",this._hideModalHandler),this.tip&&t(this.tip).remove(),this._isEnabled=null,this._timeout=null,this._hoverState=null,this._activeTrigger=null,this._popper&&this._popper.destroy(),this._popper=null,this.element=null,this.config=null,this.tip=null},i.show=function(){var e=this;if("none"===t(this.element).css("display"))throw new Error("Please use show on visible elements");var i=t.Event(this.constructor.Event.SHOW);if(this.isWithContent()&&this._isEnabled){t(this.element).trigger(i);var n=d.findShadowRoot(this.element),s=t.contains(null!==n?n:this.element.ownerDocument.documentElement,this.element);if(i.isDefaultPrevented()||!s)return;var o=this.getTipElement(),r=d.getUID(this.constructor.NAME);o.setAttribute("id",r),this.element.setAttribute("aria-describedby",r),this.setContent(),this.config.animation&&t(o).addClass(bt);var l="function"==typeof this.config.placement?this.config.placement.call(this,o,this.element):this.config.placement,c=this._getAttachment(l);this.addAttachmentClass(c);var u=this._getContainer();t(o).data(this.constructor.DATA_KEY,this),t.contains(this.element.ownerDocument.documentElement,this.tip)||t(o).appendTo(u),t(this.element).trigger(this.constructor.Event.INSERTED),this._popper=new a(this.element,o,this._getPopperConfig(c)),t(o).addClass(kt),"ontouchstart"in document.documentElement&&t(document.body).children().on("mouseover",null,t.noop);var p=function(){e.config.animation&&e._fixTransition();var a=e._hoverState;e._hoverState=null,t(e.element).trigger(e.constructor.Event.SHOWN),a===yt&&e._leave(null,e)};if(t(this.tip).hasClass(bt)){var h=d.getTransitionDurationFromElement(this.tip);t(this.tip).one(d.TRANSITION_END,p).emulateTransitionEnd(h)}else p()}},i.hide=function(e){var a=this,i=this.getTipElement(),n=t.Event(this.constructor.Event.HIDE),s=function(){a._hoverState!==vt&&i.parentNode&&i.parentNode.removeChild(i),a._cleanTipClass(),a.element.removeAttribute("aria-describedby"),t(a.element).trigger(a.constructor.Event.HIDDEN),null!==a._popper&&a._popper.destroy(),e&&e()};if(t(this.element).trigger(n),!n.isDefaultPrevented()){if(t(i).removeClass(kt),"ontouchstart"in document.documentElement&&t(document.body).children().off("mouseover",null,t.noop),this._activeTrigger[zt]=!1,this._activeTrigger[Tt]=!1,this._activeTrigger[Et]=!1,t(this.tip).hasClass(bt)){var o=d.getTransitionDurationFromElement(i);t(i).one(d.TRANSITION_END,s).emulateTransitionEnd(o)}else s();this._hoverState=""}},i.update=function(){null!==this._popper&&this._popper.scheduleUpdate()},i.isWithContent=function(){return Boolean(this.getTitle())},i.addAttachmentClass=function(e){t(this.getTipElement()).addClass("bs-tooltip-"+e)},i.getTipElement=function(){return this.tip=this.tip||t(this.config.template)[0],this.tip},i.setContent=function(){var e=this.getTipElement();this.setElementContent(t(e.querySelectorAll(Ct)),this.getTitle()),t(e).removeClass(bt+" "+kt)},i.setElementContent=function(e,a){"object"!=typeof a||!a.nodeType&&!a.jquery?this.config.html?(this.config.sanitize&&(a=ct(a,this.config.whiteList,this.config.sanitizeFn)),e.html(a)):e.text(a):this.config.html?t(a).parent().is(e)||e.empty().append(a):e.text(t(a).text())},i.getTitle=function(){var e=this.element.getAttribute("data-original-title");return e||(e="function"==typeof this.config.title?this.config.title.call(this.element):this.config.title),e},i._getPopperConfig=function(e){var t=this;return r({},{placement:e,modifiers:{offset:this._getOffset(),flip:{behavior:this.config.fallbackPlacement},arrow:{element:xt},preventOverflow:{boundariesElement:this.config.boundary}},onCreate:function(e){e.originalPlacement!==e.placement&&t._handlePopperPlacementChange(e)},onUpdate:function(e){return t._handlePopperPlacementChange(e)}},{},this.config.popperConfig)},i._getOffset=function(){var e=this,t={};return"function"==typeof this.config.offset?t.fn=function(t){return t.offsets=r({},t.offsets,{},e.config.offset(t.offsets,e.element)||{}),t}:t.offset=this.config.offset,t},i._getContainer=function(){return!1===this.config.container?document.body:d.isElement(this.config.container)?t(this.config.container):t(document).find(this.config.container)},i._getAttachment=function(e){return mt[e.toUpperCase()]},i._setListeners=function(){var e=this;this.config.trigger.split(" ").forEach((function(a){if("click"===a)t(e.element).on(e.constructor.Event.CLICK,e.config.selector,(function(t){return e.toggle(t)}));else if(a!==St){var i=a===Et?e.constructor.Event.MOUSEENTER:e.constructor.Event.FOCUSIN,n=a===Et?e.constructor.Event.MOUSELEAVE:e.constructor.Event.FOCUSOUT;t(e.element).on(i,e.config.selector,(function(t){return e._enter(t)})).on(n,e.config.selector,(function(t){return e._leave(t)}))}})),this._hideModalHandler=function(){e.element&&e.hide()},t(this.element).closest(".modal").on("hide.bs.modal",this._hideModalHandler),this.config.selector?this.config=r({},this.config,{trigger:"manual",selector:""}):this._fixTitle()},i._fixTitle=function(){var e=typeof this.element.getAttribute("data-original-title");(this.element.getAttribute("title")||"string"!==e)&&(this.element.setAttribute("data-original-title",this.element.getAttribute("title")||""),this.element.setAttribute("title",""))},i._enter=function(e,a){var i=this.constructor.DATA_KEY;(a=a||t(e.currentTarget).data(i))||(a=new this.constructor(e.currentTarget,this._getDelegateConfig()),t(e.currentTarget).data(i,a)),e&&(a._activeTrigger["focusin"===e.type?Tt:Et]=!0),t(a.getTipElement()).hasClass(kt)||a._hoverState===vt?a._hoverState=vt:(clearTimeout(a._timeout),a._hoverState=vt,a.config.delay&&a.config.delay.show?a._timeout=setTimeout((function(){a._hoverState===vt&&a.show()}),a.config.delay.show):a.show())},i._leave=function(e,a){var i=this.constructor.DATA_KEY;(a=a||t(e.currentTarget).data(i))||(a=new this.constructor(e.currentTarget,this._getDelegateConfig()),t(e.currentTarget).data(i,a)),e&&(a._activeTrigger["focusout"===e.type?Tt:Et]=!1),a._isWithActiveTrigger()||(clearTimeout(a._timeout),a._hoverState=yt,a.config.delay&&a.config.delay.hide?a._timeout=setTimeout((function(){a._hoverState===yt&&a.hide()}),a.config.delay.hide):a.hide())},i._isWithActiveTrigger=function(){for(var e in this._activeTrigger)if(this._activeTrigger[e])return!0;return!1},i._getConfig=function(e){var a=t(this.element).data();return Object.keys(a).forEach((function(e){-1!==_t.indexOf(e)&&delete a[e]})),"number"==typeof(e=r({},this.constructor.Default,{},a,{},"object"==typeof e&&e?e:{})).delay&&(e.delay={show:e.delay,hide:e.delay}),"number"==typeof e.title&&(e.title=e.title.toString()),"number"==typeof e.content&&(e.content=e.content.toString()),d.typeCheckConfig(ut,e,this.constructor.DefaultType),e.sanitize&&(e.template=ct(e.template,e.whiteList,e.sanitizeFn)),e},i._getDelegateConfig=function(){var e={};if(this.config)for(var t in this.config)this.constructor.Default[t]!==this.config[t]&&(e[t]=this.config[t]);return e},i._cleanTipClass=function(){var e=t(this.getTipElement()),a=e.attr("class").match(ht);null!==a&&a.length&&e.removeClass(a.join(""))},i._handlePopperPlacementChange=function(e){var t=e.instance;this.tip=t.popper,this._cleanTipClass(),this.addAttachmentClass(this._getAttachment(e.placement))},i._fixTransition=function(){var e=this.getTipElement(),a=this.config.animation;null===e.getAttribute("x-placement")&&(t(e).removeClass(bt),this.config.animation=!1,this.hide(),this.show(),this.config.animation=a)},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.tooltip"),n="object"==typeof a&&a;if((i||!/dispose|hide/.test(a))&&(i||(i=new e(this,n),t(this).data("bs.tooltip",i)),"string"==typeof a)){if(void 0===i[a])throw new TypeError('No method named "'+a+'"');i[a]()}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return gt}},{key:"NAME",get:function(){return ut}},{key:"DATA_KEY",get:function(){return"bs.tooltip"}},{key:"Event",get:function(){return wt}},{key:"EVENT_KEY",get:function(){return".bs.tooltip"}},{key:"DefaultType",get:function(){return ft}}]),e}();t.fn.tooltip=At._jQueryInterface,t.fn.tooltip.Constructor=At,t.fn.tooltip.noConflict=function(){return t.fn.tooltip=pt,At._jQueryInterface};var It="popover",Dt=t.fn.popover,Pt=new RegExp("(^|\\s)bs-popover\\S+","g"),Ot=r({},At.Default,{placement:"right",trigger:"click",content:"",template:'<div class="popover" role="tooltip"><div class="arrow"></div><h3 class="popover-header"></h3><div class="popover-body"></div></div>'}),Nt=r({},At.DefaultType,{content:"(string|element|function)"}),qt="fade",Rt="show",Lt=".popover-header",Mt=".popover-body",jt={HIDE:"hide.bs.popover",HIDDEN:"hidden.bs.popover",SHOW:"show.bs.popover",SHOWN:"shown.bs.popover",INSERTED:"inserted.bs.popover",CLICK:"click.bs.popover",FOCUSIN:"focusin.bs.popover",FOCUSOUT:"focusout.bs.popover",MOUSEENTER:"mouseenter.bs.popover",MOUSELEAVE:"mouseleave.bs.popover"},$t=function(e){var a,i;function s(){return e.apply(this,arguments)||this}i=e,(a=s).prototype=Object.create(i.prototype),a.prototype.constructor=a,a.__proto__=i;var o=s.prototype;return o.isWithContent=function(){return this.getTitle()||this._getContent()},o.addAttachmentClass=function(e){t(this.getTipElement()).addClass("bs-popover-"+e)},o.getTipElement=function(){return this.tip=this.tip||t(this.config.template)[0],this.tip},o.setContent=function(){var e=t(this.getTipElement());this.setElementContent(e.find(Lt),this.getTitle());var a=this._getContent();"function"==typeof a&&(a=a.call(this.element)),this.setElementContent(e.find(Mt),a),e.removeClass(qt+" "+Rt)},o._getContent=function(){return this.element.getAttribute("data-content")||this.config.content},o._cleanTipClass=function(){var e=t(this.getTipElement()),a=e.attr("class").match(Pt);null!==a&&a.length>0&&e.removeClass(a.join(""))},s._jQueryInterface=function(e){return this.each((function(){var a=t(this).data("bs.popover"),i="object"==typeof e?e:null;if((a||!/dispose|hide/.test(e))&&(a||(a=new s(this,i),t(this).data("bs.popover",a)),"string"==typeof e)){if(void 0===a[e])throw new TypeError('No method named "'+e+'"');a[e]()}}))},n(s,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return Ot}},{key:"NAME",get:function(){return It}},{key:"DATA_KEY",get:function(){return"bs.popover"}},{key:"Event",get:function(){return jt}},{key:"EVENT_KEY",get:function(){return".bs.popover"}},{key:"DefaultType",get:function(){return Nt}}]),s}(At);t.fn.popover=$t._jQueryInterface,t.fn.popover.Constructor=$t,t.fn.popover.noConflict=function(){return t.fn.popover=Dt,$t._jQueryInterface};var Wt="scrollspy",Ht=t.fn[Wt],Bt={offset:10,method:"auto",target:""},Ft={offset:"number",method:"string",target:"(string|element)"},Ut={ACTIVATE:"activate.bs.scrollspy",SCROLL:"scroll.bs.scrollspy",LOAD_DATA_API:"load.bs.scrollspy.data-api"},Qt="dropdown-item",Vt="active",Kt='[data-spy="scroll"]',Yt=".nav, .list-group",Xt=".nav-link",Gt=".nav-item",Jt=".list-group-item",Zt=".dropdown",ea=".dropdown-item",ta=".dropdown-toggle",aa="offset",ia="position",na=function(){function e(e,a){var i=this;this._element=e,this._scrollElement="BODY"===e.tagName?window:e,this._config=this._getConfig(a),this._selector=this._config.target+" "+Xt+","+this._config.target+" "+Jt+","+this._config.target+" "+ea,this._offsets=[],this._targets=[],this._activeTarget=null,this._scrollHeight=0,t(this._scrollElement).on(Ut.SCROLL,(function(e){return i._process(e)})),this.refresh(),this._process()}var a=e.prototype;return a.refresh=function(){var e=this,a=this._scrollElement===this._scrollElement.window?aa:ia,i="auto"===this._config.method?a:this._config.method,n=i===ia?this._getScrollTop():0;this._offsets=[],this._targets=[],this._scrollHeight=this._getScrollHeight(),[].slice.call(document.querySelectorAll(this._selector)).map((function(e){var a,s=d.getSelectorFromElement(e);if(s&&(a=document.querySelector(s)),a){var o=a.getBoundingClientRect();if(o.width||o.height)return[t(a)[i]().top+n,s]}return null})).filter((function(e){return e})).sort((function(e,t){return e[0]-t[0]})).forEach((function(t){e._offsets.push(t[0]),e._targets.push(t[1])}))},a.dispose=function(){t.removeData(this._element,"bs.scrollspy"),t(this._scrollElement).off(".bs.scrollspy"),this._element=null,this._scrollElement=null,this._config=null,this._selector=null,this._offsets=null,this._targets=null,this._activeTarget=null,this._scrollHeight=null},a._getConfig=function(e){if("string"!=typeof(e=r({},Bt,{},"object"==typeof e&&e?e:{})).target){var a=t(e.target).attr("id");a||(a=d.getUID(Wt),t(e.target).attr("id",a)),e.target="#"+a}return d.typeCheckConfig(Wt,e,Ft),e},a._getScrollTop=function(){return this._scrollElement===window?this._scrollElement.pageYOffset:this._scrollElement.scrollTop},a._getScrollHeight=function(){return this._scrollElement.scrollHeight||Math.max(document.body.scrollHeight,document.documentElement.scrollHeight)},a._getOffsetHeight=function(){return this._scrollElement===window?window.innerHeight:this._scrollElement.getBoundingClientRect().height},a._process=function(){var e=this._getScrollTop()+this._config.offset,t=this._getScrollHeight(),a=this._config.offset+t-this._getOffsetHeight();if(this._scrollHeight!==t&&this.refresh(),e>=a){var i=this._targets[this._targets.length-1];this._activeTarget!==i&&this._activate(i)}else{if(this._activeTarget&&e<this._offsets[0]&&this._offsets[0]>0)return this._activeTarget=null,void this._clear();for(var n=this._offsets.length;n--;){this._activeTarget!==this._targets[n]&&e>=this._offsets[n]&&(void 0===this._offsets[n+1]||e<this._offsets[n+1])&&this._activate(this._targets[n])}}},a._activate=function(e){this._activeTarget=e,this._clear();var a=this._selector.split(",").map((function(t){return t+'[data-target="'+e+'"],'+t+'[href="'+e+'"]'})),i=t([].slice.call(document.querySelectorAll(a.join(","))));i.hasClass(Qt)?(i.closest(Zt).find(ta).addClass(Vt),i.addClass(Vt)):(i.addClass(Vt),i.parents(Yt).prev(Xt+", "+Jt).addClass(Vt),i.parents(Yt).prev(Gt).children(Xt).addClass(Vt)),t(this._scrollElement).trigger(Ut.ACTIVATE,{relatedTarget:e})},a._clear=function(){[].slice.call(document.querySelectorAll(this._selector)).filter((function(e){return e.classList.contains(Vt)})).forEach((function(e){return e.classList.remove(Vt)}))},e._jQueryInterface=function(a){return this.each((function(){var i=t(this).data("bs.scrollspy");if(i||(i=new e(this,"object"==typeof a&&a),t(this).data("bs.scrollspy",i)),"string"==typeof a){if(void 0===i[a])throw new TypeError('No method named "'+a+'"');i[a]()}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"Default",get:function(){return Bt}}]),e}();t(window).on(Ut.LOAD_DATA_API,(function(){for(var e=[].slice.call(document.querySelectorAll(Kt)),a=e.length;a--;){var i=t(e[a]);na._jQueryInterface.call(i,i.data())}})),t.fn[Wt]=na._jQueryInterface,t.fn[Wt].Constructor=na,t.fn[Wt].noConflict=function(){return t.fn[Wt]=Ht,na._jQueryInterface};var sa=t.fn.tab,oa={HIDE:"hide.bs.tab",HIDDEN:"hidden.bs.tab",SHOW:"show.bs.tab",SHOWN:"shown.bs.tab",CLICK_DATA_API:"click.bs.tab.data-api"},ra="dropdown-menu",la="active",da="disabled",ca="fade",ua="show",pa=".dropdown",ha=".nav, .list-group",_a=".active",fa="> li > .active",ma='[data-toggle="tab"], [data-toggle="pill"], [data-toggle="list"]',ga=".dropdown-toggle",va="> .dropdown-menu .active",ya=function(){function e(e){this._element=e}var a=e.prototype;return a.show=function(){var e=this;if(!(this._element.parentNode&&this._element.parentNode.nodeType===Node.ELEMENT_NODE&&t(this._element).hasClass(la)||t(this._element).hasClass(da))){var a,i,n=t(this._element).closest(ha)[0],s=d.getSelectorFromElement(this._element);if(n){var o="UL"===n.nodeName||"OL"===n.nodeName?fa:_a;i=(i=t.makeArray(t(n).find(o)))[i.length-1]}var r=t.Event(oa.HIDE,{relatedTarget:this._element}),l=t.Event(oa.SHOW,{relatedTarget:i});if(i&&t(i).trigger(r),t(this._element).trigger(l),!l.isDefaultPrevented()&&!r.isDefaultPrevented()){s&&(a=document.querySelector(s)),this._activate(this._element,n);var c=function(){var a=t.Event(oa.HIDDEN,{relatedTarget:e._element}),n=t.Event(oa.SHOWN,{relatedTarget:i});t(i).trigger(a),t(e._element).trigger(n)};a?this._activate(a,a.parentNode,c):c()}}},a.dispose=function(){t.removeData(this._element,"bs.tab"),this._element=null},a._activate=function(e,a,i){var n=this,s=(!a||"UL"!==a.nodeName&&"OL"!==a.nodeName?t(a).children(_a):t(a).find(fa))[0],o=i&&s&&t(s).hasClass(ca),r=function(){return n._transitionComplete(e,s,i)};if(s&&o){var l=d.getTransitionDurationFromElement(s);t(s).removeClass(ua).one(d.TRANSITION_END,r).emulateTransitionEnd(l)}else r()},a._transitionComplete=function(e,a,i){if(a){t(a).removeClass(la);var n=t(a.parentNode).find(va)[0];n&&t(n).removeClass(la),"tab"===a.getAttribute("role")&&a.setAttribute("aria-selected",!1)}if(t(e).addClass(la),"tab"===e.getAttribute("role")&&e.setAttribute("aria-selected",!0),d.reflow(e),e.classList.contains(ca)&&e.classList.add(ua),e.parentNode&&t(e.parentNode).hasClass(ra)){var s=t(e).closest(pa)[0];if(s){var o=[].slice.call(s.querySelectorAll(ga));t(o).addClass(la)}e.setAttribute("aria-expanded",!0)}i&&i()},e._jQueryInterface=function(a){return this.each((function(){var i=t(this),n=i.data("bs.tab");if(n||(n=new e(this),i.data("bs.tab",n)),"string"==typeof a){if(void 0===n[a])throw new TypeError('No method named "'+a+'"');n[a]()}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}}]),e}();t(document).on(oa.CLICK_DATA_API,ma,(function(e){e.preventDefault(),ya._jQueryInterface.call(t(this),"show")})),t.fn.tab=ya._jQueryInterface,t.fn.tab.Constructor=ya,t.fn.tab.noConflict=function(){return t.fn.tab=sa,ya._jQueryInterface};var wa=t.fn.toast,ba={CLICK_DISMISS:"click.dismiss.bs.toast",HIDE:"hide.bs.toast",HIDDEN:"hidden.bs.toast",SHOW:"show.bs.toast",SHOWN:"shown.bs.toast"},ka="fade",Ca="hide",xa="show",Ea="showing",Ta={animation:"boolean",autohide:"boolean",delay:"number"},za={animation:!0,autohide:!0,delay:500},Sa='[data-dismiss="toast"]',Aa=function(){function e(e,t){this._element=e,this._config=this._getConfig(t),this._timeout=null,this._setListeners()}var a=e.prototype;return a.show=function(){var e=this,a=t.Event(ba.SHOW);if(t(this._element).trigger(a),!a.isDefaultPrevented()){this._config.animation&&this._element.classList.add(ka);var i=function(){e._element.classList.remove(Ea),e._element.classList.add(xa),t(e._element).trigger(ba.SHOWN),e._config.autohide&&(e._timeout=setTimeout((function(){e.hide()}),e._config.delay))};if(this._element.classList.remove(Ca),d.reflow(this._element),this._element.classList.add(Ea),this._config.animation){var n=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,i).emulateTransitionEnd(n)}else i()}},a.hide=function(){if(this._element.classList.contains(xa)){var e=t.Event(ba.HIDE);t(this._element).trigger(e),e.isDefaultPrevented()||this._close()}},a.dispose=function(){clearTimeout(this._timeout),this._timeout=null,this._element.classList.contains(xa)&&this._element.classList.remove(xa),t(this._element).off(ba.CLICK_DISMISS),t.removeData(this._element,"bs.toast"),this._element=null,this._config=null},a._getConfig=function(e){return e=r({},za,{},t(this._element).data(),{},"object"==typeof e&&e?e:{}),d.typeCheckConfig("toast",e,this.constructor.DefaultType),e},a._setListeners=function(){var e=this;t(this._element).on(ba.CLICK_DISMISS,Sa,(function(){return e.hide()}))},a._close=function(){var e=this,a=function(){e._element.classList.add(Ca),t(e._element).trigger(ba.HIDDEN)};if(this._element.classList.remove(xa),this._config.animation){var i=d.getTransitionDurationFromElement(this._element);t(this._element).one(d.TRANSITION_END,a).emulateTransitionEnd(i)}else a()},e._jQueryInterface=function(a){return this.each((function(){var i=t(this),n=i.data("bs.toast");if(n||(n=new e(this,"object"==typeof a&&a),i.data("bs.toast",n)),"string"==typeof a){if(void 0===n[a])throw new TypeError('No method named "'+a+'"');n[a](this)}}))},n(e,null,[{key:"VERSION",get:function(){return"4.4.1"}},{key:"DefaultType",get:function(){return Ta}},{key:"Default",get:function(){return za}}]),e}();t.fn.toast=Aa._jQueryInterface,t.fn.toast.Constructor=Aa,t.fn.toast.noConflict=function(){return t.fn.toast=wa,Aa._jQueryInterface},e.Alert=f,e.Button=S,e.Carousel=ae,e.Collapse=me,e.Dropdown=We,e.Modal=st,e.Popover=$t,e.Scrollspy=na,e.Tab=ya,e.Toast=Aa,e.Tooltip=At,e.Util=d,Object.defineProperty(e,"__esModule",{value:!0})})));
+$(document).ready(function () {
+$('.mobile-nav-btn').on('click', () => {
+$('.hamburger-menu').toggleClass('open');
+});
+});
+$(document).ready(function () {
+$('.tab-pane-toggle').each((index, element) => {
+const id = $(element).attr('id');
+const contentDiv = id.split('-tab')[0] + '-content';
+$('#' + id).click(() => {
+$('.tab-pane-content').hide();
+$('#' + contentDiv).show();
+});
+return true;
+});
+});
+$(document).ready(() => {
+$('#scrollTop').click(() => {
+window.scrollTo(window.scrollX, 0);
+return false;
+});
+});
+$(document).ready(() => {
+$('.nav-link').attr('target', '_blank');
+});
+$(document).ready(() => {
+$("#scrollTop, .btn-slide").click(() => {
+const destination = $(this).attr('href');
+$('html, body').stop().animate({scrollTop: $(destination).offset().top}, 700);
+return false;
+});
+});
+function Podcast(id, uid, title, uri, photo) {
+this.uid = uid;
+this.title = title;
+this.uri = uri;
+this.id = id;
+this.episodePhotoUri = photo;
+}
+const bootiful = {latestPodcast: null, podcasts: {}, years: {}};
+function fetchShard(name) {
+return fetch('/podcasts/' + name).then((response) => {
+return response.json();
+});
+}
+function resetEpisodePlayStatus() {
+$('.play-status').html('Listen Now');
+}
+function registerPodcasts(podcasts) {
+podcasts.forEach((p) => {
+const uid = p.uid;
+if (bootiful.podcasts[uid]) {
+return;
+}
+const podcastObj = new Podcast(p.id, p.uid, p.title, p.episodeUri, p.episodePhotoUri);
+bootiful.podcasts[uid] = {
+podcast: podcastObj,
+view: new PodcastPlayerView(podcastObj)
+};
+const it = bootiful.podcasts[uid];
+const playFunction = (e) => {
+const theViewForPodcast = it.view;
+theViewForPodcast.show();
+theViewForPodcast.play();
+resetEpisodePlayStatus();
+$('#episode-play-' + uid + '-status').html('Listening Now');
+return false;
+};
+$('#top3-play-' + uid).click(playFunction);
+$('#episode-play-' + uid).click(playFunction);
+$('#delayed-image-' + uid).append($('<img src="' + podcastObj.episodePhotoUri + '"/>'));
+$('#episode-play-' + uid + '-status').html('Listen Now');
+});
+}
+function loadYear(year) {
+const shard = bootiful.years[year];
+if (!shard || shard.loaded) {
+return;
+}
+shard.loaded = true;
+fetchShard(shard.uri).then((podcasts) => {
+console.log('there are', podcasts.length, 'podcasts in', year);
+registerPodcasts(podcasts);
+});
+}
+$(document).ready(() => {
+fetchShard('index.json')
+.then((index) => {
+index.years.forEach((y) => {
+bootiful.years[y.year] = {uri: y.uri, loaded: false};
+$('#year-' + y.year + '-tab').click(() => loadYear(y.year));
+});
+return fetchShard(index.latest).then((latest) => {
+latest.sort((a, b) => {
+return b.date - a.date;
+});
+registerPodcasts(latest);
+if (latest.length > 0) {
+initializePlayerForLatest(latest[0]);
+}
+$('.tab-pane-toggle.active').each((i, element) => {
+loadYear($(element).attr('id').split('-')[1]);
+});
+});
+});
+});
+function getMainPlayerDataSourceId() {
+return getDataSourceElementIdFor(bootiful.latestPodcast.podcast.uid);
+}
+function initializePlayerForLatest(podcast) {
+$('.data-source-container').hide();
+const latestTuple = bootiful.podcasts[podcast.uid];
+bootiful.latestPodcast = latestTuple;
+const mainPlayerDataSourceId = getMainPlayerDataSourceId();
+console.log('the main player ID is', mainPlayerDataSourceId, 'for podcast title', bootiful.latestPodcast.podcast.title);
+$('#' + mainPlayerDataSourceId).show();
+dzsap_init('#' + mainPlayerDataSourceId, {
+autoplay: "off"
+, init_each: "on"
+, disable_volume: "on"
+, skinwave_mode: 'normal'
+, settings_backup_type: 'light'
+, skinwave_: 'light'
+, skinwave_enableSpectrum: "off"
+, embed_code: 'light'
+, skinwave_wave_mode: "canvas"
+, skinwave_wave_mode_canvas_waves_number: "3"
+, skinwave_wave_mode_canvas_waves_padding: "1"
+, skinwave_wave_mode_canvas_reflection_size: '0'
+, design_color_bg: '999999,ffffff'
+, skinwave_wave_mode_canvas_mode: 'reflecto'
+, preview_on_hover: 'off'
+, design_wave_color_progress: 'ff657a,ffffff'
+, pcm_data_try_to_generate: 'on'
+, skinwave_comments_enable: 'off'
+, skinwave_comments_retrievefromajax: 'off'
+, failsafe_repair_media_element: 500
+});
+latestTuple.view.show();
+}
+function getDataSourceElementIdFor(uid) {
+return 'data-source-' + uid + '-element';
+}
+function PodcastPlayerView(p) {
+function buildDataSourceForPodcast(podcast) {
+var e = $("<div><span class=\"meta-artist\"><span class=\"the-artist\"> " + podcast.title + "</span></span></div>");
+e.attr('data-source', podcast.uri);
+e.attr('id', getDataSourceElementIdFor(podcast.uid));
+e.attr('data-type', 'audio');
+e.attr('data-scrubbg', 'assets/soundplugin/audioplayer/img/dzsplugins.png');
+e.attr('data-scrubprog', 'assets/soundplugin/audioplayer/img/bgminion.jpg');
+e.attr('data-thumb', podcast.episodePhotoUri);
+'aptest-with-play skin-wave-mode-small audioplayer-tobe skin-wave button-aspect-noir data-source-container'.split(' ').forEach((clz) => {
+e.addClass(clz.trim());
+});
+return e;
+}
+this.container = $('#containerOfDataSources');
+this.podcast = p;
+this.uid = this.podcast.uid;
+this.dataSourceElement = buildDataSourceForPodcast(this.podcast);
+this.container.append(this.dataSourceElement);
+this.play = function () {
+document.getElementById(getMainPlayerDataSourceId()).api_change_media(this.dataSourceElement, {
+type: "audio",
+fakeplayer_is_feeder: "off"
+});
+};
+this.show = function () {
+console.log('showing (' + this.uid + ')');
+this.dataSourceElement.show();
+};
+}
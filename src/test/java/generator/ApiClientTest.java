@@ -0,0 +1,145 @@
+package generator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Calls a stub of the API served by the JDK's {@link HttpServer}.
+ */
+class ApiClientTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final SiteGeneratorProperties properties = new SiteGeneratorProperties();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private volatile int status = 200;
+
+	private HttpServer server;
+
+	private ApiClient apiClient;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/podcasts/a/profile-photo", exchange -> {
+			this.calls.incrementAndGet();
+			respond(exchange, this.status, "photo");
+		});
+		this.server.start();
+		var api = this.properties.getApi();
+		api.setUri(URI.create("http://127.0.0.1:" + this.server.getAddress().getPort()));
+		api.setUsername("user");
+		api.setPassword("password");
+		api.setBackoff(Duration.ofMillis(10));
+		api.setMaxBackoff(Duration.ofMillis(20));
+		api.setOpenTimeout(Duration.ofMillis(300));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (this.apiClient != null) {
+			this.apiClient.destroy();
+		}
+		this.server.stop(0);
+	}
+
+	@Test
+	void retriesServerErrors() {
+		this.server.removeContext("/podcasts/a/profile-photo");
+		this.server.createContext("/podcasts/a/profile-photo",
+				exchange -> respond(exchange, this.calls.incrementAndGet() < 3 ? 503 : 200, "photo"));
+		var response = this.client().get("/podcasts/a/profile-photo", new HttpHeaders(), String.class);
+		assertThat(response.getBody()).isEqualTo("photo");
+		assertThat(this.calls).hasValue(3);
+		assertThat(this.registry.counter("podcast.generator.api.failures").count()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotRetryClientErrors() {
+		this.status = 404;
+		assertThatThrownBy(() -> this.client().get("/podcasts/a/profile-photo", new HttpHeaders(), String.class))
+				.isInstanceOf(HttpClientErrorException.NotFound.class);
+		assertThat(this.calls).hasValue(1);
+		assertThat(this.registry.counter("podcast.generator.api.failures").count()).isZero();
+	}
+
+	@Test
+	void opensTheCircuitAndClosesItOnceTheApiRecovers() throws Exception {
+		this.properties.getApi().setAttempts(1);
+		this.properties.getApi().setFailureThreshold(3);
+		var client = this.client();
+		this.status = 503;
+		for (var i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> client.get("/podcasts/a/profile-photo", new HttpHeaders(), String.class))
+					.isInstanceOf(HttpServerErrorException.ServiceUnavailable.class);
+		}
+		assertThatThrownBy(() -> client.get("/podcasts/a/profile-photo", new HttpHeaders(), String.class))
+				.isInstanceOf(CircuitBreaker.OpenException.class);
+		assertThat(this.calls).hasValue(3);
+		assertThat(this.registry.counter("podcast.generator.api.rejected").count()).isEqualTo(1);
+		assertThat(this.registry.get("podcast.generator.api.circuit.open").gauge().value()).isEqualTo(1);
+
+		this.status = 200;
+		Thread.sleep(400);
+		assertThat(client.get("/podcasts/a/profile-photo", new HttpHeaders(), String.class).getBody())
+				.isEqualTo("photo");
+		assertThat(this.calls).hasValue(4);
+		assertThat(this.registry.get("podcast.generator.api.circuit.open").gauge().value()).isZero();
+	}
+
+	@Test
+	void fetchesANewTokenWhenTheApiTurnsTheOldOneDown() {
+		var tokens = new AtomicInteger();
+		this.server.createContext("/token", exchange -> respond(exchange, 200, "t" + tokens.incrementAndGet()));
+		this.server.removeContext("/podcasts/a/profile-photo");
+		this.server.createContext("/podcasts/a/profile-photo", exchange -> {
+			var valid = ("Bearer t" + tokens.get())
+					.equals(exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+			respond(exchange, valid && this.calls.incrementAndGet() != 2 ? 200 : 401, "photo");
+		});
+		this.properties.getApi().setToken(true);
+		var client = this.client();
+		assertThat(client.get("/podcasts/a/profile-photo", new HttpHeaders(), String.class).getBody())
+				.isEqualTo("photo");
+		assertThat(tokens).hasValue(1);
+		// the API revokes the token
+		assertThat(client.get("/podcasts/a/profile-photo", new HttpHeaders(), String.class).getBody())
+				.isEqualTo("photo");
+		assertThat(tokens).hasValue(2);
+		assertThat(client.authorization()).isEqualTo("Bearer t2");
+	}
+
+	private ApiClient client() {
+		this.apiClient = new ApiClient(this.properties, this.registry);
+		return this.apiClient;
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		var bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, status == 200 ? bytes.length : -1);
+		if (status == 200) {
+			exchange.getResponseBody().write(bytes);
+		}
+		exchange.close();
+	}
+
+}
@@ -0,0 +1,114 @@
+package generator;
+
+import com.joshlong.templates.MarkdownService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Streams a catalog through the pipeline, with the pages and photos mocked out.
+ */
+class BuildPipelineTest {
+
+	private static final int EPISODES = 2_000;
+
+	@TempDir
+	File directory;
+
+	private final SiteGeneratorProperties properties = new SiteGeneratorProperties();
+
+	private final PodcastRepository podcastRepository = mock(PodcastRepository.class);
+
+	private final EpisodePageRenderer episodePageRenderer = mock(EpisodePageRenderer.class);
+
+	private final EpisodePhotoCache episodePhotoCache = mock(EpisodePhotoCache.class);
+
+	private final PhotoDerivatives photoDerivatives = mock(PhotoDerivatives.class);
+
+	private final AtomicInteger pages = new AtomicInteger();
+
+	private BuildPipeline buildPipeline;
+
+	@BeforeEach
+	void setUp() {
+		this.properties.getOutput().setCache(new File(this.directory, "cache"));
+		this.properties.getPipeline().setCapacity(8);
+		var markdownService = mock(MarkdownService.class);
+		when(markdownService.convertMarkdownTemplateToHtml(anyString()))
+				.then(invocation -> "<p>" + invocation.getArgument(0) + "</p>");
+		doAnswer(invocation -> {
+			Consumer<Podcast> consumer = invocation.getArgument(0);
+			for (var i = 0; i < EPISODES; i++) {
+				consumer.accept(new Podcast((long) i, new java.sql.Date(1500000000000L + i * 60_000L),
+						"description " + i, null, "https://podbean.com/" + i + ".jpg", "notes", "Episode " + i,
+						"transcript", "uid" + i, null, null, null, null, List.of(), List.of()));
+			}
+			return null;
+		}).when(this.podcastRepository).streamPodcasts(any());
+		when(this.photoDerivatives.photoFor(anyString()))
+				.then(invocation -> new EpisodePhoto("episode-photos/" + invocation.getArgument(0) + ".jpg", null, null,
+						null));
+		when(this.episodePhotoCache.submit(anyString(), any())).thenReturn(CompletableFuture.completedFuture(true));
+		this.buildPipeline = new BuildPipeline(this.podcastRepository,
+				new MarkdownCache(markdownService, this.properties, new SimpleMeterRegistry()),
+				this.episodePageRenderer, this.episodePhotoCache, this.photoDerivatives, this.properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.buildPipeline.destroy();
+	}
+
+	@Test
+	void keepsASummaryOfEachEpisode() {
+		when(this.episodePageRenderer.submit(any(), anyBoolean(), any())).then(invocation -> {
+			this.pages.incrementAndGet();
+			return CompletableFuture.completedFuture(true);
+		});
+		var stage = new StageReport("pipeline");
+		var result = this.buildPipeline.run(new BuildManifest(), true, new File(this.directory, "items"),
+				new File(this.directory, "photos"), stage);
+		assertThat(stage.getItems()).isEqualTo(EPISODES);
+		assertThat(this.pages).hasValue(EPISODES);
+		assertThat(result.getChanged()).hasSize(EPISODES);
+		var newest = result.getIndex().newest(1).get(0);
+		assertThat(newest).isInstanceOf(BuildPipeline.IndexedRecord.class);
+		assertThat(newest.getPodcast().getDescription()).isNull();
+		assertThat(newest.getPodcast().getTranscript()).isNull();
+		assertThat(newest.getPodcast().getTitle()).isEqualTo("Episode " + (EPISODES - 1));
+		assertThat(newest.getHtmlDescription()).isEqualTo("<p>description " + (EPISODES - 1) + "</p>");
+	}
+
+	@Test
+	void cancelsTheRestOfTheBuildWhenAPageFails() {
+		when(this.episodePageRenderer.submit(any(), anyBoolean(), any())).then(invocation -> {
+			if (this.pages.incrementAndGet() == 10) {
+				return CompletableFuture.failedFuture(new IOException("the disk is full"));
+			}
+			return CompletableFuture.completedFuture(true);
+		});
+		assertThatThrownBy(() -> this.buildPipeline.run(new BuildManifest(), true, new File(this.directory, "items"),
+				new File(this.directory, "photos"), new StageReport("pipeline"))).isInstanceOf(IOException.class)
+						.hasMessage("the disk is full");
+		assertThat(this.pages.get()).isLessThan(EPISODES / 10);
+	}
+
+}
@@ -0,0 +1,45 @@
+package generator;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Rolls random catalogs up by year with the sorts and {@link java.util.Calendar} grouping
+ * the generator used to do, and with the {@link CatalogIndex}. Run it with
+ * {@code mvn -Pbenchmarks test}.
+ */
+@Log4j2
+class CatalogIndexBenchmark {
+
+	private static final ZoneId ZONE = ZoneId.of("America/Los_Angeles");
+
+	private static final int ROUNDS = 5;
+
+	@Test
+	void sortingVersusIndexing() throws Exception {
+		for (var episodes : List.of(1_000, 10_000, 100_000)) {
+			var random = new Random(episodes);
+			var records = new ArrayList<PodcastRecord>();
+			for (var i = 0; i < episodes; i++) {
+				records.add(CatalogIndexTest.record("uid" + i, 1262304000000L + (long) (random.nextDouble() * 3.5e11)));
+			}
+			for (var round = 0; round < ROUNDS; round++) {
+				var sorting = Measurement.of(1, () -> CatalogIndexTest.legacyYears(records));
+				var indexing = Measurement.of(1, () -> {
+					var index = new CatalogIndex(3, ZONE);
+					records.forEach(index::add);
+					index.years();
+					index.newest(3);
+				});
+				log.info(episodes + " episodes, round " + (round + 1) + ": sorting " + sorting + ", indexing "
+						+ indexing);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,112 @@
+package generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the index against the sorts and {@link Calendar} grouping the generator used to
+ * do over the whole catalog.
+ */
+class CatalogIndexTest {
+
+	private static final ZoneId ZONE = ZoneId.of("America/Los_Angeles");
+
+	@Test
+	void indexesTheCatalogAsSortingItDid() {
+		var random = new Random(42);
+		var records = new ArrayList<PodcastRecord>();
+		for (var i = 0; i < 2_000; i++) {
+			// distinct dates, since the old sorts left ties in the order they came in
+			records.add(record("uid" + i, 1262304000000L + random.nextInt(4_000) * 86_400_000L + i));
+		}
+		// either side of midnight on new year's eve, where the year depends on the zone
+		records.add(record("new-years-eve", 1577865599000L));
+		records.add(record("new-year", 1577865600000L));
+		var index = new CatalogIndex(3, ZONE);
+		records.forEach(index::add);
+
+		var sorted = new ArrayList<>(records);
+		sorted.sort(Comparator.comparing((PodcastRecord record) -> record.getPodcast().getDate()).reversed());
+		var years = index.years();
+		var legacy = legacyYears(records);
+		assertThat(years).extracting(YearRollup::getYear)
+				.containsExactlyElementsOf(legacy.stream().map(YearRollup::getYear).collect(Collectors.toList()));
+		for (var i = 0; i < years.size(); i++) {
+			assertThat(years.get(i).getYearTabClassName()).isEqualTo(legacy.get(i).getYearTabClassName());
+			assertThat(uids(years.get(i).getEpisodes())).isEqualTo(uids(legacy.get(i).getEpisodes()));
+		}
+		assertThat(uids(index.newestFirst())).isEqualTo(uids(sorted));
+		assertThat(uids(index.newest(3))).isEqualTo(uids(sorted.subList(0, 3)));
+		assertThat(index.getMaxYear()).isEqualTo(legacy.get(0).getYear());
+	}
+
+	@Test
+	void ordersEpisodesPublishedAtTheSameMomentByUid() {
+		var records = new ArrayList<PodcastRecord>();
+		for (var i = 0; i < 10; i++) {
+			records.add(record("uid" + i, 1600000000000L));
+		}
+		records.add(record("older", 1500000000000L));
+		var expected = List.of("uid0", "uid1", "uid2", "uid3", "uid4", "uid5", "uid6", "uid7", "uid8", "uid9", "older");
+		for (var seed = 0; seed < 5; seed++) {
+			Collections.shuffle(records, new Random(seed));
+			var index = new CatalogIndex(3, ZONE);
+			records.forEach(index::add);
+			assertThat(uids(index.newestFirst())).isEqualTo(expected);
+			assertThat(uids(index.newest(3))).isEqualTo(expected.subList(0, 3));
+		}
+	}
+
+	static PodcastRecord record(String uid, long date) {
+		var podcast = new Podcast(0L, new java.sql.Date(date), null, null, null, null, uid, null, uid, null, null, null,
+				null, List.of(), List.of());
+		return new PodcastRecord(podcast, new EpisodePhoto(null, null, null, null), null, null);
+	}
+
+	private static List<String> uids(Collection<PodcastRecord> records) {
+		return records.stream().map(record -> record.getPodcast().getUid()).collect(Collectors.toList());
+	}
+
+	/**
+	 * @return the years the way the generator used to roll them up
+	 */
+	static List<YearRollup> legacyYears(List<PodcastRecord> records) {
+		var allPodcasts = new ArrayList<>(records);
+		Comparator<PodcastRecord> reversed = Comparator
+				.comparing((PodcastRecord record) -> record.getPodcast().getDate()).reversed();
+		allPodcasts.sort(reversed);
+		var maxYear = yearOf(allPodcasts.get(0).getPodcast().getDate());
+		var map = new HashMap<Integer, List<PodcastRecord>>();
+		for (var podcast : allPodcasts) {
+			map.computeIfAbsent(yearOf(podcast.getPodcast().getDate()), year -> new ArrayList<>()).add(podcast);
+		}
+		var rollups = new ArrayList<YearRollup>();
+		map.forEach((year, podcasts) -> {
+			podcasts.sort(reversed);
+			rollups.add(new YearRollup(year, podcasts, year.equals(maxYear) ? "active" : ""));
+		});
+		rollups.sort(Comparator.comparing(YearRollup::getYear).reversed());
+		return rollups;
+	}
+
+	private static int yearOf(Date date) {
+		var calendar = Calendar.getInstance(TimeZone.getTimeZone(ZONE));
+		calendar.setTime(date);
+		return calendar.get(Calendar.YEAR);
+	}
+
+}
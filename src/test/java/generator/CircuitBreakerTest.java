@@ -0,0 +1,54 @@
+package generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the circuit on a clock that starts out negative, as {@link System#nanoTime()} is
+ * allowed to.
+ */
+class CircuitBreakerTest {
+
+	private final AtomicLong clock = new AtomicLong(-Duration.ofHours(1).toNanos());
+
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker("the API", 2, Duration.ofSeconds(10),
+			e -> e instanceof IOException, this.clock::get);
+
+	@Test
+	void opensAndClosesOnANegativeClock() throws Exception {
+		this.fail();
+		assertThat(this.circuitBreaker.isOpen()).isFalse();
+		this.fail();
+		assertThat(this.circuitBreaker.isOpen()).isTrue();
+		assertThatThrownBy(() -> this.circuitBreaker.call(() -> "answer"))
+				.isInstanceOf(CircuitBreaker.OpenException.class);
+
+		this.clock.addAndGet(Duration.ofSeconds(11).toNanos());
+		assertThat(this.circuitBreaker.call(() -> "answer")).isEqualTo("answer");
+		assertThat(this.circuitBreaker.isOpen()).isFalse();
+	}
+
+	@Test
+	void opensAgainWhenTheTrialCallFails() throws Exception {
+		this.fail();
+		this.fail();
+		this.clock.addAndGet(Duration.ofSeconds(11).toNanos());
+		this.fail();
+		assertThat(this.circuitBreaker.isOpen()).isTrue();
+		assertThatThrownBy(() -> this.circuitBreaker.call(() -> "answer"))
+				.isInstanceOf(CircuitBreaker.OpenException.class);
+	}
+
+	private void fail() {
+		assertThatThrownBy(() -> this.circuitBreaker.call(() -> {
+			throw new IOException("no answer");
+		})).isInstanceOf(IOException.class);
+	}
+
+}
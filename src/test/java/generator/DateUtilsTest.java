@@ -0,0 +1,62 @@
+package generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the shared formatters against the {@link SimpleDateFormat}s they replaced, from
+ * many threads at once.
+ */
+class DateUtilsTest {
+
+	private static final int THREADS = 8;
+
+	@Test
+	void formatsAsSimpleDateFormatDidFromManyThreads() throws Exception {
+		var start = new CountDownLatch(1);
+		var executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			var futures = new ArrayList<Future<Integer>>();
+			for (var thread = 0; thread < THREADS; thread++) {
+				var random = new Random(thread);
+				futures.add(executor.submit((Callable<Integer>) () -> {
+					// each thread gets its own, since they're not safe to share
+					var date = new SimpleDateFormat("MM/dd/yyyy");
+					var dateAndTime = new SimpleDateFormat("MM/dd/yyyy HH:mm:ss.SSS");
+					var calendar = Calendar.getInstance();
+					start.await();
+					var checked = 0;
+					for (var i = 0; i < 20_000; i++) {
+						var millis = 946684800000L + (long) (random.nextDouble() * 1.5e12);
+						var value = i % 2 == 0 ? new Date(millis) : new java.sql.Date(millis);
+						calendar.setTime(value);
+						assertThat(DateUtils.date(value)).isEqualTo(date.format(value));
+						assertThat(DateUtils.dateAndTime(value)).isEqualTo(dateAndTime.format(value));
+						assertThat(DateUtils.getYearFor(value)).isEqualTo(calendar.get(Calendar.YEAR));
+						checked += 1;
+					}
+					return checked;
+				}));
+			}
+			start.countDown();
+			for (var future : futures) {
+				assertThat(future.get()).isEqualTo(20_000);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fetches 600 episode photos from a stub of the API that takes 20ms to answer, with the
+ * blocking engine and with the {@link AsyncPhotoFetcher}: once into an empty cache, and
+ * then again when every photo is revalidated with a 304. Run it with
+ * {@code mvn -Pbenchmarks test}.
+ */
+@Log4j2
+class EpisodePhotoCacheBenchmark {
+
+	private static final int EPISODES = 600, LATENCY = 20, RUNS = 3;
+
+	@TempDir
+	File directory;
+
+	private final List<String> uids = new ArrayList<>();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(64);
+
+	private HttpServer server;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		for (var i = 0; i < EPISODES; i++) {
+			this.uids.add("uid" + i);
+		}
+		var body = new byte[60_000];
+		new Random(1).nextBytes(body);
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1_000);
+		this.server.setExecutor(this.executor);
+		this.server.createContext("/podcasts/", exchange -> {
+			try {
+				Thread.sleep(LATENCY);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+				exchange.sendResponseHeaders(304, -1);
+				exchange.close();
+				return;
+			}
+			exchange.getResponseHeaders().add(HttpHeaders.ETAG, "\"v1\"");
+			exchange.getResponseHeaders().add(HttpHeaders.LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		this.server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void blockingVersusAsync() throws Exception {
+		for (var engine : SiteGeneratorProperties.Photos.Engine.values()) {
+			var root = new File(this.directory, engine.name().toLowerCase());
+			var properties = new SiteGeneratorProperties();
+			properties.getApi().setUri(URI.create("http://127.0.0.1:" + this.server.getAddress().getPort()));
+			properties.getApi().setUsername("user");
+			properties.getApi().setPassword("password");
+			properties.getOutput().setCache(new File(root, "cache"));
+			properties.getPhotos().setEngine(engine);
+			properties.getPhotos().setConcurrency(16);
+			var registry = new SimpleMeterRegistry();
+			var apiClient = new ApiClient(properties, registry);
+			var photoDerivatives = new PhotoDerivatives(properties, registry);
+			var episodePhotoCache = new EpisodePhotoCache(properties, new ObjectMapper(), registry, apiClient,
+					new AsyncPhotoFetcher(properties, apiClient), photoDerivatives);
+			try {
+				for (var run = 0; run < RUNS; run++) {
+					var output = new File(root, "run" + run);
+					var start = System.nanoTime();
+					assertThat(episodePhotoCache.fetch(this.uids, output)).isZero();
+					log.info(engine + " run " + (run + 1) + (run == 0 ? " (cold)" : " (revalidating)") + ": "
+							+ (System.nanoTime() - start) / 1_000_000 + "ms for " + output.list().length + " photos");
+				}
+			}
+			finally {
+				episodePhotoCache.destroy();
+				photoDerivatives.destroy();
+				apiClient.destroy();
+			}
+		}
+	}
+
+}
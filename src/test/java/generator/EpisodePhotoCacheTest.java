@@ -0,0 +1,173 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fetches the same photos from a stub of the API with the {@link AsyncPhotoFetcher} and
+ * with the blocking client, which must leave the same files and metadata behind.
+ */
+class EpisodePhotoCacheTest {
+
+	@TempDir
+	File directory;
+
+	private final List<String> uids = new ArrayList<>();
+
+	private volatile String version = "v1";
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	private HttpServer server;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		for (var i = 0; i < 40; i++) {
+			this.uids.add("uid" + i);
+		}
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 100);
+		this.server.setExecutor(this.executor);
+		this.server.createContext("/podcasts/", exchange -> {
+			var uid = exchange.getRequestURI().getPath().split("/")[2];
+			// every tenth episode has no photo, and falls back to the default one
+			if (uid.endsWith("7")) {
+				exchange.sendResponseHeaders(404, -1);
+				exchange.close();
+				return;
+			}
+			var eTag = "\"" + uid + "-" + this.version + "\"";
+			if (eTag.equals(exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+				exchange.sendResponseHeaders(304, -1);
+				exchange.close();
+				return;
+			}
+			var body = new byte[20_000];
+			new Random((uid + this.version).hashCode()).nextBytes(body);
+			exchange.getResponseHeaders().add(HttpHeaders.ETAG, eTag);
+			exchange.getResponseHeaders().add(HttpHeaders.LAST_MODIFIED, "Wed, 21 Oct 2015 07:28:00 GMT");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		this.server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void fetchesTheSamePhotosWithEitherEngine() throws Exception {
+		var blocking = new Run(SiteGeneratorProperties.Photos.Engine.BLOCKING);
+		var async = new Run(SiteGeneratorProperties.Photos.Engine.ASYNC);
+		try {
+			assertThat(blocking.fetch("first")).isEqualTo(4);
+			assertThat(async.fetch("first")).isEqualTo(4);
+			this.assertSame(blocking, async, "first");
+			assertThat(blocking.count("miss")).isEqualTo(async.count("miss")).isEqualTo(36);
+
+			// nothing changed, so every photo is revalidated with a 304
+			assertThat(blocking.fetch("second")).isEqualTo(4);
+			assertThat(async.fetch("second")).isEqualTo(4);
+			this.assertSame(blocking, async, "second");
+			assertThat(blocking.count("hit")).isEqualTo(async.count("hit")).isEqualTo(36);
+			assertThat(blocking.count("miss")).isEqualTo(async.count("miss")).isEqualTo(36);
+
+			this.version = "v2";
+			blocking.fetch("third");
+			async.fetch("third");
+			this.assertSame(blocking, async, "third");
+			assertThat(blocking.count("miss")).isEqualTo(async.count("miss")).isEqualTo(72);
+			assertThat(contents(new File(async.cache, "episode-photos")).keySet())
+					.noneMatch(name -> name.endsWith(".tmp"));
+		}
+		finally {
+			blocking.destroy();
+			async.destroy();
+		}
+	}
+
+	private void assertSame(Run blocking, Run async, String output) throws Exception {
+		var files = contents(new File(blocking.root, output));
+		assertThat(files).hasSize(this.uids.size());
+		assertThat(contents(new File(async.root, output))).isEqualTo(files);
+		assertThat(contents(new File(async.cache, "episode-photos")))
+				.isEqualTo(contents(new File(blocking.cache, "episode-photos")));
+	}
+
+	private static Map<String, String> contents(File directory) throws Exception {
+		var contents = new TreeMap<String, String>();
+		for (var file : directory.listFiles()) {
+			contents.put(file.getName(), DigestUtils.md5DigestAsHex(Files.readAllBytes(file.toPath())));
+		}
+		return contents;
+	}
+
+	private class Run {
+
+		private final File root, cache;
+
+		private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+		private final ApiClient apiClient;
+
+		private final PhotoDerivatives photoDerivatives;
+
+		private final EpisodePhotoCache episodePhotoCache;
+
+		Run(SiteGeneratorProperties.Photos.Engine engine) {
+			this.root = new File(EpisodePhotoCacheTest.this.directory, engine.name().toLowerCase());
+			this.cache = new File(this.root, "cache");
+			var properties = new SiteGeneratorProperties();
+			properties.getApi()
+					.setUri(URI.create("http://127.0.0.1:" + EpisodePhotoCacheTest.this.server.getAddress().getPort()));
+			properties.getApi().setUsername("user");
+			properties.getApi().setPassword("password");
+			properties.getOutput().setCache(this.cache);
+			properties.getPhotos().setEngine(engine);
+			this.apiClient = new ApiClient(properties, this.registry);
+			this.photoDerivatives = new PhotoDerivatives(properties, this.registry);
+			this.episodePhotoCache = new EpisodePhotoCache(properties, new ObjectMapper(), this.registry,
+					this.apiClient, new AsyncPhotoFetcher(properties, this.apiClient), this.photoDerivatives);
+		}
+
+		int fetch(String output) {
+			return this.episodePhotoCache.fetch(EpisodePhotoCacheTest.this.uids, new File(this.root, output));
+		}
+
+		double count(String result) {
+			return this.registry.counter("podcast.generator.photos.cache", "result", result).count();
+		}
+
+		void destroy() throws Exception {
+			this.episodePhotoCache.destroy();
+			this.photoDerivatives.destroy();
+			this.apiClient.destroy();
+		}
+
+	}
+
+}
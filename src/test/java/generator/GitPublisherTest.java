@@ -0,0 +1,129 @@
+package generator;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Publishes through the {@link com.joshlong.git.GitTemplate} the starter configures,
+ * cloning and pushing to a bare repository standing in for the blog.
+ */
+@DirtiesContext
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class GitPublisherTest {
+
+	private static File directory, bare, clone;
+
+	@Autowired
+	private GitPublisher gitPublisher;
+
+	@BeforeAll
+	static void createTheBlog() throws Exception {
+		directory = Files.createTempDirectory("blog").toFile();
+		bare = new File(directory, "blog.git");
+		clone = new File(directory, "git-clone-of-blog");
+		Git.init().setBare(true).setDirectory(bare).call().close();
+		var seed = new File(directory, "seed");
+		try (var git = Git.cloneRepository().setURI(bare.toURI().toString()).setDirectory(seed).call()) {
+			Files.writeString(new File(seed, "README.md").toPath(), "the blog");
+			git.add().addFilepattern(".").call();
+			git.commit().setMessage("seed").call();
+			git.push().call();
+		}
+	}
+
+	@AfterAll
+	static void deleteTheBlog() {
+		FileSystemUtils.deleteRecursively(directory);
+	}
+
+	@DynamicPropertySource
+	static void git(DynamicPropertyRegistry registry) {
+		registry.add("git.online", () -> true);
+		registry.add("git.uri", () -> bare.toURI().toString());
+		registry.add("git.local-clone-directory", () -> clone.getAbsolutePath());
+		registry.add("git.http.username", () -> "user");
+		registry.add("git.http.password", () -> "password");
+	}
+
+	@Test
+	void publishesOnlyWhatChanged() throws Exception {
+		write("index.html", "<html>1</html>");
+		write("items/a.html", "a");
+		write("items/b.html", "b");
+		assertThat(this.gitPublisher.publish(clone, "first")).isEqualTo(new PublishResult(3, 0, 0));
+		assertThat(messages()).startsWith("first");
+
+		write("index.html", "<html>2</html>");
+		write("items/a.html", "a");
+		Files.delete(new File(clone, "items/b.html").toPath());
+		write("items/c.html", "c");
+		assertThat(this.gitPublisher.publish(clone, "second")).isEqualTo(new PublishResult(1, 1, 1));
+		assertThat(messages()).startsWith("second", "first");
+		try (var git = Git.open(bare)) {
+			assertThat(git.getRepository().resolve("master:items/b.html")).isNull();
+			assertThat(git.getRepository().resolve("master:items/c.html")).isNotNull();
+		}
+	}
+
+	@Test
+	void skipsTheCommitWhenNothingChanged() throws Exception {
+		write("about.html", "<html></html>");
+		this.gitPublisher.publish(clone, "about");
+		var messages = messages();
+		assertThat(messages).startsWith("about");
+
+		// rewriting a file with the same content isn't a change
+		write("about.html", "<html></html>");
+		var result = this.gitPublisher.publish(clone, "about again");
+		assertThat(result.hasChanges()).isFalse();
+		assertThat(messages()).isEqualTo(messages);
+	}
+
+	private static void write(String path, String content) throws Exception {
+		var file = new File(clone, path);
+		file.getParentFile().mkdirs();
+		Files.writeString(file.toPath(), content, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the messages of the commits the bare repository has received, newest first
+	 */
+	private static List<String> messages() throws Exception {
+		var messages = new ArrayList<String>();
+		try (var git = Git.open(bare)) {
+			for (RevCommit commit : git.log().call()) {
+				messages.add(commit.getFullMessage());
+			}
+		}
+		return messages;
+	}
+
+	@Configuration
+	@Import(GitPublisher.class)
+	@EnableAutoConfiguration(exclude = DataSourceAutoConfiguration.class)
+	static class Blog {
+
+	}
+
+}
@@ -0,0 +1,83 @@
+package generator;
+
+import com.joshlong.templates.MarkdownService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fills the tier on disk past its limit and prunes it.
+ */
+class MarkdownCacheTest {
+
+	@TempDir
+	File directory;
+
+	private final SiteGeneratorProperties properties = new SiteGeneratorProperties();
+
+	private final MarkdownService markdownService = mock(MarkdownService.class);
+
+	@BeforeEach
+	void setUp() {
+		this.properties.getOutput().setCache(this.directory);
+		this.properties.getMarkdown().setMaxDiskEntries(3);
+		when(this.markdownService.convertMarkdownTemplateToHtml(anyString()))
+				.then(invocation -> "<p>" + invocation.getArgument(0) + "</p>");
+	}
+
+	@Test
+	void keepsTheEntriesTheLatestBuildUsed() throws Exception {
+		var cache = new MarkdownCache(this.markdownService, this.properties, new SimpleMeterRegistry());
+		for (var i = 0; i < 6; i++) {
+			cache.render("episode " + i);
+		}
+		// this build needed all of them
+		assertThat(cache.prune()).isZero();
+		assertThat(this.entries()).hasSize(6);
+
+		// a later build that only needs two of them
+		var markdown = new LinkedHashMap<String, String>();
+		markdown.put("a", "episode 0");
+		markdown.put("b", "episode 1");
+		cache = new MarkdownCache(this.markdownService, this.properties, new SimpleMeterRegistry());
+		assertThat(cache.render(markdown)).containsEntry("a", "<p>episode 0</p>").containsEntry("b",
+				"<p>episode 1</p>");
+		assertThat(cache.prune()).isEqualTo(3);
+		assertThat(this.entries()).hasSize(3).contains("<p>episode 0</p>", "<p>episode 1</p>");
+	}
+
+	@Test
+	void deletesTheEntriesOfOtherRenderers() throws Exception {
+		var stale = new File(this.directory, "markdown/0123456789abcdef/ab/ab12.html");
+		FileUtils.write(stale, "<p>from an older renderer</p>");
+		var cache = new MarkdownCache(this.markdownService, this.properties, new SimpleMeterRegistry());
+		cache.render("episode");
+		assertThat(cache.prune()).isEqualTo(1);
+		assertThat(stale.getParentFile().getParentFile()).doesNotExist();
+		assertThat(this.entries()).containsExactly("<p>episode</p>");
+	}
+
+	private List<String> entries() throws Exception {
+		var entries = new ArrayList<String>();
+		try (var files = Files.walk(new File(this.directory, "markdown").toPath())) {
+			for (var path : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+				entries.add(Files.readString(path));
+			}
+		}
+		return entries;
+	}
+
+}
@@ -0,0 +1,46 @@
+package generator;
+
+import com.sun.management.ThreadMXBean;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * The time a benchmark's task took on the calling thread, and the bytes it allocated,
+ * averaged over its repetitions.
+ */
+@Data
+@RequiredArgsConstructor
+class Measurement {
+
+	private static final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private final double millis;
+
+	private final long bytes;
+
+	static Measurement of(int repetitions, Task task) throws Exception {
+		var thread = Thread.currentThread().getId();
+		var allocated = threads.getThreadAllocatedBytes(thread);
+		var start = System.nanoTime();
+		for (var i = 0; i < repetitions; i++) {
+			task.run();
+		}
+		var elapsed = System.nanoTime() - start;
+		return new Measurement(elapsed / 1_000_000d / repetitions,
+				(threads.getThreadAllocatedBytes(thread) - allocated) / repetitions);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%.1fms and %.1fMB allocated", this.millis, this.bytes / 1_000_000d);
+	}
+
+	interface Task {
+
+		void run() throws Exception;
+
+	}
+
+}
@@ -0,0 +1,118 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Takes the fingerprinted assets through a change and then through the optimization being
+ * turned off, publishing the pages into a clone in between the way the build does.
+ */
+class PageOptimizerTest {
+
+	@TempDir
+	File directory;
+
+	private final SiteGeneratorProperties properties = new SiteGeneratorProperties();
+
+	private File assets, pages, clone;
+
+	private Resource template;
+
+	private PageOptimizer pageOptimizer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.assets = new File(this.directory, "static");
+		this.pages = new File(this.directory, "pages");
+		this.clone = new File(this.directory, "git-clone-of-blog");
+		this.properties.getOutput().setCache(new File(this.directory, "cache"));
+		this.properties.getAssets().setOptimize(true);
+		var page = new File(this.directory, "page.mustache");
+		Files.writeString(page.toPath(), "<html><link href=\"/assets/css/site.css\" rel=\"stylesheet\"></html>");
+		this.template = new FileSystemResource(page);
+		this.write(new File(this.assets, "assets/css/site.css"), "body {  color: red;  }");
+		this.pageOptimizer = new PageOptimizer(this.properties, new ObjectMapper(),
+				new TemplateEngine(Mustache.compiler()));
+	}
+
+	@Test
+	void prunesStaleCopiesFromTheClone() throws Exception {
+		assertThat(this.build()).isTrue();
+		var first = this.fingerprintedCopies();
+		assertThat(first).hasSize(1);
+		assertThat(this.render()).contains(first.get(0));
+
+		this.write(new File(this.assets, "assets/css/site.css"), "body {  color: blue;  }");
+		assertThat(this.build()).isTrue();
+		var second = this.fingerprintedCopies();
+		assertThat(second).hasSize(1).doesNotContain(first.get(0));
+		assertThat(this.render()).contains(second.get(0));
+
+		assertThat(this.build()).isFalse();
+	}
+
+	@Test
+	void linksToThePlainNamesOnceTurnedOff() throws Exception {
+		this.build();
+		assertThat(this.fingerprintedCopies()).hasSize(1);
+
+		this.properties.getAssets().setOptimize(false);
+		assertThat(this.build()).isTrue();
+		assertThat(this.fingerprintedCopies()).isEmpty();
+		assertThat(new File(this.clone, "assets/css/site.css")).exists();
+		assertThat(this.render()).contains("href=\"/assets/css/site.css\"");
+
+		assertThat(this.build()).isFalse();
+	}
+
+	/**
+	 * Fingerprints the assets, publishes them and the pages into the clone, and prunes
+	 * it.
+	 * @return whether the pages had to be rendered again
+	 */
+	private boolean build() throws Exception {
+		var changed = this.pageOptimizer.fingerprint(List.of(this.template), this.assets, this.pages);
+		FileSystemUtils.copyRecursively(this.assets, this.clone);
+		FileSystemUtils.copyRecursively(this.pages, this.clone);
+		this.pageOptimizer.prune(this.clone);
+		return changed;
+	}
+
+	private String render() throws Exception {
+		var page = new File(this.pages, "index.html");
+		this.pageOptimizer.write(new TemplateEngine(Mustache.compiler()).template(this.template), Map.of(), page);
+		return Files.readString(page.toPath());
+	}
+
+	/**
+	 * @return the names of the fingerprinted stylesheets in the clone, which must be the
+	 * same as the ones in the pages
+	 */
+	private List<String> fingerprintedCopies() {
+		var inClone = new File(this.clone, "assets/css")
+				.list((directory, name) -> name.matches("site\\.\\w{16}\\.css"));
+		var inPages = new File(this.pages, "assets/css")
+				.list((directory, name) -> name.matches("site\\.\\w{16}\\.css"));
+		assertThat(inPages == null ? new String[0] : inPages).containsExactlyInAnyOrder(inClone);
+		return List.of(inClone);
+	}
+
+	private void write(File file, String content) throws Exception {
+		file.getParentFile().mkdirs();
+		Files.writeString(file.toPath(), content);
+	}
+
+}
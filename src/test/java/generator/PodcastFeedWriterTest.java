@@ -0,0 +1,61 @@
+package generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Writes the feeds from episodes dated the way they come out of the database, as
+ * {@link java.sql.Date}s.
+ */
+class PodcastFeedWriterTest {
+
+	@TempDir
+	File directory;
+
+	private final SiteGeneratorProperties properties = new SiteGeneratorProperties();
+
+	@Test
+	void writesTheFeedsFromTheDatabasesDates() throws Exception {
+		this.properties.getFeeds().setEnabled(true);
+		this.properties.getFeeds().setSiteUri(URI.create("https://bootifulpodcast.fm/"));
+		this.properties.getFeeds().setLatest(1);
+		var podcastFeedWriter = new PodcastFeedWriter(this.properties);
+		var manifest = new BuildManifest();
+		var episodes = List.of(record("newer", 1600000000000L), record("older", 1500000000000L));
+		assertThat(podcastFeedWriter.write(episodes, manifest, this.directory)).isPositive();
+
+		var archive = Files.readString(new File(this.directory, PodcastFeedWriter.ARCHIVE).toPath());
+		assertThat(archive).contains("<lastBuildDate>Sun, 13 Sep 2020 12:26:40 GMT</lastBuildDate>")
+				.contains("<pubDate>Sun, 13 Sep 2020 12:26:40 GMT</pubDate>")
+				.contains("<pubDate>Fri, 14 Jul 2017 02:40:00 GMT</pubDate>")
+				.contains("<guid isPermaLink=\"false\">older</guid>")
+				.contains("<link>https://bootifulpodcast.fm/items/older.html</link>");
+		var latest = Files.readString(new File(this.directory, PodcastFeedWriter.LATEST).toPath());
+		assertThat(latest).contains("<guid isPermaLink=\"false\">newer</guid>").doesNotContain("older");
+
+		assertThat(podcastFeedWriter.write(episodes, manifest, this.directory)).isZero();
+	}
+
+	@Test
+	void needsTheSiteToLinkTo() {
+		this.properties.getFeeds().setEnabled(true);
+		assertThatIllegalStateException().isThrownBy(() -> new PodcastFeedWriter(this.properties))
+				.withMessageContaining("podcast.generator.feeds.site-uri");
+	}
+
+	private static PodcastRecord record(String uid, long date) {
+		var podcast = new Podcast(0L, new java.sql.Date(date), null, null, null, null, "Episode " + uid, null, uid,
+				null, null, null, null, List.of(), List.of());
+		return new PodcastRecord(podcast, new EpisodePhoto("episode-photos/" + uid + ".jpg", null, null, null), null,
+				"<p>" + uid + "</p>");
+	}
+
+}
@@ -0,0 +1,69 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes {@code podcasts.json} for a thousand episodes the way the generator used to, as
+ * a tree that's rendered, parsed and pretty-printed again, and streamed. Run it with
+ * {@code mvn -Pbenchmarks test}.
+ */
+@Log4j2
+class PodcastJsonWriterBenchmark {
+
+	private static final int EPISODES = 1_000, ROUNDS = 3, WRITES = 20;
+
+	@TempDir
+	File directory;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final SiteGeneratorProperties properties = new SiteGeneratorProperties();
+
+	@Test
+	void treeVersusStream() throws Exception {
+		this.properties.getApi().setUri(URI.create("http://localhost:8080"));
+		var description = "<p>"
+				+ "Hi Spring fans! In this installment \"Josh\" talks to a guest about things. ".repeat(60) + "</p>";
+		var podcasts = new ArrayList<PodcastRecord>();
+		for (var i = 0; i < EPISODES; i++) {
+			var podcast = new Podcast((long) i, new Date(1600000000000L + i), "description", null,
+					"https://podbean.com/" + i + ".jpg", "notes", "Title " + i, "transcript", "uid" + i, null, null,
+					null, null, List.of(), List.of());
+			podcasts.add(new PodcastRecord(podcast,
+					new EpisodePhoto("episode-photos/uid" + i + ".jpg", null, null, null), "01/01/2020", description));
+		}
+		var writer = new PodcastJsonWriter(this.objectMapper, this.properties);
+		var tree = new File(this.directory, "tree.json");
+		var streamed = new File(this.directory, "streamed.json");
+		for (var round = 0; round < ROUNDS; round++) {
+			var treeMeasurement = Measurement.of(WRITES, () -> {
+				var json = PodcastJsonWriterTest.buildAsATree(this.objectMapper, this.properties, podcasts);
+				Files.writeString(tree.toPath(), json);
+				Files.delete(tree.toPath());
+			});
+			var streamedMeasurement = Measurement.of(WRITES, () -> {
+				writer.write(podcasts, streamed);
+				Files.delete(streamed.toPath());
+			});
+			log.info("tree: " + treeMeasurement + ", streamed: " + streamedMeasurement + " per write");
+		}
+		writer.write(podcasts, streamed);
+		Files.writeString(tree.toPath(),
+				PodcastJsonWriterTest.buildAsATree(this.objectMapper, this.properties, podcasts));
+		assertThat(streamed).hasSameTextualContentAs(tree);
+		log.info("the document is " + streamed.length() / 1_000 + "KB");
+	}
+
+}
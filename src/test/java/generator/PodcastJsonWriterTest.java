@@ -0,0 +1,88 @@
+package generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the streamed {@code podcasts.json} against the document the generator used to
+ * build as a tree, render, parse and pretty-print again.
+ */
+class PodcastJsonWriterTest {
+
+	@TempDir
+	File directory;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final SiteGeneratorProperties properties = new SiteGeneratorProperties();
+
+	private final PodcastJsonWriter writer = new PodcastJsonWriter(this.objectMapper, this.properties);
+
+	@Test
+	void writesWhatTheTreeUsedTo() throws Exception {
+		this.properties.getApi().setUri(URI.create("http://localhost:8080"));
+		var podcasts = new ArrayList<PodcastRecord>();
+		for (var i = 0; i < 5; i++) {
+			var podcast = new Podcast((long) i, new Date(1600000000000L + i * 86_400_000L), "description",
+					"https://podbean.com/" + i, i == 1 ? null : "https://podbean.com/" + i + ".jpg", "notes",
+					"Title \"é\" <b>" + i + "</b> ☃", "transcript", "uid" + i, null, null, null, null, List.of(),
+					List.of());
+			podcasts.add(
+					new PodcastRecord(podcast, new EpisodePhoto("episode-photos/uid" + i + ".jpg", null, null, null),
+							"01/0" + (i + 1) + "/2020", i == 2 ? null : "<p>héllo\n\"x\" &amp; \t</p>"));
+		}
+		var file = new File(this.directory, "podcasts.json");
+		assertThat(this.writer.write(podcasts, file)).isTrue();
+		assertThat(Files.readString(file.toPath()))
+				.isEqualTo(buildAsATree(this.objectMapper, this.properties, podcasts));
+		assertThat(this.writer.write(podcasts, file)).isFalse();
+	}
+
+	@Test
+	void writesAnEmptyCatalogAsTheTreeUsedTo() throws Exception {
+		var file = new File(this.directory, "podcasts.json");
+		this.writer.write(List.of(), file);
+		assertThat(Files.readString(file.toPath()))
+				.isEqualTo(buildAsATree(this.objectMapper, this.properties, List.of()));
+	}
+
+	/**
+	 * @return the document the way the generator used to build it
+	 */
+	static String buildAsATree(ObjectMapper objectMapper, SiteGeneratorProperties properties,
+			List<PodcastRecord> podcasts) throws Exception {
+		var nodes = podcasts.stream().map(pr -> jsonNodeForPodcast(objectMapper, properties, pr))
+				.collect(Collectors.toList());
+		var json = objectMapper.readValue(objectMapper.createArrayNode().addAll(nodes).toString(), Object.class);
+		return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(json);
+	}
+
+	private static JsonNode jsonNodeForPodcast(ObjectMapper objectMapper, SiteGeneratorProperties properties,
+			PodcastRecord pr) {
+		var objectNode = objectMapper.createObjectNode();
+		objectNode.put("id", Long.toString(pr.getPodcast().getId()));
+		objectNode.put("uid", pr.getPodcast().getUid());
+		objectNode.put("title", pr.getPodcast().getTitle());
+		objectNode.put("date", pr.getPodcast().getDate().getTime());
+		objectNode.put("episodePhotoUri", pr.getPodcast().getPodbeanPhotoUri());
+		objectNode.put("description", pr.getHtmlDescription());
+		objectNode.put("dateAndTime", pr.getDateAndTime());
+		objectNode.put("dataAndTime", pr.getDateAndTime());
+		objectNode.put("episodeUri",
+				properties.getApi().getUri() + "/podcasts/" + pr.getPodcast().getUid() + "/produced-audio");
+		return objectNode;
+	}
+
+}
@@ -0,0 +1,141 @@
+package generator;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the queries from {@code application.properties} against an in-memory database,
+ * counting the statements that go to it.
+ */
+class PodcastRepositoryTest {
+
+	private static final int PODCASTS = 50;
+
+	private final AtomicInteger statements = new AtomicInteger();
+
+	private PodcastRepository repository;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		var h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE");
+		var dataSource = new CountingDataSource(h2, this.statements);
+		var jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("create table \"podcast\" (\"id\" bigint primary key, \"uid\" varchar(64), \"title\" varchar(255),"
+				+ " \"date\" date, \"description\" varchar(255), \"notes\" varchar(255), \"transcript\" varchar(255),"
+				+ " \"podbean_media_uri\" varchar(255), \"podbean_photo_uri\" varchar(255),"
+				+ " \"s3_audio_file_name\" varchar(255), \"s3_audio_uri\" varchar(255),"
+				+ " \"s3_photo_file_name\" varchar(255), \"s3_photo_uri\" varchar(255))");
+		jdbc.execute("create table \"media\" (\"id\" bigint primary key, \"description\" varchar(255),"
+				+ " \"extension\" varchar(16), \"file_name\" varchar(255), \"href\" varchar(255), \"type\" varchar(64))");
+		jdbc.execute("create table \"link\" (\"id\" bigint primary key, \"href\" varchar(255),"
+				+ " \"description\" varchar(255))");
+		jdbc.execute("create table \"podcast_media\" (\"podcast_id\" bigint, \"media_id\" bigint)");
+		jdbc.execute("create table \"podcast_link\" (\"podcast_id\" bigint, \"link_id\" bigint)");
+		for (var id = 1; id <= PODCASTS + 1; id++) {
+			// the last one has no audio yet, so it isn't published
+			jdbc.update(
+					"insert into \"podcast\" (\"id\", \"uid\", \"title\", \"date\", \"s3_audio_uri\")"
+							+ " values (?, ?, ?, current_date, ?)",
+					id, "uid" + id, "title " + id, id <= PODCASTS ? "s3://audio/" + id : null);
+			for (var index = 0; index < 2; index++) {
+				var childId = id * 10 + index;
+				jdbc.update(
+						"insert into \"media\" (\"id\", \"extension\", \"file_name\", \"href\", \"type\")"
+								+ " values (?, 'mp3', ?, ?, 'audio')",
+						childId, childId + ".mp3", "s3://media/" + childId);
+				jdbc.update("insert into \"podcast_media\" values (?, ?)", id, childId);
+				jdbc.update("insert into \"link\" values (?, ?, ?)", childId, "https://example.com/" + childId,
+						"link " + childId);
+				jdbc.update("insert into \"podcast_link\" values (?, ?)", id, childId);
+			}
+		}
+		var properties = new SiteGeneratorProperties();
+		var configured = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+		properties.getSql().setLoadPodcasts(configured.getProperty("podcast.generator.sql.load-podcasts"));
+		properties.getSql().setLoadMedia(configured.getProperty("podcast.generator.sql.load-media"));
+		properties.getSql().setLoadLinks(configured.getProperty("podcast.generator.sql.load-links"));
+		this.repository = new PodcastRepository(jdbc, new DataSourceTransactionManager(dataSource), properties,
+				new MediaRowMapper(), new LinkRowMapper());
+		this.statements.set(0);
+	}
+
+	@Test
+	void loadsTheWholeCatalogInThreeRoundTrips() {
+		var podcasts = this.repository.loadPodcasts();
+		assertThat(podcasts).hasSize(PODCASTS);
+		assertThat(podcasts).allSatisfy(podcast -> {
+			assertThat(podcast.getMedia()).hasSize(2);
+			assertThat(podcast.getLinks()).hasSize(2);
+		});
+		assertThat(this.statements).hasValue(3);
+	}
+
+	@Test
+	void streamsTheWholeCatalogInThreeRoundTrips() {
+		var podcasts = new ArrayList<Podcast>();
+		this.repository.streamPodcasts(podcasts::add);
+		assertThat(podcasts).hasSize(PODCASTS);
+		assertThat(podcasts.get(0).getLinks()).extracting(Link::getHref).allMatch(href -> href.startsWith("https://"));
+		assertThat(this.statements).hasValue(3);
+	}
+
+	@Test
+	void loadsSomeOfTheCatalogInThreeRoundTrips() {
+		var podcasts = this.repository.loadPodcasts(List.of("uid3", "uid7", "uid" + (PODCASTS + 1)));
+		assertThat(podcasts).extracting(Podcast::getUid).containsExactlyInAnyOrder("uid3", "uid7");
+		assertThat(podcasts).allSatisfy(podcast -> assertThat(podcast.getMedia()).extracting(Media::getHref)
+				.allMatch(href -> href.startsWith("s3://media/" + podcast.getId())));
+		assertThat(this.statements).hasValue(3);
+	}
+
+	/**
+	 * Counts every statement prepared or created on its connections.
+	 */
+	static class CountingDataSource extends DelegatingDataSource {
+
+		private final AtomicInteger statements;
+
+		CountingDataSource(JdbcDataSource dataSource, AtomicInteger statements) {
+			super(dataSource);
+			this.statements = statements;
+		}
+
+		@Override
+		public Connection getConnection() throws java.sql.SQLException {
+			var connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+					(proxy, method, arguments) -> {
+						var name = method.getName();
+						if (name.equals("prepareStatement") || name.equals("createStatement")
+								|| name.equals("prepareCall")) {
+							this.statements.incrementAndGet();
+						}
+						try {
+							return method.invoke(connection, arguments);
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					});
+		}
+
+	}
+
+}
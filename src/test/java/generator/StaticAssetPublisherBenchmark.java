@@ -0,0 +1,55 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.File;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Publishes the bundled static assets into an empty directory and then over it again,
+ * copying everything each time and syncing only what changed. Run it with
+ * {@code mvn -Pbenchmarks test}.
+ */
+@Log4j2
+class StaticAssetPublisherBenchmark {
+
+	private static final int ROUNDS = 3, REPUBLISHES = 5;
+
+	@TempDir
+	File directory;
+
+	@Test
+	void copyingVersusSyncing() throws Exception {
+		var source = new ClassPathResource("static").getFile();
+		for (var round = 0; round < ROUNDS; round++) {
+			for (var mode : List.of(SiteGeneratorProperties.Assets.Mode.COPY,
+					SiteGeneratorProperties.Assets.Mode.SYNC)) {
+				var properties = new SiteGeneratorProperties();
+				properties.getAssets().setMode(mode);
+				var publisher = new StaticAssetPublisher(properties,
+						new Precompressor(properties, new ObjectMapper(), List.of()));
+				var target = new File(this.directory, mode + "-" + round);
+				var start = System.nanoTime();
+				var cold = publisher.publish(source, target);
+				var published = System.nanoTime();
+				var warm = new AssetSyncResult();
+				for (var i = 0; i < REPUBLISHES; i++) {
+					warm.add(publisher.publish(source, target));
+				}
+				var republished = System.nanoTime();
+				assertThat(cold.getWritten()).isPositive();
+				log.info(mode + ": " + cold.getWritten() + " files (" + cold.getBytesWritten() / 1_000_000 + "MB) in "
+						+ (published - start) / 1_000_000 + "ms cold, then "
+						+ (republished - published) / REPUBLISHES / 1_000_000 + "ms and "
+						+ warm.getBytesWritten() / REPUBLISHES / 1_000_000 + "MB written per republish");
+			}
+		}
+	}
+
+}
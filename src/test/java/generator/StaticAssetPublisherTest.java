@@ -0,0 +1,107 @@
+package generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that syncing publishes exactly what copying everything again used to.
+ */
+class StaticAssetPublisherTest {
+
+	@TempDir
+	File directory;
+
+	private File source;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.source = new File(this.directory, "source");
+		write(this.source, "index.html", "<html></html>");
+		write(this.source, "assets/css/site.css", "body {}");
+		write(this.source, "assets/images/a.png", "png");
+		for (var i = 0; i < 20; i++) {
+			write(this.source, "items/" + i + ".html", "item " + i);
+		}
+	}
+
+	@Test
+	void syncingPublishesWhatCopyingDoes() throws Exception {
+		var copied = new File(this.directory, "copied");
+		var synced = new File(this.directory, "synced");
+		var linked = new File(this.directory, "linked");
+		for (var target : List.of(copied, synced, linked)) {
+			write(target, "CNAME", "bootiful-podcast.fm");
+			write(target, "items/gone.html", "stale");
+			write(target, "index.html", "<html>old</html>");
+		}
+		publisher(SiteGeneratorProperties.Assets.Mode.COPY).publish(this.source, copied, "items");
+		publisher(SiteGeneratorProperties.Assets.Mode.SYNC).publish(this.source, synced, "items");
+		publisher(SiteGeneratorProperties.Assets.Mode.LINK).publish(this.source, linked, "items");
+		assertThat(tree(synced)).isEqualTo(tree(copied)).containsKey("CNAME").doesNotContainKey("items/gone.html");
+		assertThat(tree(linked)).isEqualTo(tree(copied));
+	}
+
+	@Test
+	void syncingAgainWritesNothing() throws Exception {
+		var target = new File(this.directory, "target");
+		var publisher = publisher(SiteGeneratorProperties.Assets.Mode.SYNC);
+		assertThat(publisher.publish(this.source, target, "items").getWritten()).isEqualTo(23);
+		var again = publisher.publish(this.source, target, "items");
+		assertThat(again.getWritten()).isZero();
+		assertThat(again.getSkipped()).isEqualTo(23);
+
+		// the same size but a different content and timestamp
+		var css = write(this.source, "assets/css/site.css", "html {}");
+		Files.setLastModifiedTime(css, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+		var changed = publisher.publish(this.source, target, "items");
+		assertThat(changed.getWritten()).isEqualTo(1);
+		assertThat(tree(target)).isEqualTo(tree(this.source));
+	}
+
+	private static StaticAssetPublisher publisher(SiteGeneratorProperties.Assets.Mode mode) {
+		var properties = new SiteGeneratorProperties();
+		properties.getAssets().setMode(mode);
+		return new StaticAssetPublisher(properties, new Precompressor(properties, new ObjectMapper(), List.of()));
+	}
+
+	private static Path write(File root, String path, String content) throws Exception {
+		var file = new File(root, path).toPath();
+		Files.createDirectories(file.getParent());
+		return Files.writeString(file, content, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return the content of every file under the root, by its relative path
+	 */
+	private static Map<String, String> tree(File root) throws Exception {
+		try (var paths = Files.walk(root.toPath())) {
+			return paths.filter(Files::isRegularFile)
+					.collect(Collectors.toMap(path -> root.toPath().relativize(path).toString().replace('\\', '/'),
+							StaticAssetPublisherTest::read, (a, b) -> a, TreeMap::new));
+		}
+	}
+
+	private static String read(Path path) {
+		try {
+			return Files.readString(path);
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
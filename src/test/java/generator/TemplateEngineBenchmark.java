@@ -0,0 +1,78 @@
+package generator;
+
+import com.samskivert.mustache.Mustache;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders 600 episode pages into files, compiling the template for every page the way the
+ * generator used to, and with the {@link TemplateEngine}'s cached template. Run it with
+ * {@code mvn -Pbenchmarks test}.
+ */
+@Log4j2
+class TemplateEngineBenchmark {
+
+	private static final int EPISODES = 600, ROUNDS = 4;
+
+	@TempDir
+	File directory;
+
+	@Test
+	void compilingEachPageVersusCaching() throws Exception {
+		var compiler = Mustache.compiler();
+		var templateEngine = new TemplateEngine(compiler);
+		var template = new ClassPathResource("templates/episode-individual-page.mustache");
+		var description = "<p>" + "Hi Spring fans! In this installment Josh talks to a guest about things. ".repeat(60)
+				+ "</p>";
+		var contexts = new ArrayList<Map<String, Object>>();
+		for (var i = 0; i < EPISODES; i++) {
+			var podcast = new Podcast((long) i, new Date(1600000000000L), "description", "https://podbean.com/" + i,
+					"https://podbean.com/" + i + ".jpg", "notes", "Title " + i, "transcript", "uid" + i, "audio.mp3",
+					"s3://audio", "photo.jpg", "s3://photo", List.of(), List.of());
+			var photo = new EpisodePhoto("episode-photos/uid" + i + ".jpg", "/episode-photos/uid" + i + ".jpg 1x",
+					"episode-photos/uid" + i + "-thumbnail.jpg", "/episode-photos/uid" + i + "-thumbnail.jpg 1x");
+			contexts.add(Map.of("episode", new PodcastRecord(podcast, photo, "09/13/2020", description), "episodeUri",
+					"https://api.bootiful.podcast/podcasts/uid" + i + "/produced-audio"));
+		}
+		var compiled = new File(this.directory, "compiled");
+		var cached = new File(this.directory, "cached");
+		for (var round = 0; round < ROUNDS; round++) {
+			Files.createDirectories(compiled.toPath());
+			Files.createDirectories(cached.toPath());
+			var compiling = Measurement.of(1, () -> {
+				for (var context : contexts) {
+					String html;
+					try (var reader = new InputStreamReader(template.getInputStream(), StandardCharsets.UTF_8)) {
+						html = compiler.compile(reader).execute(context);
+					}
+					Files.writeString(new File(compiled, uid(context) + ".html").toPath(), html);
+				}
+			});
+			var caching = Measurement.of(1, () -> {
+				for (var context : contexts) {
+					templateEngine.render(template, context, new File(cached, uid(context) + ".html"));
+				}
+			});
+			log.info("compiling each page: " + compiling + ", cached: " + caching + " for " + EPISODES + " pages");
+			FileSystemUtils.deleteRecursively(compiled);
+			FileSystemUtils.deleteRecursively(cached);
+		}
+	}
+
+	private static String uid(Map<String, Object> context) {
+		return ((PodcastRecord) context.get("episode")).getPodcast().getUid();
+	}
+
+}
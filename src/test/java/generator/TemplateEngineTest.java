@@ -0,0 +1,79 @@
+package generator;
+
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the cached templates against compiling the template again for every render, as
+ * the generator used to.
+ */
+class TemplateEngineTest {
+
+	@TempDir
+	File directory;
+
+	private final Mustache.Compiler compiler = Mustache.compiler();
+
+	private final TemplateEngine templateEngine = new TemplateEngine(this.compiler);
+
+	@Test
+	void rendersEpisodePagesAsCompilingEachTimeDid() throws Exception {
+		var template = new ClassPathResource("templates/episode-individual-page.mustache");
+		for (var i = 0; i < 3; i++) {
+			var podcast = new Podcast((long) i, new Date(1600000000000L + i * 86_400_000L), "description " + i,
+					"https://podbean.com/" + i, "https://podbean.com/" + i + ".jpg", "notes", "Title <" + i + "> é",
+					"transcript", "uid" + i, "audio.mp3", "s3://audio", "photo.jpg", "s3://photo", List.of(),
+					List.of(new Link(1L, "https://spring.io", "Spring & more")));
+			var photo = new EpisodePhoto("episode-photos/uid" + i + ".jpg", "/episode-photos/uid" + i + ".jpg 1x",
+					"episode-photos/uid" + i + "-thumbnail.jpg", "/episode-photos/uid" + i + "-thumbnail.jpg 1x");
+			var context = Map.of("episode", new PodcastRecord(podcast, photo, "09/13/2020", "<p>notes " + i + "</p>"),
+					"episodeUri", "https://api.bootiful.podcast/podcasts/uid" + i + "/produced-audio");
+			var page = new File(this.directory, "uid" + i + ".html");
+			assertThat(this.templateEngine.render(template, context, page)).isTrue();
+			assertThat(Files.readString(page.toPath())).isEqualTo(this.compileAndExecute(template, context))
+					.contains("<title>Title &lt;" + i + "&gt; é - A Bootiful Podcast</title>")
+					.contains("src=\"https://api.bootiful.podcast/podcasts/uid" + i + "/produced-audio\"");
+			assertThat(this.templateEngine.render(template, context, page)).isFalse();
+		}
+	}
+
+	@Test
+	void compilesAClasspathTemplateOnce() {
+		var template = new ClassPathResource("templates/sample.mustache");
+		assertThat(this.templateEngine.template(template)).isSameAs(this.templateEngine.template(template));
+	}
+
+	@Test
+	void recompilesATemplateWhoseFileChanged() throws Exception {
+		var file = new File(this.directory, "greeting.mustache");
+		Files.writeString(file.toPath(), "hello {{name}}");
+		var template = new FileSystemResource(file);
+		var compiled = this.templateEngine.template(template);
+		assertThat(this.templateEngine.template(template)).isSameAs(compiled);
+
+		Files.writeString(file.toPath(), "goodbye {{name}}");
+		assertThat(file.setLastModified(file.lastModified() + 2_000)).isTrue();
+		assertThat(this.templateEngine.template(template).execute(Map.of("name", "Josh"))).isEqualTo("goodbye Josh");
+	}
+
+	private String compileAndExecute(Resource resource, Object context) throws Exception {
+		try (var reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+			return this.compiler.compile(reader).execute(context);
+		}
+	}
+
+}